@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.mapper.reflect.BeanMapper;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Maps rows of 10, 50 and 200 columns into a bean with the {@link BeanMapper}. Reading the same columns with plain
+ * JDBC is the baseline.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Fork(2)
+public class BeanMapperBenchmark {
+
+    private static final int MAX_COLUMNS = 200;
+    private static final int ROWS = 1_000;
+
+    @Param({"10", "50", "200"})
+    public int columns;
+
+    private JdbiRule db;
+    private Handle handle;
+    private String query;
+    private RowMapper<WideBean> beanMapper;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(BeanMapperBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2();
+        db.before();
+        handle = db.getHandle();
+
+        handle.execute(IntStream.range(0, MAX_COLUMNS)
+            .mapToObj(i -> "c" + i + " INTEGER")
+            .collect(Collectors.joining(", ", "CREATE TABLE wide (", ")")));
+
+        PreparedBatch batch = handle.prepareBatch(IntStream.range(0, MAX_COLUMNS)
+            .mapToObj(i -> "?")
+            .collect(Collectors.joining(", ", "INSERT INTO wide VALUES (", ")")));
+        for (int row = 0; row < ROWS; row++) {
+            for (int i = 0; i < MAX_COLUMNS; i++) {
+                batch.bind(i, row + i);
+            }
+            batch.add();
+        }
+        batch.execute();
+
+        query = IntStream.range(0, columns)
+            .mapToObj(i -> "c" + i)
+            .collect(Collectors.joining(", ", "SELECT ", " FROM wide"));
+
+        beanMapper = BeanMapper.of(WideBean.class);
+    }
+
+    @TearDown
+    public void close() {
+        db.after();
+    }
+
+    @Benchmark
+    public List<WideBean> mapBean() {
+        return handle.createQuery(query).map(beanMapper).list();
+    }
+
+    @Benchmark
+    public long readJdbc() throws SQLException {
+        Connection c = handle.getConnection();
+        try (PreparedStatement ps = c.prepareStatement(query);
+            ResultSet rs = ps.executeQuery()) {
+            long sum = 0;
+            while (rs.next()) {
+                for (int i = 1; i <= columns; i++) {
+                    sum += rs.getInt(i);
+                }
+            }
+            return sum;
+        }
+    }
+}
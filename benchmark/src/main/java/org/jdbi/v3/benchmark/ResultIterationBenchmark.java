@@ -0,0 +1,115 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures iterating a large result set through the iterator, stream and list APIs. Run with {@code -prof gc} to see
+ * the allocation rate per row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@Measurement(iterations = 5, time = 5)
+@Warmup(iterations = 3, time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class ResultIterationBenchmark {
+
+    private static final String QUERY = "select id from numbers";
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"0", "1000"})
+    public int fetchSize;
+
+    private JdbiRule db;
+    private Handle handle;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(ResultIterationBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2();
+        db.before();
+
+        handle = db.getJdbi().open();
+        handle.execute("create table numbers (id bigint primary key)");
+        handle.execute("insert into numbers (id) select x from system_range(1, ?)", rows);
+    }
+
+    @TearDown
+    public void close() {
+        handle.close();
+        db.after();
+    }
+
+    @Benchmark
+    public void iterator(Blackhole blackhole) {
+        try (ResultIterator<Long> iterator = handle.createQuery(QUERY).setFetchSize(fetchSize).mapTo(Long.class).iterator()) {
+            while (iterator.hasNext()) {
+                blackhole.consume(iterator.next());
+            }
+        }
+    }
+
+    @Benchmark
+    public void stream(Blackhole blackhole) {
+        try (Stream<Long> stream = handle.createQuery(QUERY).setFetchSize(fetchSize).mapTo(Long.class).stream()) {
+            stream.forEach(blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    public int list() {
+        return handle.createQuery(QUERY).setFetchSize(fetchSize).mapTo(Long.class).list().size();
+    }
+
+    @Benchmark
+    public long primitiveStream() {
+        try (LongStream stream = handle.createQuery(QUERY).setFetchSize(fetchSize).mapToLong(1).stream()) {
+            return stream.sum();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.argument.ArgumentFactory;
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.mapper.ColumnMapperFactory;
+import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.testing.JdbiRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the cost of creating a statement depending on the number of installed plugins. Every plugin registers
+ * its own config class as well as an argument factory and a column mapper.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(2)
+public class StatementCreationBenchmark {
+
+    private static final List<JdbiPlugin> PLUGINS = List.of(
+        new ConfigPlugin<>(Config0.class), new ConfigPlugin<>(Config1.class), new ConfigPlugin<>(Config2.class),
+        new ConfigPlugin<>(Config3.class), new ConfigPlugin<>(Config4.class), new ConfigPlugin<>(Config5.class),
+        new ConfigPlugin<>(Config6.class), new ConfigPlugin<>(Config7.class), new ConfigPlugin<>(Config8.class),
+        new ConfigPlugin<>(Config9.class), new ConfigPlugin<>(Config10.class), new ConfigPlugin<>(Config11.class),
+        new ConfigPlugin<>(Config12.class), new ConfigPlugin<>(Config13.class), new ConfigPlugin<>(Config14.class),
+        new ConfigPlugin<>(Config15.class), new ConfigPlugin<>(Config16.class), new ConfigPlugin<>(Config17.class),
+        new ConfigPlugin<>(Config18.class), new ConfigPlugin<>(Config19.class));
+
+    @Param({"0", "5", "20"})
+    public int plugins;
+
+    private JdbiRule db;
+    private Handle handle;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(StatementCreationBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setup() throws Throwable {
+        db = JdbiRule.h2();
+        db.before();
+
+        Jdbi jdbi = db.getJdbi();
+        for (int i = 0; i < plugins; i++) {
+            jdbi.installPlugin(PLUGINS.get(i));
+        }
+
+        handle = jdbi.open();
+    }
+
+    @TearDown
+    public void close() {
+        handle.close();
+        db.after();
+    }
+
+    @Benchmark
+    public Query createStatement() {
+        try (Query query = handle.createQuery("select 1")) {
+            return query;
+        }
+    }
+
+    @Benchmark
+    public int createAndExecuteStatement() {
+        try (Query query = handle.createQuery("select 1")) {
+            return query.mapTo(int.class).one();
+        }
+    }
+
+    public static final class ConfigPlugin<C extends PluginConfig<C>> implements JdbiPlugin {
+
+        private final Class<C> configType;
+
+        ConfigPlugin(Class<C> configType) {
+            this.configType = configType;
+        }
+
+        @Override
+        public void customizeJdbi(Jdbi jdbi) {
+            C config = jdbi.getConfig(configType);
+            for (int i = 0; i < 10; i++) {
+                config.values.add(configType.getSimpleName() + i);
+            }
+
+            jdbi.registerArgument((ArgumentFactory) (type, value, registry) -> Optional.empty());
+            jdbi.registerColumnMapper((ColumnMapperFactory) (type, registry) -> Optional.empty());
+        }
+    }
+
+    public abstract static class PluginConfig<This extends PluginConfig<This>> implements JdbiConfig<This> {
+
+        private final Supplier<This> factory;
+        final List<String> values = new ArrayList<>();
+
+        protected PluginConfig(Supplier<This> factory) {
+            this.factory = factory;
+        }
+
+        @Override
+        public This createCopy() {
+            This copy = factory.get();
+            copy.values.addAll(values);
+            return copy;
+        }
+    }
+
+    public static final class Config0 extends PluginConfig<Config0> {
+        public Config0() {
+            super(Config0::new);
+        }
+    }
+
+    public static final class Config1 extends PluginConfig<Config1> {
+        public Config1() {
+            super(Config1::new);
+        }
+    }
+
+    public static final class Config2 extends PluginConfig<Config2> {
+        public Config2() {
+            super(Config2::new);
+        }
+    }
+
+    public static final class Config3 extends PluginConfig<Config3> {
+        public Config3() {
+            super(Config3::new);
+        }
+    }
+
+    public static final class Config4 extends PluginConfig<Config4> {
+        public Config4() {
+            super(Config4::new);
+        }
+    }
+
+    public static final class Config5 extends PluginConfig<Config5> {
+        public Config5() {
+            super(Config5::new);
+        }
+    }
+
+    public static final class Config6 extends PluginConfig<Config6> {
+        public Config6() {
+            super(Config6::new);
+        }
+    }
+
+    public static final class Config7 extends PluginConfig<Config7> {
+        public Config7() {
+            super(Config7::new);
+        }
+    }
+
+    public static final class Config8 extends PluginConfig<Config8> {
+        public Config8() {
+            super(Config8::new);
+        }
+    }
+
+    public static final class Config9 extends PluginConfig<Config9> {
+        public Config9() {
+            super(Config9::new);
+        }
+    }
+
+    public static final class Config10 extends PluginConfig<Config10> {
+        public Config10() {
+            super(Config10::new);
+        }
+    }
+
+    public static final class Config11 extends PluginConfig<Config11> {
+        public Config11() {
+            super(Config11::new);
+        }
+    }
+
+    public static final class Config12 extends PluginConfig<Config12> {
+        public Config12() {
+            super(Config12::new);
+        }
+    }
+
+    public static final class Config13 extends PluginConfig<Config13> {
+        public Config13() {
+            super(Config13::new);
+        }
+    }
+
+    public static final class Config14 extends PluginConfig<Config14> {
+        public Config14() {
+            super(Config14::new);
+        }
+    }
+
+    public static final class Config15 extends PluginConfig<Config15> {
+        public Config15() {
+            super(Config15::new);
+        }
+    }
+
+    public static final class Config16 extends PluginConfig<Config16> {
+        public Config16() {
+            super(Config16::new);
+        }
+    }
+
+    public static final class Config17 extends PluginConfig<Config17> {
+        public Config17() {
+            super(Config17::new);
+        }
+    }
+
+    public static final class Config18 extends PluginConfig<Config18> {
+        public Config18() {
+            super(Config18::new);
+        }
+    }
+
+    public static final class Config19 extends PluginConfig<Config19> {
+        public Config19() {
+            super(Config19::new);
+        }
+    }
+}
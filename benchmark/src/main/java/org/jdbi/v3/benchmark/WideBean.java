@@ -0,0 +1,1021 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark;
+
+/**
+ * Bean with the 200 integer properties {@code c0} to {@code c199} that {@link BeanMapperBenchmark} maps.
+ */
+public class WideBean {
+
+    int c0;
+    int c1;
+    int c2;
+    int c3;
+    int c4;
+    int c5;
+    int c6;
+    int c7;
+    int c8;
+    int c9;
+    int c10;
+    int c11;
+    int c12;
+    int c13;
+    int c14;
+    int c15;
+    int c16;
+    int c17;
+    int c18;
+    int c19;
+    int c20;
+    int c21;
+    int c22;
+    int c23;
+    int c24;
+    int c25;
+    int c26;
+    int c27;
+    int c28;
+    int c29;
+    int c30;
+    int c31;
+    int c32;
+    int c33;
+    int c34;
+    int c35;
+    int c36;
+    int c37;
+    int c38;
+    int c39;
+    int c40;
+    int c41;
+    int c42;
+    int c43;
+    int c44;
+    int c45;
+    int c46;
+    int c47;
+    int c48;
+    int c49;
+    int c50;
+    int c51;
+    int c52;
+    int c53;
+    int c54;
+    int c55;
+    int c56;
+    int c57;
+    int c58;
+    int c59;
+    int c60;
+    int c61;
+    int c62;
+    int c63;
+    int c64;
+    int c65;
+    int c66;
+    int c67;
+    int c68;
+    int c69;
+    int c70;
+    int c71;
+    int c72;
+    int c73;
+    int c74;
+    int c75;
+    int c76;
+    int c77;
+    int c78;
+    int c79;
+    int c80;
+    int c81;
+    int c82;
+    int c83;
+    int c84;
+    int c85;
+    int c86;
+    int c87;
+    int c88;
+    int c89;
+    int c90;
+    int c91;
+    int c92;
+    int c93;
+    int c94;
+    int c95;
+    int c96;
+    int c97;
+    int c98;
+    int c99;
+    int c100;
+    int c101;
+    int c102;
+    int c103;
+    int c104;
+    int c105;
+    int c106;
+    int c107;
+    int c108;
+    int c109;
+    int c110;
+    int c111;
+    int c112;
+    int c113;
+    int c114;
+    int c115;
+    int c116;
+    int c117;
+    int c118;
+    int c119;
+    int c120;
+    int c121;
+    int c122;
+    int c123;
+    int c124;
+    int c125;
+    int c126;
+    int c127;
+    int c128;
+    int c129;
+    int c130;
+    int c131;
+    int c132;
+    int c133;
+    int c134;
+    int c135;
+    int c136;
+    int c137;
+    int c138;
+    int c139;
+    int c140;
+    int c141;
+    int c142;
+    int c143;
+    int c144;
+    int c145;
+    int c146;
+    int c147;
+    int c148;
+    int c149;
+    int c150;
+    int c151;
+    int c152;
+    int c153;
+    int c154;
+    int c155;
+    int c156;
+    int c157;
+    int c158;
+    int c159;
+    int c160;
+    int c161;
+    int c162;
+    int c163;
+    int c164;
+    int c165;
+    int c166;
+    int c167;
+    int c168;
+    int c169;
+    int c170;
+    int c171;
+    int c172;
+    int c173;
+    int c174;
+    int c175;
+    int c176;
+    int c177;
+    int c178;
+    int c179;
+    int c180;
+    int c181;
+    int c182;
+    int c183;
+    int c184;
+    int c185;
+    int c186;
+    int c187;
+    int c188;
+    int c189;
+    int c190;
+    int c191;
+    int c192;
+    int c193;
+    int c194;
+    int c195;
+    int c196;
+    int c197;
+    int c198;
+    int c199;
+
+    public void setC0(int c0) {
+        this.c0 = c0;
+    }
+
+    public void setC1(int c1) {
+        this.c1 = c1;
+    }
+
+    public void setC2(int c2) {
+        this.c2 = c2;
+    }
+
+    public void setC3(int c3) {
+        this.c3 = c3;
+    }
+
+    public void setC4(int c4) {
+        this.c4 = c4;
+    }
+
+    public void setC5(int c5) {
+        this.c5 = c5;
+    }
+
+    public void setC6(int c6) {
+        this.c6 = c6;
+    }
+
+    public void setC7(int c7) {
+        this.c7 = c7;
+    }
+
+    public void setC8(int c8) {
+        this.c8 = c8;
+    }
+
+    public void setC9(int c9) {
+        this.c9 = c9;
+    }
+
+    public void setC10(int c10) {
+        this.c10 = c10;
+    }
+
+    public void setC11(int c11) {
+        this.c11 = c11;
+    }
+
+    public void setC12(int c12) {
+        this.c12 = c12;
+    }
+
+    public void setC13(int c13) {
+        this.c13 = c13;
+    }
+
+    public void setC14(int c14) {
+        this.c14 = c14;
+    }
+
+    public void setC15(int c15) {
+        this.c15 = c15;
+    }
+
+    public void setC16(int c16) {
+        this.c16 = c16;
+    }
+
+    public void setC17(int c17) {
+        this.c17 = c17;
+    }
+
+    public void setC18(int c18) {
+        this.c18 = c18;
+    }
+
+    public void setC19(int c19) {
+        this.c19 = c19;
+    }
+
+    public void setC20(int c20) {
+        this.c20 = c20;
+    }
+
+    public void setC21(int c21) {
+        this.c21 = c21;
+    }
+
+    public void setC22(int c22) {
+        this.c22 = c22;
+    }
+
+    public void setC23(int c23) {
+        this.c23 = c23;
+    }
+
+    public void setC24(int c24) {
+        this.c24 = c24;
+    }
+
+    public void setC25(int c25) {
+        this.c25 = c25;
+    }
+
+    public void setC26(int c26) {
+        this.c26 = c26;
+    }
+
+    public void setC27(int c27) {
+        this.c27 = c27;
+    }
+
+    public void setC28(int c28) {
+        this.c28 = c28;
+    }
+
+    public void setC29(int c29) {
+        this.c29 = c29;
+    }
+
+    public void setC30(int c30) {
+        this.c30 = c30;
+    }
+
+    public void setC31(int c31) {
+        this.c31 = c31;
+    }
+
+    public void setC32(int c32) {
+        this.c32 = c32;
+    }
+
+    public void setC33(int c33) {
+        this.c33 = c33;
+    }
+
+    public void setC34(int c34) {
+        this.c34 = c34;
+    }
+
+    public void setC35(int c35) {
+        this.c35 = c35;
+    }
+
+    public void setC36(int c36) {
+        this.c36 = c36;
+    }
+
+    public void setC37(int c37) {
+        this.c37 = c37;
+    }
+
+    public void setC38(int c38) {
+        this.c38 = c38;
+    }
+
+    public void setC39(int c39) {
+        this.c39 = c39;
+    }
+
+    public void setC40(int c40) {
+        this.c40 = c40;
+    }
+
+    public void setC41(int c41) {
+        this.c41 = c41;
+    }
+
+    public void setC42(int c42) {
+        this.c42 = c42;
+    }
+
+    public void setC43(int c43) {
+        this.c43 = c43;
+    }
+
+    public void setC44(int c44) {
+        this.c44 = c44;
+    }
+
+    public void setC45(int c45) {
+        this.c45 = c45;
+    }
+
+    public void setC46(int c46) {
+        this.c46 = c46;
+    }
+
+    public void setC47(int c47) {
+        this.c47 = c47;
+    }
+
+    public void setC48(int c48) {
+        this.c48 = c48;
+    }
+
+    public void setC49(int c49) {
+        this.c49 = c49;
+    }
+
+    public void setC50(int c50) {
+        this.c50 = c50;
+    }
+
+    public void setC51(int c51) {
+        this.c51 = c51;
+    }
+
+    public void setC52(int c52) {
+        this.c52 = c52;
+    }
+
+    public void setC53(int c53) {
+        this.c53 = c53;
+    }
+
+    public void setC54(int c54) {
+        this.c54 = c54;
+    }
+
+    public void setC55(int c55) {
+        this.c55 = c55;
+    }
+
+    public void setC56(int c56) {
+        this.c56 = c56;
+    }
+
+    public void setC57(int c57) {
+        this.c57 = c57;
+    }
+
+    public void setC58(int c58) {
+        this.c58 = c58;
+    }
+
+    public void setC59(int c59) {
+        this.c59 = c59;
+    }
+
+    public void setC60(int c60) {
+        this.c60 = c60;
+    }
+
+    public void setC61(int c61) {
+        this.c61 = c61;
+    }
+
+    public void setC62(int c62) {
+        this.c62 = c62;
+    }
+
+    public void setC63(int c63) {
+        this.c63 = c63;
+    }
+
+    public void setC64(int c64) {
+        this.c64 = c64;
+    }
+
+    public void setC65(int c65) {
+        this.c65 = c65;
+    }
+
+    public void setC66(int c66) {
+        this.c66 = c66;
+    }
+
+    public void setC67(int c67) {
+        this.c67 = c67;
+    }
+
+    public void setC68(int c68) {
+        this.c68 = c68;
+    }
+
+    public void setC69(int c69) {
+        this.c69 = c69;
+    }
+
+    public void setC70(int c70) {
+        this.c70 = c70;
+    }
+
+    public void setC71(int c71) {
+        this.c71 = c71;
+    }
+
+    public void setC72(int c72) {
+        this.c72 = c72;
+    }
+
+    public void setC73(int c73) {
+        this.c73 = c73;
+    }
+
+    public void setC74(int c74) {
+        this.c74 = c74;
+    }
+
+    public void setC75(int c75) {
+        this.c75 = c75;
+    }
+
+    public void setC76(int c76) {
+        this.c76 = c76;
+    }
+
+    public void setC77(int c77) {
+        this.c77 = c77;
+    }
+
+    public void setC78(int c78) {
+        this.c78 = c78;
+    }
+
+    public void setC79(int c79) {
+        this.c79 = c79;
+    }
+
+    public void setC80(int c80) {
+        this.c80 = c80;
+    }
+
+    public void setC81(int c81) {
+        this.c81 = c81;
+    }
+
+    public void setC82(int c82) {
+        this.c82 = c82;
+    }
+
+    public void setC83(int c83) {
+        this.c83 = c83;
+    }
+
+    public void setC84(int c84) {
+        this.c84 = c84;
+    }
+
+    public void setC85(int c85) {
+        this.c85 = c85;
+    }
+
+    public void setC86(int c86) {
+        this.c86 = c86;
+    }
+
+    public void setC87(int c87) {
+        this.c87 = c87;
+    }
+
+    public void setC88(int c88) {
+        this.c88 = c88;
+    }
+
+    public void setC89(int c89) {
+        this.c89 = c89;
+    }
+
+    public void setC90(int c90) {
+        this.c90 = c90;
+    }
+
+    public void setC91(int c91) {
+        this.c91 = c91;
+    }
+
+    public void setC92(int c92) {
+        this.c92 = c92;
+    }
+
+    public void setC93(int c93) {
+        this.c93 = c93;
+    }
+
+    public void setC94(int c94) {
+        this.c94 = c94;
+    }
+
+    public void setC95(int c95) {
+        this.c95 = c95;
+    }
+
+    public void setC96(int c96) {
+        this.c96 = c96;
+    }
+
+    public void setC97(int c97) {
+        this.c97 = c97;
+    }
+
+    public void setC98(int c98) {
+        this.c98 = c98;
+    }
+
+    public void setC99(int c99) {
+        this.c99 = c99;
+    }
+
+    public void setC100(int c100) {
+        this.c100 = c100;
+    }
+
+    public void setC101(int c101) {
+        this.c101 = c101;
+    }
+
+    public void setC102(int c102) {
+        this.c102 = c102;
+    }
+
+    public void setC103(int c103) {
+        this.c103 = c103;
+    }
+
+    public void setC104(int c104) {
+        this.c104 = c104;
+    }
+
+    public void setC105(int c105) {
+        this.c105 = c105;
+    }
+
+    public void setC106(int c106) {
+        this.c106 = c106;
+    }
+
+    public void setC107(int c107) {
+        this.c107 = c107;
+    }
+
+    public void setC108(int c108) {
+        this.c108 = c108;
+    }
+
+    public void setC109(int c109) {
+        this.c109 = c109;
+    }
+
+    public void setC110(int c110) {
+        this.c110 = c110;
+    }
+
+    public void setC111(int c111) {
+        this.c111 = c111;
+    }
+
+    public void setC112(int c112) {
+        this.c112 = c112;
+    }
+
+    public void setC113(int c113) {
+        this.c113 = c113;
+    }
+
+    public void setC114(int c114) {
+        this.c114 = c114;
+    }
+
+    public void setC115(int c115) {
+        this.c115 = c115;
+    }
+
+    public void setC116(int c116) {
+        this.c116 = c116;
+    }
+
+    public void setC117(int c117) {
+        this.c117 = c117;
+    }
+
+    public void setC118(int c118) {
+        this.c118 = c118;
+    }
+
+    public void setC119(int c119) {
+        this.c119 = c119;
+    }
+
+    public void setC120(int c120) {
+        this.c120 = c120;
+    }
+
+    public void setC121(int c121) {
+        this.c121 = c121;
+    }
+
+    public void setC122(int c122) {
+        this.c122 = c122;
+    }
+
+    public void setC123(int c123) {
+        this.c123 = c123;
+    }
+
+    public void setC124(int c124) {
+        this.c124 = c124;
+    }
+
+    public void setC125(int c125) {
+        this.c125 = c125;
+    }
+
+    public void setC126(int c126) {
+        this.c126 = c126;
+    }
+
+    public void setC127(int c127) {
+        this.c127 = c127;
+    }
+
+    public void setC128(int c128) {
+        this.c128 = c128;
+    }
+
+    public void setC129(int c129) {
+        this.c129 = c129;
+    }
+
+    public void setC130(int c130) {
+        this.c130 = c130;
+    }
+
+    public void setC131(int c131) {
+        this.c131 = c131;
+    }
+
+    public void setC132(int c132) {
+        this.c132 = c132;
+    }
+
+    public void setC133(int c133) {
+        this.c133 = c133;
+    }
+
+    public void setC134(int c134) {
+        this.c134 = c134;
+    }
+
+    public void setC135(int c135) {
+        this.c135 = c135;
+    }
+
+    public void setC136(int c136) {
+        this.c136 = c136;
+    }
+
+    public void setC137(int c137) {
+        this.c137 = c137;
+    }
+
+    public void setC138(int c138) {
+        this.c138 = c138;
+    }
+
+    public void setC139(int c139) {
+        this.c139 = c139;
+    }
+
+    public void setC140(int c140) {
+        this.c140 = c140;
+    }
+
+    public void setC141(int c141) {
+        this.c141 = c141;
+    }
+
+    public void setC142(int c142) {
+        this.c142 = c142;
+    }
+
+    public void setC143(int c143) {
+        this.c143 = c143;
+    }
+
+    public void setC144(int c144) {
+        this.c144 = c144;
+    }
+
+    public void setC145(int c145) {
+        this.c145 = c145;
+    }
+
+    public void setC146(int c146) {
+        this.c146 = c146;
+    }
+
+    public void setC147(int c147) {
+        this.c147 = c147;
+    }
+
+    public void setC148(int c148) {
+        this.c148 = c148;
+    }
+
+    public void setC149(int c149) {
+        this.c149 = c149;
+    }
+
+    public void setC150(int c150) {
+        this.c150 = c150;
+    }
+
+    public void setC151(int c151) {
+        this.c151 = c151;
+    }
+
+    public void setC152(int c152) {
+        this.c152 = c152;
+    }
+
+    public void setC153(int c153) {
+        this.c153 = c153;
+    }
+
+    public void setC154(int c154) {
+        this.c154 = c154;
+    }
+
+    public void setC155(int c155) {
+        this.c155 = c155;
+    }
+
+    public void setC156(int c156) {
+        this.c156 = c156;
+    }
+
+    public void setC157(int c157) {
+        this.c157 = c157;
+    }
+
+    public void setC158(int c158) {
+        this.c158 = c158;
+    }
+
+    public void setC159(int c159) {
+        this.c159 = c159;
+    }
+
+    public void setC160(int c160) {
+        this.c160 = c160;
+    }
+
+    public void setC161(int c161) {
+        this.c161 = c161;
+    }
+
+    public void setC162(int c162) {
+        this.c162 = c162;
+    }
+
+    public void setC163(int c163) {
+        this.c163 = c163;
+    }
+
+    public void setC164(int c164) {
+        this.c164 = c164;
+    }
+
+    public void setC165(int c165) {
+        this.c165 = c165;
+    }
+
+    public void setC166(int c166) {
+        this.c166 = c166;
+    }
+
+    public void setC167(int c167) {
+        this.c167 = c167;
+    }
+
+    public void setC168(int c168) {
+        this.c168 = c168;
+    }
+
+    public void setC169(int c169) {
+        this.c169 = c169;
+    }
+
+    public void setC170(int c170) {
+        this.c170 = c170;
+    }
+
+    public void setC171(int c171) {
+        this.c171 = c171;
+    }
+
+    public void setC172(int c172) {
+        this.c172 = c172;
+    }
+
+    public void setC173(int c173) {
+        this.c173 = c173;
+    }
+
+    public void setC174(int c174) {
+        this.c174 = c174;
+    }
+
+    public void setC175(int c175) {
+        this.c175 = c175;
+    }
+
+    public void setC176(int c176) {
+        this.c176 = c176;
+    }
+
+    public void setC177(int c177) {
+        this.c177 = c177;
+    }
+
+    public void setC178(int c178) {
+        this.c178 = c178;
+    }
+
+    public void setC179(int c179) {
+        this.c179 = c179;
+    }
+
+    public void setC180(int c180) {
+        this.c180 = c180;
+    }
+
+    public void setC181(int c181) {
+        this.c181 = c181;
+    }
+
+    public void setC182(int c182) {
+        this.c182 = c182;
+    }
+
+    public void setC183(int c183) {
+        this.c183 = c183;
+    }
+
+    public void setC184(int c184) {
+        this.c184 = c184;
+    }
+
+    public void setC185(int c185) {
+        this.c185 = c185;
+    }
+
+    public void setC186(int c186) {
+        this.c186 = c186;
+    }
+
+    public void setC187(int c187) {
+        this.c187 = c187;
+    }
+
+    public void setC188(int c188) {
+        this.c188 = c188;
+    }
+
+    public void setC189(int c189) {
+        this.c189 = c189;
+    }
+
+    public void setC190(int c190) {
+        this.c190 = c190;
+    }
+
+    public void setC191(int c191) {
+        this.c191 = c191;
+    }
+
+    public void setC192(int c192) {
+        this.c192 = c192;
+    }
+
+    public void setC193(int c193) {
+        this.c193 = c193;
+    }
+
+    public void setC194(int c194) {
+        this.c194 = c194;
+    }
+
+    public void setC195(int c195) {
+        this.c195 = c195;
+    }
+
+    public void setC196(int c196) {
+        this.c196 = c196;
+    }
+
+    public void setC197(int c197) {
+        this.c197 = c197;
+    }
+
+    public void setC198(int c198) {
+        this.c198 = c198;
+    }
+
+    public void setC199(int c199) {
+        this.c199 = c199;
+    }
+}
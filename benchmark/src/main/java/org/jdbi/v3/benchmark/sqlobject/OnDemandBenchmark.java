@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.benchmark.sqlobject;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the per-call overhead of an on-demand SQL object with a SQL object that is attached to an open handle
+ * and with attaching a SQL object for every call. The DAO has a number of methods that are not called, as attaching
+ * a SQL object used to prepare all of its methods.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@Measurement(time = 5)
+@Warmup(time = 2)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(2)
+public class OnDemandBenchmark {
+
+    private Jdbi jdbi;
+    private Handle handle;
+
+    private Dao onDemandDao;
+    private Dao attachedDao;
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(OnDemandBenchmark.class.getSimpleName())
+            .forks(0)
+            .build();
+        new Runner(options).run();
+    }
+
+    @Setup
+    public void setUp() {
+        jdbi = Jdbi.create("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=10");
+        jdbi.installPlugin(new SqlObjectPlugin());
+
+        // keeps the in-memory database open
+        handle = jdbi.open();
+
+        onDemandDao = jdbi.onDemand(Dao.class);
+        attachedDao = handle.attach(Dao.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        handle.close();
+    }
+
+    @Benchmark
+    public int attached() {
+        return attachedDao.select(1);
+    }
+
+    @Benchmark
+    public int onDemand() {
+        return onDemandDao.select(1);
+    }
+
+    @Benchmark
+    public int withExtension() {
+        return jdbi.withExtension(Dao.class, dao -> dao.select(1));
+    }
+
+    public interface Dao {
+
+        @SqlQuery("SELECT :value")
+        int select(@Bind("value") int value);
+
+        @SqlQuery("SELECT :value + 1")
+        int select1(@Bind("value") int value);
+
+        @SqlQuery("SELECT :value + 2")
+        int select2(@Bind("value") int value);
+
+        @SqlQuery("SELECT :value + 3")
+        int select3(@Bind("value") int value);
+
+        @SqlQuery("SELECT :value + 4")
+        int select4(@Bind("value") int value);
+
+        @SqlQuery("SELECT :value + 5")
+        int select5(@Bind("value") int value);
+
+        @SqlQuery("SELECT :value + 6")
+        int select6(@Bind("value") int value);
+
+        @SqlQuery("SELECT :value + 7")
+        int select7(@Bind("value") int value);
+
+        @SqlQuery("SELECT :value + 8")
+        int select8(@Bind("value") int value);
+
+        @SqlQuery("SELECT :value + 9")
+        int select9(@Bind("value") int value);
+    }
+}
@@ -43,6 +43,16 @@ public final class CaffeineCache<K, V> implements JdbiCache<K, V> {
         return cache.get(key, loader::create);
     }
 
+    @Override
+    public V getIfPresent(K key) {
+        return cache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        cache.put(key, value);
+    }
+
     @Override
     public CacheStats getStats() {
         return cache.stats();
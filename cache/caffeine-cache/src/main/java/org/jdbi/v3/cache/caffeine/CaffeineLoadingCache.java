@@ -44,6 +44,16 @@ public final class CaffeineLoadingCache<K, V> implements JdbiCache<K, V> {
         return loadingCache.get(key, loader::create);
     }
 
+    @Override
+    public V getIfPresent(K key) {
+        return loadingCache.getIfPresent(key);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        loadingCache.put(key, value);
+    }
+
     @Override
     public CacheStats getStats() {
         return loadingCache.stats();
@@ -28,6 +28,15 @@ class NoopCacheTest extends JdbiCacheTest {
         this.builder = NoopCache.builder();
     }
 
+    @Override
+    protected void doTestPut(JdbiCache<String, String> cache) {
+        String key = UUID.randomUUID().toString();
+
+        // nothing is stored
+        cache.put(key, "value");
+        assertThat(cache.getIfPresent(key)).isNull();
+    }
+
     protected void doTestWithGlobalLoader(JdbiCache<String, String> cache) {
         assertThat(cacheLoader.created()).isZero();
 
@@ -20,9 +20,10 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import com.google.errorprone.annotations.concurrent.GuardedBy;
 import org.jdbi.v3.core.config.ConfigRegistry;
@@ -32,6 +33,9 @@ import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.extension.Extensions;
 import org.jdbi.v3.core.extension.NoSuchExtensionException;
 import org.jdbi.v3.core.internal.exceptions.ThrowableSuppressor;
+import org.jdbi.v3.core.jfr.JfrEvents;
+import org.jdbi.v3.core.jfr.JfrEvents.ActiveEvent;
+import org.jdbi.v3.core.jfr.JfrEvents.EventType;
 import org.jdbi.v3.core.result.ResultBearing;
 import org.jdbi.v3.core.statement.Batch;
 import org.jdbi.v3.core.statement.Call;
@@ -75,9 +79,12 @@ public class Handle implements Closeable, Configurable<Handle> {
 
     private ExtensionContext currentExtensionContext;
 
-    @GuardedBy("transactionCallbacks")
+    private final Lock transactionCallbacksLock = new ReentrantLock();
+    @GuardedBy("transactionCallbacksLock")
     private final List<TransactionCallback> transactionCallbacks = new ArrayList<>();
 
+    private final Lock cleanablesLock = new ReentrantLock();
+    @GuardedBy("cleanablesLock")
     private final Set<Cleanable> cleanables = new LinkedHashSet<>();
 
     private final Set<HandleListener> handleListeners;
@@ -206,8 +213,11 @@ public class Handle implements Closeable, Configurable<Handle> {
      */
     public final void addCleanable(Cleanable cleanable) {
 
-        synchronized (cleanables) {
+        cleanablesLock.lock();
+        try {
             cleanables.add(cleanable);
+        } finally {
+            cleanablesLock.unlock();
         }
     }
 
@@ -218,8 +228,11 @@ public class Handle implements Closeable, Configurable<Handle> {
      */
     public final void removeCleanable(Cleanable cleanable) {
 
-        synchronized (cleanables) {
+        cleanablesLock.lock();
+        try {
             cleanables.remove(cleanable);
+        } finally {
+            cleanablesLock.unlock();
         }
     }
 
@@ -239,6 +252,7 @@ public class Handle implements Closeable, Configurable<Handle> {
 
         // do this at call time, otherwise running the cleanables may affect the state of the other handle objects (e.g. the config)
         final boolean doForceEndTransactions = this.forceEndTransactions && getConfig().get(Handles.class).isForceEndTransactions();
+        final ActiveEvent event = getConfig(JfrEvents.class).begin(EventType.HANDLE_CLOSE);
 
         try {
             ThrowableSuppressor throwableSuppressor = new ThrowableSuppressor();
@@ -255,6 +269,7 @@ public class Handle implements Closeable, Configurable<Handle> {
             throwableSuppressor.throwIfNecessary(t -> new CloseException("While closing handle", t));
         } finally {
             LOG.trace("Handle [{}] released", this);
+            event.finish();
 
             notifyHandleClosed();
         }
@@ -281,17 +296,23 @@ public class Handle implements Closeable, Configurable<Handle> {
      * @return True if the handle holds no database resources.
      */
     public boolean isClean() {
-        synchronized (cleanables) {
+        cleanablesLock.lock();
+        try {
             return cleanables.isEmpty();
+        } finally {
+            cleanablesLock.unlock();
         }
     }
 
     private void doClean(ThrowableSuppressor throwableSuppressor) {
         List<Cleanable> cleanablesCopy;
 
-        synchronized (cleanables) {
+        cleanablesLock.lock();
+        try {
             cleanablesCopy = new ArrayList<>(cleanables);
             cleanables.clear();
+        } finally {
+            cleanablesLock.unlock();
         }
 
         Collections.reverse(cleanablesCopy);
@@ -536,7 +557,9 @@ public class Handle implements Closeable, Configurable<Handle> {
      * @return the same handle.
      */
     public Handle begin() {
+        final ActiveEvent event = getConfig(JfrEvents.class).begin(EventType.TRANSACTION_BEGIN);
         transactionHandler.begin(this);
+        event.finish();
         LOG.trace("Handle [{}] begin transaction", this);
         return this;
     }
@@ -548,7 +571,9 @@ public class Handle implements Closeable, Configurable<Handle> {
      */
     public Handle commit() {
         final long start = System.nanoTime();
+        final ActiveEvent event = getConfig(JfrEvents.class).begin(EventType.TRANSACTION_COMMIT);
         transactionHandler.commit(this);
+        event.finish();
         LOG.trace("Handle [{}] commit transaction in {}ms", this, msSince(start));
         drainCallbacks()
                 .forEach(TransactionCallback::afterCommit);
@@ -562,7 +587,9 @@ public class Handle implements Closeable, Configurable<Handle> {
      */
     public Handle rollback() {
         final long start = System.nanoTime();
+        final ActiveEvent event = getConfig(JfrEvents.class).begin(EventType.TRANSACTION_ROLLBACK);
         transactionHandler.rollback(this);
+        event.finish();
         LOG.trace("Handle [{}] rollback transaction in {}ms", this, msSince(start));
         drainCallbacks()
                 .forEach(TransactionCallback::afterRollback);
@@ -602,10 +629,13 @@ public class Handle implements Closeable, Configurable<Handle> {
     }
 
     List<TransactionCallback> drainCallbacks() {
-        synchronized (transactionCallbacks) {
+        transactionCallbacksLock.lock();
+        try {
             List<TransactionCallback> result = new ArrayList<>(transactionCallbacks);
             transactionCallbacks.clear();
             return result;
+        } finally {
+            transactionCallbacksLock.unlock();
         }
     }
 
@@ -613,8 +643,11 @@ public class Handle implements Closeable, Configurable<Handle> {
         if (!isInTransaction()) {
             throw new IllegalStateException("Handle must be in transaction");
         }
-        synchronized (transactionCallbacks) {
+        transactionCallbacksLock.lock();
+        try {
             transactionCallbacks.add(cb);
+        } finally {
+            transactionCallbacksLock.unlock();
         }
         return this;
     }
@@ -942,7 +975,8 @@ public class Handle implements Closeable, Configurable<Handle> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(jdbi, connection);
+        // same value as Objects.hash(jdbi, connection) without allocating an array
+        return 31 * (31 + jdbi.hashCode()) + connection.hashCode();
     }
 
     class SetTransactionIsolation implements AutoCloseable {
@@ -20,7 +20,9 @@ import java.util.Objects;
 import java.util.Properties;
 import java.util.ServiceLoader;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 import javax.sql.DataSource;
 
@@ -34,9 +36,14 @@ import org.jdbi.v3.core.extension.HandleSupplier;
 import org.jdbi.v3.core.extension.NoSuchExtensionException;
 import org.jdbi.v3.core.internal.OnDemandExtensions;
 import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.core.jfr.JfrEvents;
+import org.jdbi.v3.core.jfr.JfrEvents.ActiveEvent;
+import org.jdbi.v3.core.jfr.JfrEvents.EventType;
 import org.jdbi.v3.core.spi.JdbiPlugin;
 import org.jdbi.v3.core.statement.Cleanable;
 import org.jdbi.v3.core.statement.DefaultStatementBuilder;
+import org.jdbi.v3.core.statement.PartitionedQuery;
+import org.jdbi.v3.core.statement.Partitioning;
 import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.StatementBuilder;
 import org.jdbi.v3.core.statement.StatementBuilderFactory;
@@ -361,6 +368,7 @@ public class Jdbi implements Configurable<Jdbi> {
      * @see #withHandle(HandleCallback)
      */
     public Handle open() {
+        final ActiveEvent event = getConfig(JfrEvents.class).begin(EventType.HANDLE_OPEN);
         try {
             final long start = System.nanoTime();
             @SuppressWarnings("PMD.CloseResource")
@@ -394,6 +402,9 @@ public class Jdbi implements Configurable<Jdbi> {
             }
         } catch (SQLException e) {
             throw new ConnectionException(e);
+        } finally {
+            // also record failed attempts, these are often the slow ones
+            event.finish();
         }
     }
 
@@ -441,6 +452,21 @@ public class Jdbi implements Configurable<Jdbi> {
         withHandle(consumer.asCallback());
     }
 
+    /**
+     * Creates a query that runs in parallel partitions. Each partition uses its own handle on the executor and the
+     * mapped rows of all partitions are merged into a single stream.
+     *
+     * @param sql the query SQL. It must select the rows of a partition with the arguments bound by the partitioning.
+     * @param partitioning splits the query into partitions
+     * @param executor runs the partitions. Should be able to run all partitions at the same time.
+     * @return a partitioned query
+     * @since 3.45.1
+     */
+    @Alpha
+    public PartitionedQuery partitionedQuery(String sql, Partitioning partitioning, Executor executor) {
+        return new PartitionedQuery(this, sql, partitioning, executor);
+    }
+
     /**
      * A convenience function which manages the lifecycle of a handle and yields it to a callback
      * for use by clients. The handle will be in a transaction when the callback is invoked, and
@@ -550,6 +576,30 @@ public class Jdbi implements Configurable<Jdbi> {
         }
     }
 
+    /**
+     * Calls a function with the {@link HandleSupplier} of the current handle scope. If no handle is in scope, a handle
+     * supplier that opens a handle when it is first used is put in scope for the duration of the call.
+     * <br>
+     * <b>This is an internal method and not part of the public API!</b>
+     *
+     * @param function the function to call
+     * @param <R> the return type
+     * @return the value returned by the function
+     */
+    public final <R> R withHandleSupplier(Function<HandleSupplier, R> function) {
+        final var handleSupplier = handleScope.get();
+        if (handleSupplier != null) {
+            return function.apply(handleSupplier);
+        }
+
+        try (LazyHandleSupplier lazyHandleSupplier = new LazyHandleSupplier(this)) {
+            handleScope.set(lazyHandleSupplier);
+            return function.apply(lazyHandleSupplier);
+        } finally {
+            handleScope.clear();
+        }
+    }
+
     private <R, E, X extends Exception> R callWithExtension(Class<E> extensionType,
                                                             ExtensionCallback<R, E, X> callback,
                                                             HandleSupplier handleSupplier) throws X {
@@ -25,6 +25,9 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
 import org.jdbi.v3.core.array.SqlArrayArgumentFactory;
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.qualifier.QualifiedType;
@@ -38,10 +41,18 @@ import org.jdbi.v3.meta.Beta;
  * The factories are consulted in reverse order of registration (i.e. last-registered wins).
  */
 public class Arguments implements JdbiConfig<Arguments> {
+
+    /** The default size of the preparable argument factory cache. */
+    public static final int PREPARABLE_FACTORY_CACHE_SIZE = 1_000;
+
     private final List<QualifiedArgumentFactory> factories;
     private final Map<QualifiedType<?>, Function<Object, Argument>> preparedFactories = new ConcurrentHashMap<>();
     private final Set<QualifiedType<?>> didPrepare = ConcurrentHashMap.newKeySet();
 
+    // Maps a type to the factory that prepares it. Shared between copies until their configuration diverges.
+    private JdbiCacheBuilder preparableFactoryCacheBuilder;
+    private JdbiCache<QualifiedType<?>, Optional<QualifiedArgumentFactory.Preparable>> preparableFactoryCache;
+
     private ConfigRegistry registry;
     private Argument untypedNullArgument = new NullArgument(Types.OTHER);
     private boolean bindingNullToPrimitivesPermitted = true;
@@ -50,6 +61,8 @@ public class Arguments implements JdbiConfig<Arguments> {
     public Arguments(final ConfigRegistry registry) {
         factories = new CopyOnWriteArrayList<>();
         this.registry = registry;
+        this.preparableFactoryCacheBuilder = DefaultJdbiCacheBuilder.builder().maxSize(PREPARABLE_FACTORY_CACHE_SIZE);
+        this.preparableFactoryCache = preparableFactoryCacheBuilder.build();
 
         // register built-in factories, priority of factories is by reverse registration order
 
@@ -77,6 +90,8 @@ public class Arguments implements JdbiConfig<Arguments> {
         untypedNullArgument = that.untypedNullArgument;
         bindingNullToPrimitivesPermitted = that.bindingNullToPrimitivesPermitted;
         preparedArgumentsEnabled = that.preparedArgumentsEnabled;
+        preparableFactoryCacheBuilder = that.preparableFactoryCacheBuilder;
+        preparableFactoryCache = that.preparableFactoryCache;
     }
 
     @Override
@@ -102,9 +117,55 @@ public class Arguments implements JdbiConfig<Arguments> {
      */
     public Arguments register(final QualifiedArgumentFactory factory) {
         factories.add(0, factory);
+        // the new factory may take precedence for already prepared types.
+        return invalidatePreparedArguments();
+    }
+
+    /**
+     * Discards all prepared arguments of this configuration object. Copies of this object share the factories
+     * that were found for each type until one of them calls this method.
+     * <br>
+     * This method is called when an argument factory is registered. Configuration objects that decide whether an
+     * argument factory can prepare a type (such as {@link org.jdbi.v3.core.array.SqlArrayTypes}) call it when they are changed.
+     *
+     * @return this
+     * @since 3.45.1
+     */
+    @Beta
+    public Arguments invalidatePreparedArguments() {
+        preparedFactories.clear();
+        didPrepare.clear();
+        preparableFactoryCache = preparableFactoryCacheBuilder.build();
+        return this;
+    }
+
+    /**
+     * Sets the cache that maps argument types to the factories that can prepare them. This cache is
+     * shared between copies of this configuration object until {@link #invalidatePreparedArguments()} is called.
+     *
+     * @param cacheBuilder the cache builder to use to create the cache.
+     * @return this
+     * @since 3.45.1
+     */
+    @Beta
+    public Arguments setPreparableFactoryCache(final JdbiCacheBuilder cacheBuilder) {
+        this.preparableFactoryCacheBuilder = cacheBuilder;
+        this.preparableFactoryCache = cacheBuilder.build();
         return this;
     }
 
+    /**
+     * Returns cache statistics for the preparable factory cache. This returns a cache specific object,
+     * so the user needs to know what caching library is in use.
+     *
+     * @return cache statistics for the preparable factory cache
+     * @since 3.45.1
+     */
+    @Beta
+    public <T> T preparableFactoryCacheStats() {
+        return preparableFactoryCache.getStats();
+    }
+
     /**
      * Obtain an argument for given value in the given context
      *
@@ -166,16 +227,34 @@ public class Arguments implements JdbiConfig<Arguments> {
         if (prepared != null) {
             return Optional.of(prepared);
         }
+
+        // The prepared function is specific to this configuration, only the factory
+        // that prepares it is shared between copies.
+        final JdbiCache<QualifiedType<?>, Optional<QualifiedArgumentFactory.Preparable>> cache = this.preparableFactoryCache;
+        final Optional<QualifiedArgumentFactory.Preparable> preparableFactory = cache.getIfPresent(type);
+        if (preparableFactory != null) {
+            final Optional<Function<Object, Argument>> argumentFactory = preparableFactory.flatMap(factory -> factory.prepare(type, registry));
+            if (argumentFactory.isPresent() || !preparableFactory.isPresent()) {
+                argumentFactory.ifPresent(f -> preparedFactories.putIfAbsent(type, f));
+                return argumentFactory;
+            }
+            // the factory no longer prepares the type, look at all factories
+        }
+
+        // Resolve outside of the cache. Preparing a type may prepare other types
+        // (e.g. the element type of an Optional) using the same cache.
         for (final QualifiedArgumentFactory factory : factories) {
             if (factory instanceof QualifiedArgumentFactory.Preparable) {
-                final Optional<Function<Object, Argument>> argumentFactory =
-                        ((QualifiedArgumentFactory.Preparable) factory).prepare(type, registry);
+                final QualifiedArgumentFactory.Preparable preparable = (QualifiedArgumentFactory.Preparable) factory;
+                final Optional<Function<Object, Argument>> argumentFactory = preparable.prepare(type, registry);
                 if (argumentFactory.isPresent()) {
+                    cache.put(type, Optional.of(preparable));
                     preparedFactories.putIfAbsent(type, argumentFactory.get());
                     return argumentFactory;
                 }
             }
         }
+        cache.put(type, Optional.empty());
         return Optional.empty();
     }
 
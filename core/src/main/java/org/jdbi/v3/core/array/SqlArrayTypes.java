@@ -20,6 +20,7 @@ import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
+import org.jdbi.v3.core.argument.Arguments;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.enums.internal.EnumSqlArrayTypeFactory;
@@ -125,6 +126,10 @@ public class SqlArrayTypes implements JdbiConfig<SqlArrayTypes> {
      */
     public SqlArrayTypes register(SqlArrayTypeFactory factory) {
         factories.add(0, factory);
+        if (registry != null) {
+            // the array argument factory may prepare types it could not prepare before
+            registry.get(Arguments.class).invalidatePreparedArguments();
+        }
         return this;
     }
 
@@ -0,0 +1,157 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.lang.reflect.InvocationTargetException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.internal.exceptions.CheckedFunction;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * A {@link JdbiExecutor} that runs at most a fixed number of callbacks at the same time. Callbacks that exceed the limit
+ * wait in the order in which they were submitted. The limit should match the size of the connection pool, so that callbacks
+ * wait here instead of in the pool.
+ * <p>
+ * Waiting callbacks block the thread that runs them, so this executor is meant for executors that start a new thread
+ * for each task, e.g. virtual threads (see {@link JdbiExecutor#createForVirtualThreads(Jdbi, int)}).
+ *
+ * @since 3.45.1
+ */
+@Alpha
+public final class BoundedJdbiExecutor extends AbstractJdbiExecutor {
+
+    private final Jdbi jdbi;
+    private final Executor executor;
+    private final int maxConcurrency;
+    private final Semaphore permits;
+
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final AtomicLong maxQueueNanos = new AtomicLong();
+
+    BoundedJdbiExecutor(Jdbi jdbi, Executor executor, int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("maxConcurrency must be at least 1, got " + maxConcurrency);
+        }
+        this.jdbi = jdbi;
+        this.executor = executor;
+        this.maxConcurrency = maxConcurrency;
+        this.permits = new Semaphore(maxConcurrency, true);
+    }
+
+    static Executor virtualThreadExecutor() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or newer", e);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create a virtual thread executor", e);
+        }
+    }
+
+    @Override
+    protected <T> CompletionStage<T> withExecute(final CheckedFunction<Jdbi, T> callback) {
+        return CompletableFuture.supplyAsync(() -> {
+            acquire();
+            try {
+                return callback.apply(jdbi);
+            } catch (Throwable t) {
+                throw new CompletionException(t);
+            } finally {
+                permits.release();
+            }
+        }, executor);
+    }
+
+    private void acquire() {
+        final long start = System.nanoTime();
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        }
+        final long queueNanos = System.nanoTime() - start;
+
+        admitted.increment();
+        totalQueueNanos.add(queueNanos);
+        if (queueNanos > maxQueueNanos.get()) {
+            maxQueueNanos.accumulateAndGet(queueNanos, Math::max);
+        }
+    }
+
+    /**
+     * Returns the maximum number of callbacks that run at the same time.
+     *
+     * @return the maximum number of concurrent callbacks
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * Returns the number of callbacks that are currently running.
+     *
+     * @return the number of running callbacks
+     */
+    public int getActiveCount() {
+        return maxConcurrency - permits.availablePermits();
+    }
+
+    /**
+     * Returns an estimate of the number of callbacks that wait to run.
+     *
+     * @return the number of waiting callbacks
+     */
+    public int getQueueLength() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Returns the number of callbacks that were admitted to run.
+     *
+     * @return the number of admitted callbacks
+     */
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    /**
+     * Returns the total time that admitted callbacks waited to run.
+     *
+     * @return the total queue time
+     */
+    public Duration getTotalQueueTime() {
+        return Duration.ofNanos(totalQueueNanos.sum());
+    }
+
+    /**
+     * Returns the longest time that a callback waited to run.
+     *
+     * @return the maximum queue time
+     */
+    public Duration getMaxQueueTime() {
+        return Duration.ofNanos(maxQueueNanos.get());
+    }
+}
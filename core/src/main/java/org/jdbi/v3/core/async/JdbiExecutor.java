@@ -23,6 +23,7 @@ import org.jdbi.v3.core.extension.ExtensionCallback;
 import org.jdbi.v3.core.extension.ExtensionConsumer;
 import org.jdbi.v3.core.extension.ExtensionFactory;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
+import org.jdbi.v3.meta.Alpha;
 import org.jdbi.v3.meta.Beta;
 
 @Beta
@@ -45,6 +46,38 @@ public interface JdbiExecutor {
         return new JdbiExecutorImpl(jdbi, executor);
     }
 
+    /**
+     * Create a {@link JdbiExecutor} that runs at most {@code maxConcurrency} callbacks at the same time.
+     *
+     * <p>
+     * Callbacks that exceed the limit wait in the order in which they were submitted and block the thread that runs them. The limit should be the size of the
+     * connection pool. The executor should start a new thread for each task, e.g. a virtual thread, otherwise waiting callbacks occupy its worker threads.
+     * </p>
+     *
+     * @param jdbi           the initialized Jdbi class
+     * @param executor       an executor to use for all database calls
+     * @param maxConcurrency the maximum number of callbacks that run at the same time
+     * @since 3.45.1
+     */
+    @Alpha
+    static BoundedJdbiExecutor create(Jdbi jdbi, Executor executor, int maxConcurrency) {
+        return new BoundedJdbiExecutor(jdbi, executor, maxConcurrency);
+    }
+
+    /**
+     * Create a {@link JdbiExecutor} that runs each callback in a new virtual thread and runs at most {@code maxConcurrency} callbacks at the same time.
+     * Requires Java 21 or newer.
+     *
+     * @param jdbi           the initialized Jdbi class
+     * @param maxConcurrency the maximum number of callbacks that run at the same time, usually the size of the connection pool
+     * @throws UnsupportedOperationException if the JVM does not support virtual threads
+     * @since 3.45.1
+     */
+    @Alpha
+    static BoundedJdbiExecutor createForVirtualThreads(Jdbi jdbi, int maxConcurrency) {
+        return new BoundedJdbiExecutor(jdbi, BoundedJdbiExecutor.virtualThreadExecutor(), maxConcurrency);
+    }
+
     /**
      * A convenience function which manages the lifecycle of a handle and yields it to a callback for use by clients.
      *
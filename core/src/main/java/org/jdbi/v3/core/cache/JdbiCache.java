@@ -41,6 +41,29 @@ public interface JdbiCache<K, V> {
      */
     V getWithLoader(K key, JdbiCacheLoader<K, V> loader);
 
+    /**
+     * Returns the cached value for a key. Unlike {@link #get(Object)}, this method never creates a value.
+     * The default implementation never finds a value.
+     *
+     * @param key The key value. Must not be null.
+     * @return The cached value or null if no value is cached.
+     * @since 3.45.1
+     */
+    default V getIfPresent(K key) {
+        return null;
+    }
+
+    /**
+     * Stores a value for a key. Use this together with {@link #getIfPresent(Object)} if a value can not be created
+     * by a cache loader, e.g. because creating it may access the cache recursively. If a value is already cached
+     * for the key, implementations may keep it. The default implementation does not store the value.
+     *
+     * @param key The key value. Must not be null.
+     * @param value The value. Must not be null.
+     * @since 3.45.1
+     */
+    default void put(K key, V value) {}
+
     /**
      * Return implementation specific statistics for the cache object. This can be used to expose
      * statistic information about the underlying implementation.
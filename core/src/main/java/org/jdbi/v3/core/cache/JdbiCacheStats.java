@@ -30,4 +30,28 @@ public interface JdbiCacheStats {
      * @return The maximum size of the cache.
      */
     int maxSize();
+
+    /**
+     * Returns the number of lookups that found a value in the cache.
+     * @return The number of cache hits or zero if the implementation does not track hits.
+     */
+    default long hitCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a value in the cache.
+     * @return The number of cache misses or zero if the implementation does not track misses.
+     */
+    default long missCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the number of values removed from the cache because it exceeded its maximum size.
+     * @return The number of evictions or zero if the implementation does not track evictions.
+     */
+    default long evictionCount() {
+        return 0;
+    }
 }
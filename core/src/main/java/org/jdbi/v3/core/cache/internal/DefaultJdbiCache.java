@@ -17,124 +17,258 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
 
 import com.google.errorprone.annotations.concurrent.GuardedBy;
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheLoader;
 
+/**
+ * Bounded LRU cache that does not take a lock when a value is found in the cache.
+ * <br>
+ * Cache hits are recorded in striped, lossy read buffers. The buffers are replayed against
+ * the LRU list by whichever thread holds the eviction lock next, which is either a thread
+ * that adds a new value to the cache or a reader that found its read buffer full. If the
+ * eviction lock is contended, readers drop their access records instead of waiting, so the
+ * LRU order is approximate under heavy concurrent load and exact for single threaded use.
+ */
 final class DefaultJdbiCache<K, V> implements JdbiCache<K, V> {
 
+    // number of access records per read buffer. must be a power of two.
+    private static final int READ_BUFFER_SIZE = 16;
+
+    private static final int MAX_READ_BUFFERS = 64;
+
     private final ConcurrentMap<K, DoubleLinkedList.Node<K, V>> cache;
 
-    @GuardedBy("expungeQueue")
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    @GuardedBy("evictionLock")
     private final DoubleLinkedList<K, V> expungeQueue;
 
-    private final JdbiCacheLoader<K, DoubleLinkedList.Node<K, V>> cacheLoader;
+    private final ReadBuffer<K, V>[] readBuffers;
+
+    private final JdbiCacheLoader<K, V> cacheLoader;
 
     private final int maxSize;
 
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private final Consumer<DoubleLinkedList.Node<K, V>> refreshFunction = this::refresh;
+
     DefaultJdbiCache(DefaultJdbiCacheBuilder builder, JdbiCacheLoader<K, V> cacheLoader) {
         this.cache = new ConcurrentHashMap<>();
         this.expungeQueue = new DoubleLinkedList<>();
-        this.cacheLoader = wrapLoader(cacheLoader);
+        this.cacheLoader = cacheLoader;
 
         this.maxSize = builder.getMaxSize();
+        this.readBuffers = createReadBuffers(maxSize);
     }
 
     @Override
     public V get(K key) {
-        try {
-            DoubleLinkedList.Node<K, V> node = cache.computeIfAbsent(key, cacheLoader::create);
-            refresh(node);
-            return node.value;
-        } finally {
-            expunge();
-        }
+        return doGet(key, cacheLoader);
     }
 
     @Override
     public V getWithLoader(K key, JdbiCacheLoader<K, V> loader) {
-        try {
-            DoubleLinkedList.Node<K, V> node = cache.computeIfAbsent(key, wrapLoader(loader)::create);
-            refresh(node);
-            return node.value;
-        } finally {
-            expunge();
-        }
+        return doGet(key, loader);
+    }
+
+    @Override
+    public V getIfPresent(K key) {
+        return doGet(key, null);
+    }
+
+    @Override
+    public void put(K key, V value) {
+        // an existing value is kept and its access is recorded
+        afterWrite(cache.computeIfAbsent(key, k -> DoubleLinkedList.createNode(k, value)));
     }
 
     @Override
     public DefaultJdbiCacheStats getStats() {
-        synchronized (expungeQueue) {
-            return new DefaultJdbiCacheStats(expungeQueue.size, maxSize);
+        return new DefaultJdbiCacheStats(cache.size(), maxSize, hits.sum(), misses.sum(), evictions.sum());
+    }
+
+    private V doGet(K key, JdbiCacheLoader<K, V> loader) {
+        // fast path, no locks are taken.
+        DoubleLinkedList.Node<K, V> node = cache.get(key);
+        if (node != null) {
+            hits.increment();
+            afterRead(node);
+            return node.value;
+        }
+
+        if (loader == null) {
+            misses.increment();
+            return null;
         }
+
+        node = cache.computeIfAbsent(key, k -> {
+            misses.increment();
+            return DoubleLinkedList.createNode(k, loader.create(k));
+        });
+
+        // the node is linked into the LRU list outside the map stripe lock. Nesting the
+        // eviction lock within a stripe lock creates a lock inversion with the
+        // eviction code that removes nodes from the map (#2274).
+        afterWrite(node);
+
+        return node.value;
     }
 
-    private JdbiCacheLoader<K, DoubleLinkedList.Node<K, V>> wrapLoader(JdbiCacheLoader<K, V> delegate) {
+    private void afterRead(DoubleLinkedList.Node<K, V> node) {
+        if (maxSize <= 0) {
+            return;
+        }
 
-        if (delegate == null) {
-            return k -> DoubleLinkedList.createNode(k, null);
+        ReadBuffer<K, V> readBuffer = readBuffers[(int) Thread.currentThread().getId() & (readBuffers.length - 1)];
+        if (readBuffer.offer(node)) {
+            return;
         }
 
-        return key -> {
-            V value = delegate.create(key);
-            DoubleLinkedList.Node<K, V> node = DoubleLinkedList.createNode(key, value);
-            if (maxSize > 0) {
-                synchronized (expungeQueue) {
-                    expungeQueue.addHead(node);
-                }
+        // read buffer is full. Drain all buffers if possible, otherwise drop
+        // the access record.
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBuffers();
+                refresh(node);
+            } finally {
+                evictionLock.unlock();
             }
-            return node;
-        };
+        }
     }
 
-    private void refresh(DoubleLinkedList.Node<K, V> node) {
-        if (maxSize > 0) {
-            synchronized (expungeQueue) {
-                DoubleLinkedList.Node<K, V> cacheNode = expungeQueue.removeNode(node);
-                // this can happen if the node that should be refreshed has been
-                // expunged between the call to computeIfAbsent and refresh (which is not
-                // done under the lock) above, so by the time the node gets passed here
-                // it is no longer in the list.
-                if (cacheNode != null) {
-                    expungeQueue.addHead(cacheNode);
+    private void afterWrite(DoubleLinkedList.Node<K, V> node) {
+        if (maxSize <= 0) {
+            return;
+        }
+
+        final List<DoubleLinkedList.Node<K, V>> purgeList = new ArrayList<>();
+
+        evictionLock.lock();
+        try {
+            drainReadBuffers();
+
+            if (node.left == null && !node.retired) {
+                expungeQueue.addHead(node);
+            } else {
+                // lost a race for the creation of the node, treat as an access
+                refresh(node);
+            }
+
+            while (expungeQueue.size > maxSize) {
+                DoubleLinkedList.Node<K, V> evicted = expungeQueue.removeTail();
+                if (evicted != null) {
+                    evicted.retired = true;
+                    purgeList.add(evicted);
                 }
             }
+        } finally {
+            evictionLock.unlock();
+        }
+
+        // The cache is purged outside the eviction lock so that a stripe lock
+        // is never acquired while holding the eviction lock.
+        for (DoubleLinkedList.Node<K, V> evicted : purgeList) {
+            if (cache.remove(evicted.key, evicted)) {
+                evictions.increment();
+            }
         }
     }
 
-    private void expunge() {
-        // If the code would not use a purge list, it would acquire
-        // first the expunge lock and then the stripe lock.
-        //
-        // however any call to the wrapLoader method above happens
-        // while the stripe lock is held and then acquires the
-        // expunge lock afterwards. ( stripe lock -> expunge lock)
-        //
-        // these two paths combined then create a lock inversion and
-        // a thread deadlock (#2274, only 3.37.0 is affected).
-        //
-        // the purge list is filled within the expunge lock but does
-        // not touch the cache. The cache is then purged outside the lock
-        // so the stripe lock is not nested within the expunge lock.
-        //
-        // multithreading is hard.
-        final List<K> purgeList = new ArrayList<>();
-
-        synchronized (expungeQueue) {
-            if (maxSize <= 0 || expungeQueue.size <= maxSize) {
-                // unbounded or not yet full
-                return;
+    @GuardedBy("evictionLock")
+    private void drainReadBuffers() {
+        for (ReadBuffer<K, V> readBuffer : readBuffers) {
+            readBuffer.drainTo(refreshFunction);
+        }
+    }
+
+    @GuardedBy("evictionLock")
+    private void refresh(DoubleLinkedList.Node<K, V> node) {
+        DoubleLinkedList.Node<K, V> cacheNode = expungeQueue.removeNode(node);
+        // this can happen if the node that should be refreshed has been
+        // expunged or was not yet linked when the access was recorded.
+        if (cacheNode != null) {
+            expungeQueue.addHead(cacheNode);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <K, V> ReadBuffer<K, V>[] createReadBuffers(int maxSize) {
+        if (maxSize <= 0) {
+            // unbounded caches do not track accesses.
+            return new ReadBuffer[0];
+        }
+
+        int count = 1;
+        int processors = Math.min(Runtime.getRuntime().availableProcessors(), MAX_READ_BUFFERS);
+        while (count < processors) {
+            count <<= 1;
+        }
+
+        ReadBuffer<K, V>[] readBuffers = new ReadBuffer[count];
+        for (int i = 0; i < count; i++) {
+            readBuffers[i] = new ReadBuffer<>();
+        }
+        return readBuffers;
+    }
+
+    /**
+     * Bounded multi-producer, single-consumer buffer of access records. Producers never block;
+     * if the buffer is full or another producer wins the race for a slot, the record is dropped.
+     */
+    static final class ReadBuffer<K, V> {
+
+        private static final int MASK = READ_BUFFER_SIZE - 1;
+
+        private final AtomicReferenceArray<DoubleLinkedList.Node<K, V>> buffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+
+        // only written by the thread holding the eviction lock.
+        private volatile long readCounter = 0;
+
+        /**
+         * Records an access.
+         *
+         * @return false if the buffer is full and should be drained.
+         */
+        boolean offer(DoubleLinkedList.Node<K, V> node) {
+            long tail = writeCounter.get();
+            if (tail - readCounter >= READ_BUFFER_SIZE) {
+                return false;
             }
 
-            while (expungeQueue.size > maxSize) {
-                DoubleLinkedList.Node<K, V> node = expungeQueue.removeTail();
-                if (node != null) {
-                    purgeList.add(node.key);
-                }
+            // contended, drop the access record.
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & MASK), node);
             }
+            return true;
         }
 
-        purgeList.forEach(cache::remove);
+        void drainTo(Consumer<DoubleLinkedList.Node<K, V>> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+
+            for (; head < tail; head++) {
+                int index = (int) (head & MASK);
+                DoubleLinkedList.Node<K, V> node = buffer.get(index);
+                if (node == null) {
+                    // slot was claimed but the record is not yet visible.
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(node);
+            }
+
+            readCounter = head;
+        }
     }
 }
@@ -13,18 +13,42 @@
  */
 package org.jdbi.v3.core.cache.internal;
 
+import java.util.StringJoiner;
+
+import org.jdbi.v3.core.cache.JdbiCacheStats;
+
 /**
  * Simple statistics for an {@link DefaultJdbiCache} instance. The values in this object are a snapshot of
  * the cache status. Calling any method multiple times is cheap and constant time.
  */
-public final class DefaultJdbiCacheStats {
+public final class DefaultJdbiCacheStats implements JdbiCacheStats {
 
     private final int cacheSize;
     private final int maxSize;
+    private final long hitCount;
+    private final long missCount;
+    private final long evictionCount;
 
-    DefaultJdbiCacheStats(int cacheSize, int maxSize) {
+    DefaultJdbiCacheStats(int cacheSize, int maxSize, long hitCount, long missCount, long evictionCount) {
         this.cacheSize = cacheSize;
         this.maxSize = maxSize;
+        this.hitCount = hitCount;
+        this.missCount = missCount;
+        this.evictionCount = evictionCount;
+    }
+
+    /**
+     * Creates a statistics snapshot for a cache that is not a {@link DefaultJdbiCache}.
+     *
+     * @param cacheSize The current size of the cache.
+     * @param maxSize The maximum size of the cache.
+     * @param hitCount The number of cache hits.
+     * @param missCount The number of cache misses.
+     * @param evictionCount The number of evicted entries.
+     * @return A {@link JdbiCacheStats} snapshot.
+     */
+    public static JdbiCacheStats of(int cacheSize, int maxSize, long hitCount, long missCount, long evictionCount) {
+        return new DefaultJdbiCacheStats(cacheSize, maxSize, hitCount, missCount, evictionCount);
     }
 
     /**
@@ -32,6 +56,7 @@ public final class DefaultJdbiCacheStats {
      *
      * @return The current size of the cache.
      */
+    @Override
     public int cacheSize() {
         return cacheSize;
     }
@@ -41,7 +66,49 @@ public final class DefaultJdbiCacheStats {
      *
      * @return The maximum size of the cache.
      */
+    @Override
     public int maxSize() {
         return maxSize;
     }
+
+    /**
+     * Returns the number of lookups that found a value in the cache.
+     *
+     * @return The number of cache hits.
+     */
+    @Override
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find a value in the cache.
+     *
+     * @return The number of cache misses.
+     */
+    @Override
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of values that were removed from the cache because it exceeded its maximum size.
+     *
+     * @return The number of evictions.
+     */
+    @Override
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", DefaultJdbiCacheStats.class.getSimpleName() + "[", "]")
+                .add("cacheSize=" + cacheSize)
+                .add("maxSize=" + maxSize)
+                .add("hitCount=" + hitCount)
+                .add("missCount=" + missCount)
+                .add("evictionCount=" + evictionCount)
+                .toString();
+    }
 }
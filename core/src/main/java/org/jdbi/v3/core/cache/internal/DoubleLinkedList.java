@@ -98,6 +98,10 @@ final class DoubleLinkedList<K, V> {
         Node<K, V> left = null;
         Node<K, V> right = null;
 
+        // set once the node has been evicted from the list. A retired node
+        // must never be linked again.
+        boolean retired = false;
+
         final K key;
         final V value;
 
@@ -15,25 +15,143 @@ package org.jdbi.v3.core.collector;
 
 import java.lang.reflect.Array;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
-class ArrayBuilder {
-    Class<?> componentType;
-    List<Object> list = new ArrayList<>();
+/**
+ * Accumulates the elements of an array. Arrays of {@code int}, {@code long} and {@code double} are accumulated
+ * into a primitive buffer instead of a list of boxed values.
+ */
+abstract class ArrayBuilder {
+
+    static ArrayBuilder of(Class<?> componentType) {
+        if (componentType == long.class) {
+            return new LongArrayBuilder();
+        } else if (componentType == int.class) {
+            return new IntArrayBuilder();
+        } else if (componentType == double.class) {
+            return new DoubleArrayBuilder();
+        }
+        return new ObjectArrayBuilder(componentType);
+    }
+
+    abstract void add(Object element);
+
+    abstract ArrayBuilder combine(ArrayBuilder other);
+
+    abstract Object build();
+
+    static int grow(int length) {
+        return Math.max(16, length + (length >> 1));
+    }
+
+    private static final class ObjectArrayBuilder extends ArrayBuilder {
+        private final Class<?> componentType;
+        private final List<Object> list = new ArrayList<>();
+
+        ObjectArrayBuilder(Class<?> componentType) {
+            this.componentType = componentType;
+        }
+
+        @Override
+        void add(Object element) {
+            list.add(element);
+        }
+
+        @Override
+        ArrayBuilder combine(ArrayBuilder other) {
+            list.addAll(((ObjectArrayBuilder) other).list);
+            return this;
+        }
+
+        @Override
+        Object build() {
+            Object array = Array.newInstance(componentType, list.size());
+            for (int i = 0; i < list.size(); i++) {
+                Array.set(array, i, list.get(i));
+            }
+            return array;
+        }
+    }
+
+    private static final class LongArrayBuilder extends ArrayBuilder {
+        private long[] values = new long[0];
+        private int size;
 
-    ArrayBuilder(Class<?> componentType) {
-        this.componentType = componentType;
+        @Override
+        void add(Object element) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = (Long) element;
+        }
+
+        @Override
+        ArrayBuilder combine(ArrayBuilder other) {
+            LongArrayBuilder that = (LongArrayBuilder) other;
+            values = Arrays.copyOf(values, size + that.size);
+            System.arraycopy(that.values, 0, values, size, that.size);
+            size += that.size;
+            return this;
+        }
+
+        @Override
+        Object build() {
+            return Arrays.copyOf(values, size);
+        }
     }
 
-    public void add(Object element) {
-        list.add(element);
+    private static final class IntArrayBuilder extends ArrayBuilder {
+        private int[] values = new int[0];
+        private int size;
+
+        @Override
+        void add(Object element) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = (Integer) element;
+        }
+
+        @Override
+        ArrayBuilder combine(ArrayBuilder other) {
+            IntArrayBuilder that = (IntArrayBuilder) other;
+            values = Arrays.copyOf(values, size + that.size);
+            System.arraycopy(that.values, 0, values, size, that.size);
+            size += that.size;
+            return this;
+        }
+
+        @Override
+        Object build() {
+            return Arrays.copyOf(values, size);
+        }
     }
 
-    public Object build() {
-        Object array = Array.newInstance(componentType, list.size());
-        for (int i = 0; i < list.size(); i++) {
-            Array.set(array, i, list.get(i));
+    private static final class DoubleArrayBuilder extends ArrayBuilder {
+        private double[] values = new double[0];
+        private int size;
+
+        @Override
+        void add(Object element) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, grow(size));
+            }
+            values[size++] = (Double) element;
+        }
+
+        @Override
+        ArrayBuilder combine(ArrayBuilder other) {
+            DoubleArrayBuilder that = (DoubleArrayBuilder) other;
+            values = Arrays.copyOf(values, size + that.size);
+            System.arraycopy(that.values, 0, values, size, that.size);
+            size += that.size;
+            return this;
+        }
+
+        @Override
+        Object build() {
+            return Arrays.copyOf(values, size);
         }
-        return array;
     }
 }
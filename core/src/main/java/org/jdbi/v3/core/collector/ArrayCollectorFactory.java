@@ -34,12 +34,9 @@ class ArrayCollectorFactory implements CollectorFactory {
     public Collector<?, ?, ?> build(Type containerType) {
         Class<?> componentType = getErasedType(containerType).getComponentType();
         return Collector.of(
-                () -> new ArrayBuilder(componentType),
+                () -> ArrayBuilder.of(componentType),
                 ArrayBuilder::add,
-                (left, right) -> {
-                    left.list.addAll(right.list);
-                    return left;
-                },
+                ArrayBuilder::combine,
                 ArrayBuilder::build);
     }
 
@@ -14,14 +14,27 @@
 package org.jdbi.v3.core.collector;
 
 import java.lang.reflect.Type;
+import java.util.DoubleSummaryStatistics;
+import java.util.IntSummaryStatistics;
 import java.util.List;
+import java.util.LongSummaryStatistics;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.stream.BaseStream;
 import java.util.stream.Collector;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Alpha;
 
 /**
  * Registry of collector factories.
@@ -30,10 +43,12 @@ import org.jdbi.v3.core.config.JdbiConfig;
 public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
     private final List<CollectorFactory> factories;
     private ConcurrentMap<Type, Optional<CollectorFactory>> factoryCache;
+    private final ConcurrentMap<PrimitiveCollectorKey, Function<?, ?>> primitiveCollectors;
 
     public JdbiCollectors() {
         factories = new CopyOnWriteArrayList<>();
         factoryCache = new ConcurrentHashMap<>();
+        primitiveCollectors = new ConcurrentHashMap<>();
         register(new MapCollectorFactory());
         register(new OptionalCollectorFactory());
         register(new ListCollectorFactory());
@@ -41,11 +56,22 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
         register(new OptionalPrimitiveCollectorFactory());
         register(new ArrayCollectorFactory());
         register(new EnumSetCollectorFactory());
+
+        registerPrimitiveCollector(LongStream.class, long[].class, LongStream::toArray);
+        registerPrimitiveCollector(LongStream.class, OptionalLong.class, PrimitiveCollectors::toOptionalLong);
+        registerPrimitiveCollector(LongStream.class, LongSummaryStatistics.class, LongStream::summaryStatistics);
+        registerPrimitiveCollector(IntStream.class, int[].class, IntStream::toArray);
+        registerPrimitiveCollector(IntStream.class, OptionalInt.class, PrimitiveCollectors::toOptionalInt);
+        registerPrimitiveCollector(IntStream.class, IntSummaryStatistics.class, IntStream::summaryStatistics);
+        registerPrimitiveCollector(DoubleStream.class, double[].class, DoubleStream::toArray);
+        registerPrimitiveCollector(DoubleStream.class, OptionalDouble.class, PrimitiveCollectors::toOptionalDouble);
+        registerPrimitiveCollector(DoubleStream.class, DoubleSummaryStatistics.class, DoubleStream::summaryStatistics);
     }
 
     private JdbiCollectors(JdbiCollectors that) {
         factoryCache = that.factoryCache;
         factories = new CopyOnWriteArrayList<>(that.factories);
+        primitiveCollectors = new ConcurrentHashMap<>(that.primitiveCollectors);
     }
 
     /**
@@ -71,6 +97,39 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
         return register(CollectorFactory.collectorFactory(collectionType, collector));
     }
 
+    /**
+     * Register a collector for a stream of primitive values, such as the streams returned by
+     * {@link org.jdbi.v3.core.result.ResultBearing#mapToLong(int)}. The collector receives the stream
+     * itself, so the values are never boxed.
+     *
+     * @param streamType The primitive stream type, one of {@link LongStream}, {@link IntStream} or {@link DoubleStream}
+     * @param containerType The type that this collector will return
+     * @param collector A function that consumes the stream and returns the container
+     * @param <S> the primitive stream type
+     * @return this
+     * @since 3.45.1
+     */
+    @Alpha
+    public <S extends BaseStream<?, S>> JdbiCollectors registerPrimitiveCollector(Class<S> streamType, Type containerType, Function<? super S, ?> collector) {
+        primitiveCollectors.put(new PrimitiveCollectorKey(streamType, containerType), collector);
+        return this;
+    }
+
+    /**
+     * Obtain a collector for a stream of primitive values.
+     *
+     * @param streamType the primitive stream type.
+     * @param containerType the container type.
+     * @param <S> the primitive stream type
+     * @return a function that collects the stream into the given container type, or empty if no collector is registered.
+     * @since 3.45.1
+     */
+    @Alpha
+    @SuppressWarnings("unchecked")
+    public <S extends BaseStream<?, S>> Optional<Function<? super S, ?>> findPrimitiveCollectorFor(Class<S> streamType, Type containerType) {
+        return Optional.ofNullable((Function<? super S, ?>) primitiveCollectors.get(new PrimitiveCollectorKey(streamType, containerType)));
+    }
+
     /**
      * Obtain a collector for the given type.
      *
@@ -109,4 +168,31 @@ public class JdbiCollectors implements JdbiConfig<JdbiCollectors> {
     public JdbiCollectors createCopy() {
         return new JdbiCollectors(this);
     }
+
+    private static final class PrimitiveCollectorKey {
+        private final Class<?> streamType;
+        private final Type containerType;
+
+        PrimitiveCollectorKey(Class<?> streamType, Type containerType) {
+            this.streamType = streamType;
+            this.containerType = containerType;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            PrimitiveCollectorKey that = (PrimitiveCollectorKey) o;
+            return streamType.equals(that.streamType) && containerType.equals(that.containerType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(streamType, containerType);
+        }
+    }
 }
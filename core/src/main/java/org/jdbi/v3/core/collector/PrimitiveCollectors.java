@@ -0,0 +1,74 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.collector;
+
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import org.jdbi.v3.core.internal.UtilityClassException;
+
+/**
+ * Built-in collectors for primitive streams. These behave like the {@link OptionalCollectors} but never box the values.
+ */
+final class PrimitiveCollectors {
+
+    private PrimitiveCollectors() {
+        throw new UtilityClassException();
+    }
+
+    static OptionalLong toOptionalLong(LongStream stream) {
+        PrimitiveIterator.OfLong it = stream.iterator();
+        if (!it.hasNext()) {
+            return OptionalLong.empty();
+        }
+        long value = it.nextLong();
+        if (it.hasNext()) {
+            throw tooManyValues(value, it.nextLong());
+        }
+        return OptionalLong.of(value);
+    }
+
+    static OptionalInt toOptionalInt(IntStream stream) {
+        PrimitiveIterator.OfInt it = stream.iterator();
+        if (!it.hasNext()) {
+            return OptionalInt.empty();
+        }
+        int value = it.nextInt();
+        if (it.hasNext()) {
+            throw tooManyValues(value, it.nextInt());
+        }
+        return OptionalInt.of(value);
+    }
+
+    static OptionalDouble toOptionalDouble(DoubleStream stream) {
+        PrimitiveIterator.OfDouble it = stream.iterator();
+        if (!it.hasNext()) {
+            return OptionalDouble.empty();
+        }
+        double value = it.nextDouble();
+        if (it.hasNext()) {
+            throw tooManyValues(value, it.nextDouble());
+        }
+        return OptionalDouble.of(value);
+    }
+
+    private static IllegalStateException tooManyValues(Object first, Object second) {
+        return new IllegalStateException(String.format("Multiple values for optional: ['%s', '%s', ...]", first, second));
+    }
+}
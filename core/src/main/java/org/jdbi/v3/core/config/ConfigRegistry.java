@@ -16,6 +16,8 @@ package org.jdbi.v3.core.config;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 import org.jdbi.v3.core.argument.Arguments;
@@ -26,6 +28,7 @@ import org.jdbi.v3.core.mapper.ColumnMappers;
 import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.mapper.RowMappers;
 import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.meta.Alpha;
 
 /**
  * A registry of {@link JdbiConfig} instances by type.
@@ -39,11 +42,22 @@ public final class ConfigRegistry {
     private final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> configs = new ConcurrentHashMap<>(32);
     private final Map<Class<? extends JdbiConfig<?>>, Function<ConfigRegistry, JdbiConfig<?>>> configFactories;
 
+    // for layered registries, the state of the parent registry when this registry was created. It provides
+    // the config objects which have not been used in this registry yet.
+    private final Snapshot parent;
+
+    // the snapshot of this registry that was handed to the most recently created layered copies.
+    private volatile Snapshot latest;
+    private final Lock snapshotLock = new ReentrantLock();
+    // the snapshot generation in which config objects were created. Not recorded before the first snapshot.
+    private final Map<Class<? extends JdbiConfig<?>>, Integer> generations = new ConcurrentHashMap<>();
+
     /**
      * Creates a new config registry.
      */
     public ConfigRegistry() {
         configFactories = new ConcurrentHashMap<>();
+        parent = null;
         get(ConfigCaches.class);
         get(SqlStatements.class);
         get(Arguments.class);
@@ -55,13 +69,26 @@ public final class ConfigRegistry {
 
     private ConfigRegistry(ConfigRegistry that) {
         configFactories = that.configFactories;
-        that.configs.forEach((type, config) -> {
-            JdbiConfig<?> copy = config.createCopy();
-            configs.put(type, copy);
-        });
+        parent = null;
+        that.configs.forEach((type, config) -> configs.put(type, config.createCopy()));
+        // a layered registry may not yet hold all of its config objects, so collect
+        // the missing ones from its parents. The closest registry wins.
+        for (Snapshot snapshot = that.parent; snapshot != null; snapshot = snapshot.owner.parent) {
+            final Snapshot current = snapshot;
+            current.owner.configs.keySet().forEach(type -> {
+                if (!configs.containsKey(type) && current.contains(type)) {
+                    configs.put(type, current.find(type).createCopy());
+                }
+            });
+        }
         configs.values().forEach(c -> c.setRegistry(this));
     }
 
+    private ConfigRegistry(Map<Class<? extends JdbiConfig<?>>, Function<ConfigRegistry, JdbiConfig<?>>> configFactories, Snapshot parent) {
+        this.configFactories = configFactories;
+        this.parent = parent;
+    }
+
     /**
      * Returns this registry's instance of the given config class. Creates an instance on-demand if this registry does
      * not have one of the given type yet.
@@ -73,10 +100,28 @@ public final class ConfigRegistry {
     public <C extends JdbiConfig<C>> C get(Class<C> configClass) {
         // we would computeIfAbsent if not for JDK-8062841 >:(
         final JdbiConfig<?> lookup = configs.get(configClass);
+        final Snapshot snapshot = latest;
         if (lookup != null) {
+            if (snapshot != null) {
+                // the caller may change the config object, keep its current state for the layered copies
+                snapshot.detach(configClass, lookup);
+            }
             return configClass.cast(lookup);
         }
-        C config = configClass.cast(configFactory(configClass).apply(this));
+        // copy on first use
+        final JdbiConfig<?> base = parent == null ? null : parent.find(configClass);
+        C config;
+        if (base == null) {
+            config = configClass.cast(configFactory(configClass).apply(this));
+        } else {
+            config = configClass.cast(base.createCopy());
+            config.setRegistry(this);
+        }
+        if (snapshot != null) {
+            // layered copies that already exist must not see the new config object
+            generations.put(configClass, snapshot.generation);
+            snapshot.changed = true;
+        }
         return Optional.ofNullable(configClass.cast(configs.putIfAbsent(configClass, config))).orElse(config);
     }
 
@@ -101,4 +146,104 @@ public final class ConfigRegistry {
     public ConfigRegistry createCopy() {
         return new ConfigRegistry(this);
     }
+
+    /**
+     * Returns a layered copy of this config registry. Creating a layered copy is a constant time operation,
+     * independent of the number of config objects in this registry.
+     * <br>
+     * A config object in the layered copy is a copy of the corresponding config object from this registry, as it
+     * was when the layered copy was created. The copy is made when the config object is first requested from the
+     * layered copy. Changes to this registry after the layered copy was created are not visible in the layered copy,
+     * as long as the config object is requested from this registry (e.g. with {@link #get(Class)}) before it is
+     * changed. Changes to the layered copy are never visible in this registry.
+     * <br>
+     * Layered copies are intended for short-lived registries such as the configuration of a single statement.
+     *
+     * @return a layered copy of this config registry
+     * @see JdbiConfig#createCopy()
+     * @since 3.45.1
+     */
+    @Alpha
+    public ConfigRegistry createChild() {
+        return new ConfigRegistry(configFactories, snapshot());
+    }
+
+    private Snapshot snapshot() {
+        snapshotLock.lock();
+        try {
+            final Snapshot current = latest;
+            // layered copies share a snapshot until a config object is requested from this registry
+            if (current != null && !current.changed) {
+                return current;
+            }
+            final Snapshot snapshot = new Snapshot(this, current == null ? 1 : current.generation + 1);
+            if (current != null) {
+                current.next = snapshot;
+            }
+            latest = snapshot;
+            return snapshot;
+        } finally {
+            snapshotLock.unlock();
+        }
+    }
+
+    /**
+     * The state of a registry at the time a layered copy was created. Config objects are not copied when the snapshot
+     * is created. The registry copies a config object into its latest snapshot before it hands it out, older snapshots
+     * find these copies by following the chain of newer snapshots.
+     */
+    private static final class Snapshot {
+        private final ConfigRegistry owner;
+        private final int generation;
+        // copies of the config objects of the owner as they were when this snapshot was created. These
+        // are only used to create the config objects of layered copies, so their registry is never set.
+        private final Map<Class<? extends JdbiConfig<?>>, JdbiConfig<?>> detached = new ConcurrentHashMap<>();
+        private volatile Snapshot next;
+        private volatile boolean changed;
+
+        private Snapshot(ConfigRegistry owner, int generation) {
+            this.owner = owner;
+            this.generation = generation;
+        }
+
+        private boolean contains(Class<? extends JdbiConfig<?>> type) {
+            final Integer created = owner.generations.get(type);
+            return created == null || created < generation;
+        }
+
+        private void detach(Class<? extends JdbiConfig<?>> type, JdbiConfig<?> config) {
+            if (!changed) {
+                changed = true;
+            }
+            if (!detached.containsKey(type) && contains(type)) {
+                detached.putIfAbsent(type, config.createCopy());
+            }
+        }
+
+        private JdbiConfig<?> find(Class<? extends JdbiConfig<?>> type) {
+            final JdbiConfig<?> found = detached.get(type);
+            if (found != null) {
+                return found;
+            }
+            final JdbiConfig<?> current = owner.configs.get(type);
+            if (current == null || !contains(type)) {
+                return owner.parent == null ? null : owner.parent.find(type);
+            }
+
+            // the first copy made after this snapshot was created holds the state of this snapshot.
+            // If there is none, the config object has not been handed out since and is unchanged.
+            Snapshot last = this;
+            JdbiConfig<?> copy = null;
+            for (Snapshot snapshot = next; snapshot != null && copy == null; snapshot = snapshot.next) {
+                copy = snapshot.detached.get(type);
+                last = snapshot;
+            }
+            if (copy == null) {
+                final JdbiConfig<?> newCopy = current.createCopy();
+                copy = Optional.<JdbiConfig<?>>ofNullable(last.detached.putIfAbsent(type, newCopy)).orElse(newCopy);
+            }
+            // remember the copy, so the chain is only followed once per config type
+            return Optional.<JdbiConfig<?>>ofNullable(detached.putIfAbsent(type, copy)).orElse(copy);
+        }
+    }
 }
@@ -13,13 +13,14 @@
  */
 package org.jdbi.v3.core.extension;
 
+import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
@@ -111,35 +112,26 @@ final class ExtensionFactoryDelegate implements ExtensionFactory {
         final ExtensionMetadata extensionMetaData = extensions.findMetadata(extensionType, delegatedFactory);
         final ConfigRegistry instanceConfig = extensionMetaData.createInstanceConfiguration(config);
 
-        Map<Method, ExtensionHandlerInvoker> handlers = new HashMap<>();
+        final ExtensionInvocationHandler invocationHandler = new ExtensionInvocationHandler(extensionType, extensionMetaData, handleSupplier, instanceConfig);
         final Object proxy = Proxy.newProxyInstance(
                 extensionType.getClassLoader(),
                 new Class[] {extensionType},
-                (proxyInstance, method, args) -> handlers.get(method).invoke(args));
+                invocationHandler);
 
         // if the object created by the delegated factory has actual methods (it is not delegating), attach the
         // delegate and pass it to the handlers. Otherwise assume that there is no backing object and do not call
         // attach.
         final Object delegatedInstance = factoryFlags.contains(NON_VIRTUAL_FACTORY) ? delegatedFactory.attach(extensionType, handleSupplier) : proxy;
 
-        // add proxy specific methods (toString, equals, hashCode, finalize)
-        // those will only be added if they don't already exist in the method handler map.
+        invocationHandler.bind(proxy, delegatedInstance);
 
-        // If these methods are added, they are special because they operate on the proxy object itself, not the underlying object
-        ExtensionHandler toStringHandler = (h, target, args) ->
-                "Jdbi extension proxy for " + extensionType.getName() + "@" + Integer.toHexString(proxy.hashCode());
-        handlers.put(TOSTRING_METHOD, extensionMetaData.new ExtensionHandlerInvoker(proxy, TOSTRING_METHOD, toStringHandler, handleSupplier, instanceConfig));
-
-        handlers.put(EQUALS_METHOD, extensionMetaData.new ExtensionHandlerInvoker(proxy, EQUALS_METHOD, EQUALS_HANDLER, handleSupplier, instanceConfig));
-        handlers.put(HASHCODE_METHOD, extensionMetaData.new ExtensionHandlerInvoker(proxy, HASHCODE_METHOD, HASHCODE_HANDLER, handleSupplier, instanceConfig));
-
-        // add all methods that are delegated to the underlying object / existing handlers
-        extensionMetaData.getExtensionMethods().forEach(method ->
-                handlers.put(method, extensionMetaData.createExtensionHandlerInvoker(delegatedInstance, method, handleSupplier, instanceConfig)));
-
-        // finalize is double special. Add this unconditionally, even if subclasses try to override it.
-        extensionMetaData.getFinalizer().ifPresent(method -> handlers.put(method,
-                extensionMetaData.new ExtensionHandlerInvoker(proxy, method, NULL_HANDLER, handleSupplier, instanceConfig)));
+        // method configurations are created right away, so that errors from config customizers are reported when
+        // attaching. Method invokers are created when a method is called for the first time, unless fail fast
+        // is requested. Then all extension methods are inspected right away.
+        extensionMetaData.getExtensionMethods().forEach(invocationHandler::prepareMethodConfiguration);
+        if (instanceConfig.get(Extensions.class).isFailFast()) {
+            extensionMetaData.getExtensionMethods().forEach(invocationHandler::getInvoker);
+        }
 
         return extensionType.cast(proxy);
     }
@@ -148,4 +140,83 @@ final class ExtensionFactoryDelegate implements ExtensionFactory {
     public String toString() {
         return "ExtensionFactoryDelegate for " + delegatedFactory.toString();
     }
+
+    private static final class ExtensionInvocationHandler implements InvocationHandler {
+
+        private final Class<?> extensionType;
+        private final ExtensionMetadata extensionMetaData;
+        private final HandleSupplier handleSupplier;
+        private final ConfigRegistry instanceConfig;
+
+        private final Map<Method, ExtensionHandlerInvoker> handlers = new ConcurrentHashMap<>();
+        // method configurations that were created at attach time and are not yet used by an invoker
+        private final Map<Method, ConfigRegistry> methodConfigs = new ConcurrentHashMap<>();
+
+        private Object proxy;
+        private Object delegatedInstance;
+
+        ExtensionInvocationHandler(Class<?> extensionType, ExtensionMetadata extensionMetaData, HandleSupplier handleSupplier, ConfigRegistry instanceConfig) {
+            this.extensionType = extensionType;
+            this.extensionMetaData = extensionMetaData;
+            this.handleSupplier = handleSupplier;
+            this.instanceConfig = instanceConfig;
+        }
+
+        void bind(Object proxy, Object delegatedInstance) {
+            this.proxy = proxy;
+            this.delegatedInstance = delegatedInstance;
+        }
+
+        void prepareMethodConfiguration(Method method) {
+            methodConfigs.put(method, extensionMetaData.createMethodConfiguration(method, instanceConfig));
+        }
+
+        @Override
+        public Object invoke(Object proxyInstance, Method method, Object[] args) {
+            return getInvoker(method).invoke(args);
+        }
+
+        ExtensionHandlerInvoker getInvoker(Method method) {
+            ExtensionHandlerInvoker invoker = handlers.get(method);
+            if (invoker == null) {
+                invoker = createInvoker(method);
+                ExtensionHandlerInvoker existing = handlers.putIfAbsent(method, invoker);
+                if (existing != null) {
+                    invoker = existing;
+                }
+            }
+            return invoker;
+        }
+
+        private ExtensionHandlerInvoker createInvoker(Method method) {
+            // finalize is double special. Use the null handler unconditionally, even if subclasses try to override it.
+            if (extensionMetaData.getFinalizer().filter(method::equals).isPresent()) {
+                return extensionMetaData.new ExtensionHandlerInvoker(proxy, method, NULL_HANDLER, handleSupplier, instanceConfig);
+            }
+
+            // methods that are delegated to the underlying object / existing handlers
+            if (extensionMetaData.getExtensionMethods().contains(method)) {
+                final ConfigRegistry methodConfig = methodConfigs.remove(method);
+                return methodConfig != null
+                    ? extensionMetaData.createExtensionHandlerInvoker(delegatedInstance, method, handleSupplier, instanceConfig, methodConfig)
+                    : extensionMetaData.createExtensionHandlerInvoker(delegatedInstance, method, handleSupplier, instanceConfig);
+            }
+
+            // proxy specific methods (toString, equals, hashCode) are only used if they are not extension methods.
+            // They are special because they operate on the proxy object itself, not the underlying object
+            if (TOSTRING_METHOD.equals(method)) {
+                ExtensionHandler toStringHandler = (h, target, args) ->
+                        "Jdbi extension proxy for " + extensionType.getName() + "@" + Integer.toHexString(proxy.hashCode());
+                return extensionMetaData.new ExtensionHandlerInvoker(proxy, TOSTRING_METHOD, toStringHandler, handleSupplier, instanceConfig);
+            }
+            if (EQUALS_METHOD.equals(method)) {
+                return extensionMetaData.new ExtensionHandlerInvoker(proxy, EQUALS_METHOD, EQUALS_HANDLER, handleSupplier, instanceConfig);
+            }
+            if (HASHCODE_METHOD.equals(method)) {
+                return extensionMetaData.new ExtensionHandlerInvoker(proxy, HASHCODE_METHOD, HASHCODE_HANDLER, handleSupplier, instanceConfig);
+            }
+
+            throw new UnableToCreateExtensionException("Method %s is not an extension method of %s", method, extensionType);
+        }
+    }
 }
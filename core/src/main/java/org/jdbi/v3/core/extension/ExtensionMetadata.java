@@ -83,7 +83,7 @@ public final class ExtensionMetadata {
      * @return A new configuration object with all changes applied
      */
     public ConfigRegistry createInstanceConfiguration(ConfigRegistry config) {
-        ConfigRegistry instanceConfiguration = config.createCopy();
+        ConfigRegistry instanceConfiguration = config.createChild();
         instanceConfigCustomizer.customize(instanceConfiguration);
         return instanceConfiguration;
     }
@@ -97,7 +97,7 @@ public final class ExtensionMetadata {
      * @return A new configuration object with all changes applied
      */
     public ConfigRegistry createMethodConfiguration(Method method, ConfigRegistry config) {
-        ConfigRegistry methodConfiguration = config.createCopy();
+        ConfigRegistry methodConfiguration = config.createChild();
         ConfigCustomizer methodConfigCustomizer = methodConfigCustomizers.get(method);
         if (methodConfigCustomizer != null) {
             methodConfigCustomizer.customize(methodConfiguration);
@@ -134,6 +134,22 @@ public final class ExtensionMetadata {
         return new ExtensionHandlerInvoker(target, method, methodHandlers.get(method), handleSupplier, config);
     }
 
+    <E> ExtensionHandlerInvoker createExtensionHandlerInvoker(E target, Method method,
+            HandleSupplier handleSupplier, ConfigRegistry config, ConfigRegistry methodConfig) {
+        return new ExtensionHandlerInvoker(target, method, methodHandlers.get(method), handleSupplier, config, methodConfig);
+    }
+
+    /**
+     * Returns the {@link ExtensionHandler} for an extension method.
+     *
+     * @param method The extension method
+     * @return The extension handler or {@link Optional#empty()} if the method is not an extension method
+     * @since 3.45.1
+     */
+    public Optional<ExtensionHandler> findExtensionHandler(Method method) {
+        return Optional.ofNullable(methodHandlers.get(method));
+    }
+
     /**
      * Builder class for the {@link ExtensionMetadata} object.
      * See {@link ExtensionMetadata#builder(Class)}.
@@ -313,9 +329,13 @@ public final class ExtensionMetadata {
         private final ExtensionHandler extensionHandler;
 
         ExtensionHandlerInvoker(Object target, Method method, ExtensionHandler extensionHandler, HandleSupplier handleSupplier, ConfigRegistry config) {
+            this(target, method, extensionHandler, handleSupplier, config, createMethodConfiguration(method, config));
+        }
+
+        ExtensionHandlerInvoker(Object target, Method method, ExtensionHandler extensionHandler, HandleSupplier handleSupplier, ConfigRegistry config,
+                ConfigRegistry methodConfig) {
             this.target = target;
             this.handleSupplier = handleSupplier;
-            ConfigRegistry methodConfig = createMethodConfiguration(method, config);
             this.extensionContext = ExtensionContext.forExtensionMethod(methodConfig, extensionType, method);
 
             this.extensionHandler = extensionHandler;
@@ -16,17 +16,20 @@ package org.jdbi.v3.core.extension;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.extension.ExtensionFactory.FactoryFlag;
 import org.jdbi.v3.core.extension.annotation.UseExtensionHandler;
 import org.jdbi.v3.core.extension.annotation.UseExtensionHandlerCustomizer;
 import org.jdbi.v3.core.internal.CopyOnWriteHashMap;
 import org.jdbi.v3.meta.Alpha;
 import org.jdbi.v3.meta.Beta;
 
+import static org.jdbi.v3.core.extension.ExtensionFactory.FactoryFlag.DONT_USE_PROXY;
 import static org.jdbi.v3.core.extension.ExtensionFactory.FactoryFlag.NON_VIRTUAL_FACTORY;
 
 /**
@@ -218,6 +221,32 @@ public class Extensions implements JdbiConfig<Extensions> {
         return extensionMetadataCache.computeIfAbsent(extensionType, createMetadata(extensionFactory));
     }
 
+    /**
+     * Retrieves the extension metadata for an extension type that is implemented with a proxy object. Returns
+     * {@link Optional#empty()} if no factory accepts the type or if the factory provides its own implementation
+     * of the extension type.
+     * <br>
+     * <b>This is an internal method and not part of the public API!</b>
+     *
+     * @param extensionType The extension type
+     * @return The {@link ExtensionMetadata} for the extension type
+     * @since 3.45.1
+     */
+    @Alpha
+    public Optional<ExtensionMetadata> findProxyMetadata(Class<?> extensionType) {
+        for (ExtensionFactoryDelegate factory : extensionFactories) {
+            if (factory.accepts(extensionType)) {
+                final Set<FactoryFlag> factoryFlags = factory.getFactoryFlags();
+                if (factoryFlags.contains(DONT_USE_PROXY) || factoryFlags.contains(NON_VIRTUAL_FACTORY)) {
+                    return Optional.empty();
+                }
+                return Optional.of(findMetadata(extensionType, factory.getDelegatedFactory()));
+            }
+        }
+
+        return Optional.empty();
+    }
+
     private Extensions internalRegisterHandlerFactory(ExtensionHandlerFactory extensionHandlerFactory) {
         extensionHandlerFactories.add(0, extensionHandlerFactory);
         return this;
@@ -13,6 +13,8 @@
  */
 package org.jdbi.v3.core.internal;
 
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
@@ -28,6 +30,8 @@ import java.util.function.Supplier;
  */
 public class MemoizingSupplier<T> implements Supplier<T> {
     private final Supplier<T> create;
+    // not a monitor, creating the value may block (e.g. opening a handle) and must not pin a virtual thread
+    private final Lock lock = new ReentrantLock();
 
     private Supplier<T> delegate = this::init;
     private volatile boolean initialized;
@@ -63,13 +67,16 @@ public class MemoizingSupplier<T> implements Supplier<T> {
     }
 
     private T init() {
-        synchronized (this) {
+        lock.lock();
+        try {
             if (!initialized) {
                 value = create.get();
                 initialized = true;
                 delegate = this::internalGet;
             }
             return delegate.get();
+        } finally {
+            lock.unlock();
         }
     }
 }
@@ -13,17 +13,28 @@
  */
 package org.jdbi.v3.core.internal;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
 import java.lang.reflect.Proxy;
 import java.util.Arrays;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
 
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.extension.ExtensionContext;
+import org.jdbi.v3.core.extension.ExtensionHandler;
+import org.jdbi.v3.core.extension.ExtensionMetadata;
 import org.jdbi.v3.core.extension.Extensions;
+import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.core.extension.UnableToCreateExtensionException;
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
 
 import static org.jdbi.v3.core.internal.JdbiClassUtils.EQUALS_METHOD;
@@ -55,6 +66,15 @@ public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
     private Object createProxy(Jdbi jdbi, Class<?> extensionType, Class<?>... extraTypes) {
         jdbi.getConfig(Extensions.class).onCreateProxy();
 
+        // metadata of proxy based extensions. The extension handlers are resolved once and invoked with the handle
+        // of each call, so a call does not need to attach an extension object.
+        Supplier<Optional<ExtensionMetadata>> extensionMetadata = MemoizingSupplier.of(() ->
+                jdbi.getConfig(Extensions.class).findProxyMetadata(extensionType));
+        Map<Method, OnDemandMethod> onDemandMethods = new ConcurrentHashMap<>();
+
+        // method handles for extension objects that are not proxies. Resolved once per method and shared by all calls.
+        Map<Method, MethodHandle> methodHandles = new ConcurrentHashMap<>();
+
         InvocationHandler handler = (proxy, method, args) -> {
             if (EQUALS_METHOD.equals(method)) {
                 return proxy == args[0];
@@ -68,7 +88,14 @@ public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
                 return "Jdbi on demand proxy for " + extensionType.getName() + "@" + Integer.toHexString(System.identityHashCode(proxy));
             }
 
-            return jdbi.withExtension(extensionType, extension -> invoke(extension, method, args));
+            final Optional<ExtensionHandler> extensionHandler = extensionMetadata.get().flatMap(metadata -> metadata.findExtensionHandler(method));
+            if (extensionHandler.isPresent()) {
+                final OnDemandMethod onDemandMethod = onDemandMethods.computeIfAbsent(method,
+                        m -> new OnDemandMethod(extensionMetadata.get().get(), m, extensionHandler.get()));
+                return jdbi.withHandleSupplier(handleSupplier -> onDemandMethod.invoke(handleSupplier, proxy, args));
+            }
+
+            return jdbi.withExtension(extensionType, extension -> invoke(extension, method, args, methodHandles));
         };
 
         var types = new LinkedHashSet<Class<?>>();
@@ -78,13 +105,18 @@ public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
         return Proxy.newProxyInstance(extensionType.getClassLoader(), types.toArray(new Class<?>[0]), handler);
     }
 
-    private static Object invoke(Object target, Method method, Object[] args) {
+    private static Object invoke(Object target, Method method, Object[] args, Map<Method, MethodHandle> methodHandles) {
         try {
             if (Proxy.isProxyClass(target.getClass())) {
                 return Proxy.getInvocationHandler(target)
                         .invoke(target, method, args);
             } else {
-                return MethodHandles.lookup().unreflect(method)
+                MethodHandle methodHandle = methodHandles.get(method);
+                if (methodHandle == null) {
+                    methodHandle = MethodHandles.lookup().unreflect(method);
+                    methodHandles.putIfAbsent(method, methodHandle);
+                }
+                return methodHandle
                         .bindTo(target)
                         .invokeWithArguments(args);
             }
@@ -98,6 +130,48 @@ public class OnDemandExtensions implements JdbiConfig<OnDemandExtensions> {
         return new OnDemandExtensions(this);
     }
 
+    /**
+     * An extension method of an on-demand extension. Instance and method configuration are created from the configuration
+     * of the handle supplier for every call, so on-demand extensions see configuration changes made after they were
+     * created. The extension handler is only warmed up on the first call.
+     */
+    private static final class OnDemandMethod {
+        private final ExtensionMetadata extensionMetadata;
+        private final Method method;
+        private final ExtensionHandler extensionHandler;
+        private final AtomicBoolean warm = new AtomicBoolean();
+
+        OnDemandMethod(ExtensionMetadata extensionMetadata, Method method, ExtensionHandler extensionHandler) {
+            this.extensionMetadata = extensionMetadata;
+            this.method = method;
+            this.extensionHandler = extensionHandler;
+        }
+
+        Object invoke(HandleSupplier handleSupplier, Object target, Object[] args) {
+            final ConfigRegistry instanceConfig = extensionMetadata.createInstanceConfiguration(handleSupplier.getConfig());
+            final ConfigRegistry methodConfig = extensionMetadata.createMethodConfiguration(method, instanceConfig);
+
+            if (warm.compareAndSet(false, true)) {
+                try {
+                    extensionHandler.warm(methodConfig);
+                } catch (Exception e) {
+                    // if fail fast is requested, fail right at warmup time.
+                    if (instanceConfig.get(Extensions.class).isFailFast()) {
+                        throw new UnableToCreateExtensionException(e, "While inspecting %s: %s", method, e.getMessage());
+                    }
+                }
+            }
+
+            final ExtensionContext extensionContext = ExtensionContext.forExtensionMethod(methodConfig, extensionMetadata.extensionType(), method);
+            final Object[] handlerArgs = JdbiClassUtils.safeVarargs(args);
+            try {
+                return handleSupplier.invokeInContext(extensionContext, () -> extensionHandler.invoke(handleSupplier, target, handlerArgs));
+            } catch (Exception e) {
+                throw Sneaky.throwAnyway(e);
+            }
+        }
+    }
+
     @FunctionalInterface
     public interface Factory {
         Optional<Object> onDemand(Jdbi jdbi, Class<?> extensionType, Class<?>... extraTypes);
@@ -0,0 +1,55 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Base class for all Jdbi flight recorder events.
+ *
+ * @since 3.45.1
+ */
+@Alpha
+@Category("Jdbi")
+public abstract class JdbiEvent extends Event implements JfrEvents.ActiveEvent {
+
+    JdbiEvent() {}
+
+    @Override
+    public boolean isRecorded() {
+        return true;
+    }
+
+    @Override
+    public void finish() {
+        end();
+        if (shouldCommit()) {
+            commit();
+        }
+    }
+
+    @Override
+    public void finish(StatementContext ctx) {
+        finish();
+    }
+
+    @Override
+    public void finish(StatementContext ctx, long rows) {
+        finish(ctx);
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.jfr;
+
+import org.jdbi.v3.core.internal.UtilityClassException;
+
+/**
+ * Creates the flight recorder events. This is the only class that refers to the event classes, it is loaded
+ * when the first event is begun.
+ */
+final class JdbiEventFactory {
+
+    private JdbiEventFactory() {
+        throw new UtilityClassException();
+    }
+
+    static JfrEvents.ActiveEvent begin(JfrEvents.EventType type) {
+        final JdbiEvent event = create(type);
+        if (!event.isEnabled()) {
+            return JfrEvents.NOT_RECORDED;
+        }
+        event.begin();
+        return event;
+    }
+
+    private static JdbiEvent create(JfrEvents.EventType type) {
+        switch (type) {
+            case HANDLE_OPEN:
+                return new HandleOpenEvent();
+            case HANDLE_CLOSE:
+                return new HandleCloseEvent();
+            case TRANSACTION_BEGIN:
+                return new TransactionBeginEvent();
+            case TRANSACTION_COMMIT:
+                return new TransactionCommitEvent();
+            case TRANSACTION_ROLLBACK:
+                return new TransactionRollbackEvent();
+            case TEMPLATE_RENDER:
+                return new TemplateRenderEvent();
+            case SQL_PARSE:
+                return new SqlParseEvent();
+            case STATEMENT_PREPARE:
+                return new StatementPrepareEvent();
+            case STATEMENT_BIND:
+                return new StatementBindEvent();
+            case STATEMENT_EXECUTE:
+                return new StatementExecuteEvent();
+            case RESULT_SET_ITERATION:
+                return new ResultSetIterationEvent();
+            default:
+                throw new IllegalArgumentException("Unknown event type " + type);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.jfr;
+
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Configuration for Java Flight Recorder events. Events are disabled by default, the {@link JfrPlugin} enables them.
+ * <p>
+ * Even when enabled, events are only created while a flight recording that includes them is running. Otherwise
+ * Jdbi only pays for a configuration lookup and a check of the event type.
+ * <p>
+ * Jdbi code refers to events only through {@link EventType} and {@link ActiveEvent}. The event classes, and with them
+ * the {@code jdk.jfr} module, are only loaded once events are enabled, so Jdbi runs on runtimes without that module
+ * as long as events stay disabled.
+ *
+ * @since 3.45.1
+ */
+@Alpha
+public final class JfrEvents implements JdbiConfig<JfrEvents> {
+
+    static final ActiveEvent NOT_RECORDED = new ActiveEvent() {
+        @Override
+        public boolean isRecorded() {
+            return false;
+        }
+
+        @Override
+        public void finish() {}
+
+        @Override
+        public void finish(StatementContext ctx) {}
+
+        @Override
+        public void finish(StatementContext ctx, long rows) {}
+    };
+
+    private boolean enabled;
+
+    public JfrEvents() {}
+
+    private JfrEvents(JfrEvents that) {
+        this.enabled = that.enabled;
+    }
+
+    /**
+     * Returns true if Jdbi emits flight recorder events.
+     *
+     * @return true if events are emitted
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables flight recorder events.
+     *
+     * @param enabled if true, emit events
+     * @return this
+     */
+    public JfrEvents setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Creates and begins an event if events are enabled and the event type is recorded.
+     *
+     * @param type the event type
+     * @return the started event, or an event that does nothing if the event is not recorded
+     */
+    public ActiveEvent begin(EventType type) {
+        if (!enabled) {
+            return NOT_RECORDED;
+        }
+        return JdbiEventFactory.begin(type);
+    }
+
+    @Override
+    public JfrEvents createCopy() {
+        return new JfrEvents(this);
+    }
+
+    /**
+     * The events that Jdbi emits.
+     */
+    public enum EventType {
+        /** {@link HandleOpenEvent}. */
+        HANDLE_OPEN,
+        /** {@link HandleCloseEvent}. */
+        HANDLE_CLOSE,
+        /** {@link TransactionBeginEvent}. */
+        TRANSACTION_BEGIN,
+        /** {@link TransactionCommitEvent}. */
+        TRANSACTION_COMMIT,
+        /** {@link TransactionRollbackEvent}. */
+        TRANSACTION_ROLLBACK,
+        /** {@link TemplateRenderEvent}. */
+        TEMPLATE_RENDER,
+        /** {@link SqlParseEvent}. */
+        SQL_PARSE,
+        /** {@link StatementPrepareEvent}. */
+        STATEMENT_PREPARE,
+        /** {@link StatementBindEvent}. */
+        STATEMENT_BIND,
+        /** {@link StatementExecuteEvent}. */
+        STATEMENT_EXECUTE,
+        /** {@link ResultSetIterationEvent}. */
+        RESULT_SET_ITERATION
+    }
+
+    /**
+     * An event that was started by {@link #begin(EventType)}.
+     */
+    public interface ActiveEvent {
+
+        /**
+         * Returns true if the event is recorded.
+         *
+         * @return false if this event does nothing
+         */
+        boolean isRecorded();
+
+        /**
+         * Ends the event and commits it if it passes the recording thresholds.
+         */
+        void finish();
+
+        /**
+         * Ends the event and commits it if it passes the recording thresholds. Statement events record the SQL
+         * fingerprint and the extension method of the statement.
+         *
+         * @param ctx the statement context
+         */
+        void finish(StatementContext ctx);
+
+        /**
+         * Ends the event and commits it if it passes the recording thresholds. Result set iteration events also
+         * record the number of mapped rows.
+         *
+         * @param ctx the statement context
+         * @param rows the number of mapped rows
+         */
+        void finish(StatementContext ctx, long rows);
+    }
+}
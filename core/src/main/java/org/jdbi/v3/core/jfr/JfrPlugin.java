@@ -0,0 +1,38 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.jfr;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.spi.JdbiPlugin;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Emits Java Flight Recorder events for opening and closing handles, rendering, parsing, preparing, binding and
+ * executing statements, iterating results and for transactions. Statement events carry the SQL fingerprint
+ * (see {@link org.jdbi.v3.core.statement.JdbiMetrics#fingerprint(String)}) and the extension method that
+ * created the statement.
+ * <p>
+ * All events are in the {@code Jdbi} category and are named {@code org.jdbi.*}, e.g. {@code org.jdbi.StatementExecute}.
+ * They are recorded by any running flight recording unless they are disabled in its settings.
+ *
+ * @since 3.45.1
+ */
+@Alpha
+public class JfrPlugin extends JdbiPlugin.Singleton {
+
+    @Override
+    public void customizeJdbi(Jdbi jdbi) {
+        jdbi.getConfig(JfrEvents.class).setEnabled(true);
+    }
+}
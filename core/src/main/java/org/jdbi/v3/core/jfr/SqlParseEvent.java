@@ -0,0 +1,32 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Parsing SQL that was not found in the parsed SQL cache.
+ *
+ * @since 3.45.1
+ */
+@Alpha
+@Name("org.jdbi.SqlParse")
+@Label("SQL Parse")
+@Description("Parsing SQL that was not found in the parsed SQL cache.")
+public final class SqlParseEvent extends StatementEvent {
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.JdbiMetrics;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Base class for flight recorder events that belong to a statement.
+ *
+ * @since 3.45.1
+ */
+@Alpha
+public abstract class StatementEvent extends JdbiEvent {
+
+    @Label("SQL Fingerprint")
+    @Description("The SQL of the statement with literals and parameter lists replaced.")
+    String fingerprint;
+
+    @Label("Extension Method")
+    @Description("The extension method that created the statement, if any.")
+    String extensionMethod;
+
+    StatementEvent() {}
+
+    @Override
+    public void finish(StatementContext ctx) {
+        end();
+        if (shouldCommit()) {
+            fingerprint = ctx.getConfig(JdbiMetrics.class).getFingerprint(ctx);
+            final ExtensionMethod method = ctx.getExtensionMethod();
+            if (method != null) {
+                extensionMethod = method.getType().getName() + "." + method.getMethod().getName();
+            }
+            commit();
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An immutable map for a single result set row. The column names and their index are computed once per result set
+ * and shared by all rows; each row only holds its values.
+ *
+ * @param <V> the value type
+ */
+final class CompactRowMap<V> extends AbstractMap<String, V> {
+
+    private final Columns columns;
+    private final Object[] values;
+
+    CompactRowMap(Columns columns, Object[] values) {
+        this.columns = columns;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return columns.index.containsKey(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V get(Object key) {
+        final Integer index = columns.index.get(key);
+        return index == null ? null : (V) values[index];
+    }
+
+    @Override
+    public Set<Entry<String, V>> entrySet() {
+        return new AbstractSet<>() {
+            @Override
+            public Iterator<Entry<String, V>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+        };
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, V>> {
+        private int next = 0;
+
+        @Override
+        public boolean hasNext() {
+            return next < values.length;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Entry<String, V> next() {
+            if (next >= values.length) {
+                throw new NoSuchElementException();
+            }
+            final int i = next++;
+            return new SimpleImmutableEntry<>(columns.names[i], (V) values[i]);
+        }
+    }
+
+    /**
+     * The column names of a result set and their position.
+     */
+    static final class Columns {
+        private final String[] names;
+        private final Map<String, Integer> index;
+
+        Columns(List<String> names) {
+            this.names = names.toArray(new String[0]);
+            this.index = new HashMap<>(names.size() * 2);
+            for (int i = 0; i < this.names.length; i++) {
+                index.put(this.names[i], i);
+            }
+        }
+
+        int size() {
+            return names.length;
+        }
+    }
+}
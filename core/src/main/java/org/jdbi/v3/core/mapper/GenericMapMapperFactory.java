@@ -110,7 +110,22 @@ public class GenericMapMapperFactory implements RowMapperFactory {
 
         @Override
         public RowMapper<Map<String, T>> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
-            List<String> keyNames = getMapKeys(rs.getMetaData(), ctx.getConfig(MapMappers.class).getCaseChange());
+            final MapMappers mapMappers = ctx.getConfig(MapMappers.class);
+            List<String> keyNames = getMapKeys(rs.getMetaData(), mapMappers.getCaseChange());
+
+            if (mapMappers.isCompactRows()) {
+                final CompactRowMap.Columns columns = new CompactRowMap.Columns(keyNames);
+
+                return (r, c) -> {
+                    Object[] values = new Object[columns.size()];
+
+                    for (int i = 0; i < values.length; i++) {
+                        values[i] = mapper.map(r, i + 1, ctx);
+                    }
+
+                    return new CompactRowMap<>(columns, values);
+                };
+            }
 
             return (r, c) -> {
                 Map<String, T> row = new HashMap<>();
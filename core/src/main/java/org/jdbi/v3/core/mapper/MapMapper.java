@@ -64,6 +64,20 @@ public class MapMapper implements RowMapper<Map<String, Object>> {
     public RowMapper<Map<String, Object>> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
         final List<String> columnNames = getColumnNames(rs, caseStrategy.apply(ctx));
 
+        if (ctx.getConfig(MapMappers.class).isCompactRows()) {
+            final CompactRowMap.Columns columns = new CompactRowMap.Columns(columnNames);
+
+            return (r, c) -> {
+                Object[] values = new Object[columns.size()];
+
+                for (int i = 0; i < values.length; i++) {
+                    values[i] = r.getObject(i + 1);
+                }
+
+                return new CompactRowMap<>(columns, values);
+            };
+        }
+
         return (r, c) -> {
             Map<String, Object> row = new LinkedHashMap<>(columnNames.size());
 
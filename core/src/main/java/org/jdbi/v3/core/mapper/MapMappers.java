@@ -16,17 +16,21 @@ package org.jdbi.v3.core.mapper;
 import java.util.function.UnaryOperator;
 
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Alpha;
 
 public class MapMappers implements JdbiConfig<MapMappers> {
 
     private UnaryOperator<String> caseChange;
+    private boolean compactRows;
 
     public MapMappers() {
         caseChange = CaseStrategy.LOCALE_LOWER;
+        compactRows = false;
     }
 
     private MapMappers(MapMappers that) {
         caseChange = that.caseChange;
+        compactRows = that.compactRows;
     }
 
     /**
@@ -50,6 +54,33 @@ public class MapMappers implements JdbiConfig<MapMappers> {
         return this;
     }
 
+    /**
+     * Returns true if map mappers return compact, immutable row maps.
+     *
+     * @return true if rows are mapped to compact, immutable maps
+     * @since 3.45.1
+     */
+    @Alpha
+    public boolean isCompactRows() {
+        return compactRows;
+    }
+
+    /**
+     * If true, {@link MapMapper} and the mappers created by {@link GenericMapMapperFactory} map each row to an immutable
+     * map that only holds the column values. The column names and their index are computed once per result set and
+     * shared by all rows, which uses a lot less memory than a hash map per row for large results. The maps keep the
+     * column order and can not be modified. By default, each row is mapped to a new, modifiable hash map.
+     *
+     * @param compactRows if true, map rows to compact, immutable maps
+     * @return this
+     * @since 3.45.1
+     */
+    @Alpha
+    public MapMappers setCompactRows(boolean compactRows) {
+        this.compactRows = compactRows;
+        return this;
+    }
+
     @Override
     public MapMappers createCopy() {
         return new MapMappers(this);
@@ -13,6 +13,8 @@
  */
 package org.jdbi.v3.core.mapper.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
@@ -47,6 +49,11 @@ class ConstructorInstanceFactory<T> extends InstanceFactory<T> {
         return Unchecked.<Object[], T>function(constructor::newInstance).apply(params);
     }
 
+    @Override
+    MethodHandle getMethodHandle() throws IllegalAccessException {
+        return MethodHandles.lookup().unreflectConstructor(constructor);
+    }
+
     @Override
     public String toString() {
         return constructor.toString();
@@ -21,6 +21,7 @@ import java.lang.reflect.Type;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -166,12 +167,14 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
     private final InstanceFactory<T> factory;
     private final String prefix;
     private final ConstructorProperties constructorProperties;
+    private final List<Object> specializedMapperKey;
     private final Map<Parameter, ConstructorMapper<?>> nestedMappers = new ConcurrentHashMap<>();
 
     private ConstructorMapper(InstanceFactory<T> factory, String prefix) {
         this.factory = factory;
         this.prefix = prefix;
         this.constructorProperties = factory.getAnnotation(ConstructorProperties.class);
+        this.specializedMapperKey = Arrays.<Object>asList(ConstructorMapper.class, factory.getExecutable(), prefix);
     }
 
     @Override
@@ -181,6 +184,10 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
 
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+        return ctx.getConfig(ReflectionMappers.class).specialize(specializedMapperKey, rs, () -> doSpecialize(rs, ctx));
+    }
+
+    private RowMapper<T> doSpecialize(ResultSet rs, StatementContext ctx) throws SQLException {
         final UnaryOperator<String> caseChange = ctx.getConfig(ReflectionMappers.class).getCaseChange();
         final List<String> columnNames = getColumnNames(rs, caseChange);
         final List<ColumnNameMatcher> columnNameMatchers =
@@ -270,7 +277,7 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
                 UNMATCHED_CONSTRUCTOR_PARAMETER, factory, unmatchedParameters));
         }
 
-        RowMapper<T> boundMapper = new BoundConstructorMapper(paramData);
+        RowMapper<T> boundMapper = createBoundMapper(ctx, paramData);
         OptionalInt propagateNullColumnIndex = locatePropagateNullColumnIndex(columnNames, columnNameMatchers);
 
         if (propagateNullColumnIndex.isPresent()) {
@@ -280,6 +287,21 @@ public final class ConstructorMapper<T> implements RowMapper<T> {
         }
     }
 
+    private RowMapper<T> createBoundMapper(StatementContext ctx, List<ParameterData> paramData) {
+        if (ctx.getConfig(ReflectionMappers.class).getMapperStrategy() == MapperStrategy.METHOD_HANDLES
+            && paramData.stream().noneMatch(p -> p.propagateNull || (p.mapper == null && p.isPrimitive))) {
+            try {
+                final RowMapper<?>[] mappers = new RowMapper<?>[factory.getParameterCount()];
+                paramData.forEach(p -> mappers[p.index] = p.mapper);
+                return MethodHandleMappers.forFactory(factory.getMethodHandle().asFixedArity(), mappers, factory.toString());
+            } catch (IllegalAccessException e) {
+                // the instance factory can not be accessed through a method handle, use reflection.
+            }
+        }
+
+        return new BoundConstructorMapper(paramData);
+    }
+
     private OptionalInt locatePropagateNullColumnIndex(List<String> columnNames, List<ColumnNameMatcher> columnNameMatchers) {
         Optional<String> propagateNullColumn =
             Optional.ofNullable(factory.getAnnotationIncludingType(PropagateNull.class))
@@ -13,12 +13,15 @@
  */
 package org.jdbi.v3.core.mapper.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -104,11 +107,13 @@ public final class FieldMapper<T> implements RowMapper<T> {
 
     private final Class<T> type;
     private final String prefix;
+    private final List<Object> specializedMapperKey;
     private final Map<Field, FieldMapper<?>> nestedMappers = new ConcurrentHashMap<>();
 
     private FieldMapper(Class<T> type, String prefix) {
         this.type = type;
         this.prefix = prefix;
+        this.specializedMapperKey = Arrays.<Object>asList(FieldMapper.class, type, prefix);
     }
 
     @Override
@@ -118,6 +123,10 @@ public final class FieldMapper<T> implements RowMapper<T> {
 
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+        return ctx.getConfig(ReflectionMappers.class).specialize(specializedMapperKey, rs, () -> doSpecialize(rs, ctx));
+    }
+
+    private RowMapper<T> doSpecialize(ResultSet rs, StatementContext ctx) throws SQLException {
         final UnaryOperator<String> caseChange = ctx.getConfig(ReflectionMappers.class).getCaseChange();
         final List<String> columnNames = getColumnNames(rs, caseChange);
         final List<ColumnNameMatcher> columnNameMatchers = ctx.getConfig(ReflectionMappers.class).getColumnNameMatchers();
@@ -190,7 +199,7 @@ public final class FieldMapper<T> implements RowMapper<T> {
         } catch (ReflectiveOperationException e) {
             throw new IllegalArgumentException(format("A type, %s, was mapped which was not instantiable", type.getName()), e);
         }
-        RowMapper<T> boundMapper = new BoundFieldMapper(constructor, fields);
+        RowMapper<T> boundMapper = createBoundMapper(reflectionConfig, constructor, fields);
         OptionalInt propagateNullColumnIndex = locatePropagateNullColumnIndex(columnNames, columnNameMatchers);
 
         if (propagateNullColumnIndex.isPresent()) {
@@ -200,6 +209,26 @@ public final class FieldMapper<T> implements RowMapper<T> {
         }
     }
 
+    private RowMapper<T> createBoundMapper(ReflectionMappers reflectionConfig, Constructor<T> constructor, List<FieldData> fields) {
+        if (reflectionConfig.getMapperStrategy() == MapperStrategy.METHOD_HANDLES
+            && fields.stream().noneMatch(f -> f.propagateNull)) {
+            try {
+                final MethodHandles.Lookup lookup = MethodHandles.lookup();
+                final List<MethodHandle> setters = new ArrayList<>(fields.size());
+                final List<RowMapper<?>> mappers = new ArrayList<>(fields.size());
+                for (FieldData fieldData : fields) {
+                    setters.add(lookup.unreflectSetter(fieldData.field));
+                    mappers.add(fieldData.mapper);
+                }
+                return MethodHandleMappers.forSetters(lookup.unreflectConstructor(constructor), setters, mappers, type.getName());
+            } catch (IllegalAccessException e) {
+                // a field or the constructor can not be accessed through a method handle (e.g. a final field), use reflection.
+            }
+        }
+
+        return new BoundFieldMapper(constructor, fields);
+    }
+
     private OptionalInt locatePropagateNullColumnIndex(List<String> columnNames, List<ColumnNameMatcher> columnNameMatchers) {
         Optional<String> propagateNullColumn =
             Optional.ofNullable(type.getAnnotation(PropagateNull.class))
@@ -14,6 +14,7 @@
 package org.jdbi.v3.core.mapper.reflect;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Parameter;
 import java.lang.reflect.Type;
@@ -32,6 +33,10 @@ abstract class InstanceFactory<T> {
         this.executable = requireNonNull(executable, "executable is null");
     }
 
+    Executable getExecutable() {
+        return executable;
+    }
+
     Class<?> getDeclaringClass() {
         return executable.getDeclaringClass();
     }
@@ -67,6 +72,13 @@ abstract class InstanceFactory<T> {
 
     abstract T newInstance(Object... params);
 
+    /**
+     * Returns a method handle that creates a new instance. The handle takes the same parameters as {@link #newInstance(Object...)}.
+     *
+     * @throws IllegalAccessException if the constructor or factory method is not accessible
+     */
+    abstract MethodHandle getMethodHandle() throws IllegalAccessException;
+
     @Override
     public abstract String toString();
 }
@@ -0,0 +1,37 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Strategies that the {@link ConstructorMapper} and the {@link FieldMapper} use to create objects from a row.
+ *
+ * @see ReflectionMappers#setMapperStrategy(MapperStrategy)
+ * @since 3.45.1
+ */
+@Alpha
+public enum MapperStrategy {
+    /**
+     * Collect all column values and create the object through reflection. This is the default.
+     */
+    REFLECTION,
+
+    /**
+     * Compose a single method handle for each specialized mapper that reads the columns and calls the constructor or
+     * the field setters directly. Avoids reflection and the intermediate value array for every row. Mappers that use
+     * {@link org.jdbi.v3.core.mapper.PropagateNull} on a property fall back to {@link #REFLECTION}.
+     */
+    METHOD_HANDLES
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.StringJoiner;
+
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import static java.lang.invoke.MethodType.methodType;
+
+/**
+ * Composes row mappers from method handles for the {@link MapperStrategy#METHOD_HANDLES} strategy.
+ * All composed handles have the type {@code (ResultSet, StatementContext)Object}.
+ */
+final class MethodHandleMappers {
+
+    private static final MethodType MAPPER_TYPE = methodType(Object.class, ResultSet.class, StatementContext.class);
+
+    private static final MethodHandle ROW_MAPPER_MAP;
+
+    static {
+        try {
+            ROW_MAPPER_MAP = MethodHandles.publicLookup().findVirtual(RowMapper.class, "map", MAPPER_TYPE);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private MethodHandleMappers() {
+        throw new UtilityClassException();
+    }
+
+    /**
+     * Creates a mapper that calls an instance factory. Every argument of the factory is either produced by a row mapper
+     * or is null if the row mapper is null.
+     *
+     * @param factory a method handle that creates the object
+     * @param mappers the row mapper for each argument of the factory
+     */
+    static <T> RowMapper<T> forFactory(MethodHandle factory, RowMapper<?>[] mappers, String description) {
+        final MethodType factoryType = factory.type();
+        MethodHandle handle = factory.asType(factoryType.changeReturnType(Object.class));
+
+        // replace the arguments back to front, so the positions of the remaining arguments do not change.
+        for (int i = mappers.length - 1; i >= 0; i--) {
+            handle = MethodHandles.collectArguments(handle, i, valueHandle(mappers[i], factoryType.parameterType(i)));
+        }
+
+        final int[] reorder = new int[mappers.length * 2];
+        for (int i = 0; i < reorder.length; i++) {
+            reorder[i] = i % 2;
+        }
+
+        return new MethodHandleRowMapper<>(MethodHandles.permuteArguments(handle, MAPPER_TYPE, reorder), description);
+    }
+
+    /**
+     * Creates a mapper that creates an object with a no-args constructor and then calls a setter for each value.
+     *
+     * @param constructor a method handle for the no-args constructor
+     * @param setters method handles that set a value on the object
+     * @param mappers the row mapper for each setter
+     */
+    static <T> RowMapper<T> forSetters(MethodHandle constructor, List<MethodHandle> setters, List<RowMapper<?>> mappers, String description) {
+        // (Object, ResultSet, StatementContext)Object, returns the object that is passed in.
+        MethodHandle handle = MethodHandles.dropArguments(MethodHandles.identity(Object.class), 1, ResultSet.class, StatementContext.class);
+
+        for (int i = setters.size() - 1; i >= 0; i--) {
+            final MethodHandle setter = setters.get(i);
+            final MethodHandle setValue = MethodHandles.collectArguments(
+                setter.asType(methodType(void.class, Object.class, setter.type().parameterType(1))),
+                1,
+                valueHandle(mappers.get(i), setter.type().parameterType(1)));
+            // call the setter before the rest of the chain.
+            handle = MethodHandles.foldArguments(handle, setValue);
+        }
+
+        // create the instance and pass it as the first argument into the chain.
+        handle = MethodHandles.foldArguments(handle, constructor.asType(methodType(Object.class)));
+
+        return new MethodHandleRowMapper<>(handle, description);
+    }
+
+    private static MethodHandle valueHandle(RowMapper<?> mapper, Class<?> type) {
+        if (mapper == null) {
+            return MethodHandles.dropArguments(MethodHandles.constant(type, null), 0, ResultSet.class, StatementContext.class);
+        }
+
+        return ROW_MAPPER_MAP.bindTo(mapper).asType(methodType(type, ResultSet.class, StatementContext.class));
+    }
+
+    static final class MethodHandleRowMapper<T> implements RowMapper<T> {
+
+        private final MethodHandle handle;
+        private final String description;
+
+        MethodHandleRowMapper(MethodHandle handle, String description) {
+            this.handle = handle;
+            this.description = description;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public T map(ResultSet rs, StatementContext ctx) throws SQLException {
+            try {
+                return (T) (Object) handle.invokeExact(rs, ctx);
+            } catch (SQLException | RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw Sneaky.throwAnyway(t);
+            }
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", MethodHandleRowMapper.class.getSimpleName() + "[", "]")
+                .add("mapper=" + description)
+                .toString();
+        }
+    }
+}
@@ -14,16 +14,26 @@
 package org.jdbi.v3.core.mapper.reflect;
 
 import java.lang.reflect.AccessibleObject;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.StringJoiner;
 import java.util.function.Consumer;
 import java.util.function.UnaryOperator;
 
+import org.jdbi.v3.core.cache.JdbiCache;
+import org.jdbi.v3.core.cache.JdbiCacheBuilder;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.core.mapper.CaseStrategy;
+import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.meta.Alpha;
+import org.jdbi.v3.meta.Beta;
+
+import static java.util.Objects.requireNonNull;
 
 import static org.jdbi.v3.core.mapper.reflect.AccessibleObjectStrategy.DO_NOT_MAKE_ACCESSIBLE;
 import static org.jdbi.v3.core.mapper.reflect.AccessibleObjectStrategy.FORCE_MAKE_ACCESSIBLE;
@@ -37,6 +47,9 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
     private boolean strictMatching;
     private UnaryOperator<String> caseChange;
     private Consumer<AccessibleObject> makeAccessible;
+    private MapperStrategy mapperStrategy;
+    private JdbiCacheBuilder specializedMapperCacheBuilder;
+    private JdbiCache<SpecializedMapperKey, RowMapper<?>> specializedMapperCache;
 
     /**
      * Create a default configuration that attempts case insensitive and
@@ -49,6 +62,7 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         strictMatching = false;
         caseChange = CaseStrategy.LOCALE_LOWER;
         makeAccessible = FORCE_MAKE_ACCESSIBLE;
+        mapperStrategy = MapperStrategy.REFLECTION;
     }
 
     private ReflectionMappers(ReflectionMappers that) {
@@ -56,6 +70,9 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         strictMatching = that.strictMatching;
         caseChange = that.caseChange;
         makeAccessible = that.makeAccessible;
+        mapperStrategy = that.mapperStrategy;
+        specializedMapperCacheBuilder = that.specializedMapperCacheBuilder;
+        specializedMapperCache = that.specializedMapperCache;
     }
 
     /**
@@ -74,6 +91,7 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
      */
     public ReflectionMappers setColumnNameMatchers(List<ColumnNameMatcher> columnNameMatchers) {
         this.columnNameMatchers = new ArrayList<>(columnNameMatchers);
+        resetSpecializedMapperCache();
         return this;
     }
 
@@ -98,6 +116,7 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
      */
     public ReflectionMappers setStrictMatching(boolean strictMatching) {
         this.strictMatching = strictMatching;
+        resetSpecializedMapperCache();
         return this;
     }
 
@@ -119,6 +138,7 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
      */
     public ReflectionMappers setCaseChange(UnaryOperator<String> caseChange) {
         this.caseChange = caseChange;
+        resetSpecializedMapperCache();
         return this;
     }
 
@@ -155,8 +175,177 @@ public class ReflectionMappers implements JdbiConfig<ReflectionMappers> {
         return accessibleObject;
     }
 
+    /**
+     * Returns the strategy that constructor and field mappers use to create objects.
+     *
+     * @return the mapper strategy
+     * @since 3.45.1
+     */
+    @Alpha
+    public MapperStrategy getMapperStrategy() {
+        return mapperStrategy;
+    }
+
+    /**
+     * Sets the strategy that constructor and field mappers use to create objects. The default is {@link MapperStrategy#REFLECTION}.
+     *
+     * @param mapperStrategy the strategy to use. Must not be null.
+     * @return this
+     * @see MapperStrategy
+     * @since 3.45.1
+     */
+    @Alpha
+    public ReflectionMappers setMapperStrategy(MapperStrategy mapperStrategy) {
+        this.mapperStrategy = requireNonNull(mapperStrategy, "mapperStrategy is null");
+        resetSpecializedMapperCache();
+        return this;
+    }
+
+    /**
+     * Enables caching of specialized row mappers. Reflective mappers (e.g. {@link BeanMapper}, {@link FieldMapper} or {@link ConstructorMapper})
+     * match the result set columns against their properties every time a query is executed. With the cache enabled, the specialized
+     * mapper is reused for every result set with the same column labels and column types that is mapped by an equivalent mapper
+     * (same mapper class, mapped type or constructor and column prefix), even if the mapper instance is created for every query
+     * as in {@link org.jdbi.v3.core.result.ResultBearing#mapToBean(Class)}.
+     * <br>
+     * The cache only tracks the shape of the result set. Column mappers, qualifiers or other configuration that is changed on a
+     * {@link org.jdbi.v3.core.Handle} or a statement after a mapper has been used are not picked up by cached specialized mappers.
+     * Changing the column name matchers, the case change strategy, strict matching or the mapper strategy on this object discards all cached mappers.
+     * <br>
+     * The cache is disabled by default.
+     *
+     * @param cacheBuilder the cache builder to use to create the cache. If null, the cache is disabled.
+     * @return this
+     * @since 3.45.1
+     */
+    @Beta
+    public ReflectionMappers setSpecializedMapperCache(JdbiCacheBuilder cacheBuilder) {
+        this.specializedMapperCacheBuilder = cacheBuilder;
+        resetSpecializedMapperCache();
+        return this;
+    }
+
+    /**
+     * Returns cache statistics for the specialized mapper cache. This returns a cache specific object,
+     * so the user needs to know what caching library is in use.
+     *
+     * @return cache statistics for the specialized mapper cache or null if the cache is disabled.
+     * @since 3.45.1
+     */
+    @Beta
+    public <T> T specializedMapperCacheStats() {
+        return specializedMapperCache == null ? null : specializedMapperCache.getStats();
+    }
+
+    /**
+     * Returns a specialized row mapper for a result set. If the specialized mapper cache is enabled, a previously
+     * specialized mapper for the same mapper key and the same result set shape is returned, otherwise the specializer
+     * is called.
+     *
+     * @param mapperKey identifies the mapper that is specialized and is used as part of the cache key. Mappers that specialize
+     *                  to the same row mapper for a result set must use equal keys, e.g. a list of the mapper class, the
+     *                  mapped type and the column prefix. Must not be null.
+     * @param rs the result set to map
+     * @param specializer creates a specialized mapper if none is cached
+     * @param <T> the mapped type
+     * @return a specialized mapper for the result set
+     * @throws SQLException if the result set metadata could not be read or the specializer failed
+     * @since 3.45.1
+     */
+    @Beta
+    @SuppressWarnings("unchecked")
+    public <T> RowMapper<T> specialize(Object mapperKey, ResultSet rs, MapperSpecializer<T> specializer) throws SQLException {
+        final JdbiCache<SpecializedMapperKey, RowMapper<?>> cache = this.specializedMapperCache;
+        if (cache == null) {
+            return specializer.specialize();
+        }
+
+        final SpecializedMapperKey key = SpecializedMapperKey.create(mapperKey, rs.getMetaData());
+        final RowMapper<?> cachedMapper = cache.getIfPresent(key);
+        if (cachedMapper != null) {
+            return (RowMapper<T>) cachedMapper;
+        }
+
+        // specialize outside the cache loader, the specializer may fail with an exception
+        final RowMapper<T> specializedMapper = specializer.specialize();
+        cache.put(key, specializedMapper);
+        return specializedMapper;
+    }
+
+    private void resetSpecializedMapperCache() {
+        this.specializedMapperCache = specializedMapperCacheBuilder == null ? null : specializedMapperCacheBuilder.build();
+    }
+
     @Override
     public ReflectionMappers createCopy() {
         return new ReflectionMappers(this);
     }
+
+    /**
+     * Creates a specialized row mapper for the current result set.
+     *
+     * @param <T> the mapped type
+     * @since 3.45.1
+     */
+    @Beta
+    @FunctionalInterface
+    public interface MapperSpecializer<T> {
+        RowMapper<T> specialize() throws SQLException;
+    }
+
+    private static final class SpecializedMapperKey {
+
+        private final Object mapperKey;
+        private final String[] columnLabels;
+        private final int[] columnTypes;
+        private final int hashCode;
+
+        private SpecializedMapperKey(Object mapperKey, String[] columnLabels, int[] columnTypes) {
+            this.mapperKey = mapperKey;
+            this.columnLabels = columnLabels;
+            this.columnTypes = columnTypes;
+            this.hashCode = 31 * (31 * mapperKey.hashCode() + Arrays.hashCode(columnLabels)) + Arrays.hashCode(columnTypes);
+        }
+
+        static SpecializedMapperKey create(Object mapperKey, ResultSetMetaData metadata) throws SQLException {
+            final int count = metadata.getColumnCount();
+            final String[] columnLabels = new String[count];
+            final int[] columnTypes = new int[count];
+
+            for (int i = 0; i < count; i++) {
+                columnLabels[i] = metadata.getColumnLabel(i + 1);
+                columnTypes[i] = metadata.getColumnType(i + 1);
+            }
+
+            return new SpecializedMapperKey(requireNonNull(mapperKey, "mapperKey is null"), columnLabels, columnTypes);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            SpecializedMapperKey that = (SpecializedMapperKey) o;
+            return mapperKey.equals(that.mapperKey)
+                && Arrays.equals(columnLabels, that.columnLabels)
+                && Arrays.equals(columnTypes, that.columnTypes);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", SpecializedMapperKey.class.getSimpleName() + "[", "]")
+                .add("mapperKey=" + mapperKey)
+                .add("columnLabels=" + Arrays.toString(columnLabels))
+                .add("columnTypes=" + Arrays.toString(columnTypes))
+                .toString();
+        }
+    }
 }
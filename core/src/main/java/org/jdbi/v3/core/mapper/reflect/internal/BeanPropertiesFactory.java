@@ -71,6 +71,9 @@ public class BeanPropertiesFactory {
 
         private final ConfigRegistry config;
 
+        // the holder is shared through the ConfigCaches, it can be kept for the lifetime of this object.
+        private volatile PropertiesHolder<T> holder;
+
         BeanPojoProperties(Type type, ConfigRegistry config) {
             super(type);
             this.config = config;
@@ -79,13 +82,12 @@ public class BeanPropertiesFactory {
         @SuppressWarnings({"unchecked", "rawtypes"})
         @Override
         public Map<String, BeanPojoProperty<T>> getProperties() {
-            return (Map) PROPERTY_CACHE.get(getType(), config).properties;
+            return (Map) holder().properties;
         }
 
         @Override
         public PojoBuilder<T> create() {
-            @SuppressWarnings("unchecked")
-            final PropertiesHolder<T> holder = (PropertiesHolder<T>) PROPERTY_CACHE.get(getType(), config);
+            final PropertiesHolder<T> holder = holder();
             final T instance = holder.getInstance();
             return new PojoBuilder<>() {
                 @Override
@@ -95,6 +97,15 @@ public class BeanPropertiesFactory {
                             .accept(instance, value);
                 }
 
+                @Override
+                public void set(PojoProperty<T> property, Object value) {
+                    if (property instanceof BeanPojoProperty) {
+                        ((BeanPojoProperty<T>) property).setter().accept(instance, value);
+                    } else {
+                        set(property.getName(), value);
+                    }
+                }
+
                 @Override
                 public T build() {
                     return instance;
@@ -102,6 +113,16 @@ public class BeanPropertiesFactory {
             };
         }
 
+        @SuppressWarnings("unchecked")
+        private PropertiesHolder<T> holder() {
+            PropertiesHolder<T> result = holder;
+            if (result == null) {
+                result = (PropertiesHolder<T>) PROPERTY_CACHE.get(getType(), config);
+                holder = result;
+            }
+            return result;
+        }
+
         static class BeanPojoProperty<T> implements PojoProperty<T> {
 
             final PropertyDescriptor descriptor;
@@ -92,6 +92,15 @@ public class BuilderPojoProperties<T, B> extends PojoProperties<T> {
                 Unchecked.biConsumer(getProperties().get(property).setter::invokeExact).accept(b, value);
             }
 
+            @Override
+            public void set(PojoProperty<T> property, Object value) {
+                if (property instanceof BuilderPojoProperty) {
+                    Unchecked.biConsumer(((BuilderPojoProperty<T>) property).setter::invokeExact).accept(b, value);
+                } else {
+                    set(property.getName(), value);
+                }
+            }
+
             @Override
             public T build() {
                 return defn.cast(Unchecked.function(builderBuild::invokeExact).apply(b));
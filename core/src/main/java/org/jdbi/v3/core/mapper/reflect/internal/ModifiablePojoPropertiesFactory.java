@@ -87,6 +87,15 @@ public interface ModifiablePojoPropertiesFactory extends PojoPropertiesFactory {
                     Unchecked.biConsumer(getProperties().get(property).setter::invoke).accept(instance, value);
                 }
 
+                @Override
+                public void set(PojoProperty<T> property, Object value) {
+                    if (property instanceof BuilderPojoProperty) {
+                        Unchecked.biConsumer(((BuilderPojoProperty<T>) property).setter::invoke).accept(instance, value);
+                    } else {
+                        set(property.getName(), value);
+                    }
+                }
+
                 @SuppressWarnings("unchecked")
                 @Override
                 public T build() {
@@ -17,6 +17,7 @@ import java.lang.reflect.Type;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
@@ -70,6 +71,11 @@ public class PojoMapper<T> implements RowMapper<T> {
 
     @Override
     public RowMapper<T> specialize(ResultSet rs, StatementContext ctx) throws SQLException {
+        return ctx.getConfig(ReflectionMappers.class)
+            .specialize(Arrays.asList(getClass(), type, prefix, strictColumnTypeMapping), rs, () -> doSpecialize(rs, ctx));
+    }
+
+    private RowMapper<T> doSpecialize(ResultSet rs, StatementContext ctx) throws SQLException {
         final UnaryOperator<String> caseChange = ctx.getConfig(ReflectionMappers.class).getCaseChange();
         final List<String> columnNames = getColumnNames(rs, caseChange);
         final List<ColumnNameMatcher> columnNameMatchers =
@@ -93,9 +99,10 @@ public class PojoMapper<T> implements RowMapper<T> {
         List<String> columnNames,
         List<ColumnNameMatcher> columnNameMatchers,
         List<String> unmatchedColumns) {
+        final PojoProperties<T> properties = getProperties(ctx.getConfig());
         final List<PropertyData<T>> propList = new ArrayList<>();
 
-        for (PojoProperty<T> property : getProperties(ctx.getConfig()).getProperties().values()) {
+        for (PojoProperty<T> property : properties.getProperties().values()) {
             Nested nested = property.getAnnotation(Nested.class).orElse(null);
             if (!JdbiAnnotations.isMapped(property)) {
                 continue;
@@ -136,7 +143,7 @@ public class PojoMapper<T> implements RowMapper<T> {
 
         propList.sort(Comparator.comparing(p -> p.propagateNull ? 1 : 0));
 
-        RowMapper<T> boundMapper = new BoundPojoMapper(propList);
+        RowMapper<T> boundMapper = new BoundPojoMapper(properties, propList);
         OptionalInt propagateNullColumnIndex = locatePropagateNullColumnIndex(columnNames, columnNameMatchers);
 
         if (propagateNullColumnIndex.isPresent()) {
@@ -211,15 +218,19 @@ public class PojoMapper<T> implements RowMapper<T> {
 
     class BoundPojoMapper implements RowMapper<T> {
 
-        private final List<PropertyData<T>> propList;
+        // resolved once at specialization time, so mapping a row does not look up the pojo type or its properties.
+        private final PojoProperties<T> properties;
+        private final PropertyData<T>[] propList;
 
-        BoundPojoMapper(List<PropertyData<T>> propList) {
-            this.propList = propList;
+        @SuppressWarnings("unchecked")
+        BoundPojoMapper(PojoProperties<T> properties, List<PropertyData<T>> propList) {
+            this.properties = properties;
+            this.propList = propList.toArray(new PropertyData[0]);
         }
 
         @Override
         public T map(ResultSet rs, StatementContext ctx) throws SQLException {
-            final PojoBuilder<T> pojo = getProperties(ctx.getConfig()).create();
+            final PojoBuilder<T> pojo = properties.create();
 
             for (PropertyData<T> p : propList) {
                 Object value = p.mapper.map(rs, ctx);
@@ -0,0 +1,106 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.lang.reflect.Type;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import org.jdbi.v3.core.generic.GenericType;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * The values of a single column mapped to an {@code int} without boxing. Database null values are mapped to {@code 0} if
+ * {@link org.jdbi.v3.core.mapper.ColumnMappers#getCoalesceNullPrimitivesToDefaults()} is set, otherwise they throw
+ * an {@link UnableToProduceResultException}.
+ *
+ * @see ResultBearing#mapToInt(int)
+ * @see ResultBearing#mapToInt(String)
+ * @since 3.45.1
+ */
+@Alpha
+@FunctionalInterface
+public interface IntResultIterable {
+
+    /**
+     * Executes the statement and returns a stream of the column values. The stream releases the result set when
+     * all values were consumed or when it is closed. Use it in a try-with-resources block if it may not be
+     * fully consumed.
+     *
+     * @return a stream of the column values
+     */
+    IntStream stream();
+
+    /**
+     * Returns all column values in an array.
+     *
+     * @return an array of the column values
+     */
+    default int[] toArray() {
+        try (IntStream stream = stream()) {
+            return stream.toArray();
+        }
+    }
+
+    /**
+     * Passes each column value to the action.
+     *
+     * @param action the action
+     */
+    default void forEach(IntConsumer action) {
+        try (IntStream stream = stream()) {
+            stream.forEach(action);
+        }
+    }
+
+    /**
+     * Collects the column values into a container of the given type. A primitive collector must be registered for
+     * the container type, see {@link org.jdbi.v3.core.collector.JdbiCollectors#registerPrimitiveCollector}. Arrays of
+     * {@code int}, {@link java.util.OptionalInt} and {@link java.util.IntSummaryStatistics} are supported
+     * out of the box.
+     *
+     * @param containerType the container type into which the values are collected
+     * @param <R>           the result container type
+     * @return a container into which the values have been collected
+     */
+    @SuppressWarnings("unchecked")
+    default <R> R collectInto(Class<R> containerType) {
+        return (R) collectInto((Type) containerType);
+    }
+
+    /**
+     * Collects the column values into a container of the given generic type.
+     *
+     * @param containerType the container type into which the values are collected
+     * @param <R>           the result container type
+     * @return a container into which the values have been collected
+     * @see #collectInto(Class)
+     */
+    @SuppressWarnings("unchecked")
+    default <R> R collectInto(GenericType<R> containerType) {
+        return (R) collectInto(containerType.getType());
+    }
+
+    /**
+     * Collects the column values into a container of the given type.
+     *
+     * @param containerType the container type into which the values are collected
+     * @return a container into which the values have been collected
+     * @throws UnsupportedOperationException if the implementation does not support this operation
+     * @see #collectInto(Class)
+     */
+    default Object collectInto(Type containerType) {
+        throw new UnsupportedOperationException();
+    }
+}
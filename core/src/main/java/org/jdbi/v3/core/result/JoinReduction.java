@@ -0,0 +1,147 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.function.BiConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.result.internal.JoinedResultIterator;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Reduces the rows of a one-to-many join into parent objects, each holding its children. Parent and child are mapped
+ * with their registered row mappers, which are specialized once for the result set; the parent key is read from a
+ * single column.
+ * <pre>{@code
+ * List<Contact> contacts = handle.createQuery("select c.id c_id, c.name c_name, p.id p_id, p.phone p_phone "
+ *         + "from contacts c left join phones p on c.id = p.contact_id order by c.id")
+ *     .registerRowMapper(BeanMapper.factory(Contact.class, "c"))
+ *     .registerRowMapper(BeanMapper.factory(Phone.class, "p"))
+ *     .reduceJoined(Contact.class, Phone.class)
+ *     .on("c_id")
+ *     .childKey("p_id")
+ *     .sortedByKey()
+ *     .list(Contact::addPhone);
+ * }</pre>
+ * If the rows are sorted by the parent key, {@link #sortedByKey()} lets {@link #stream(BiConsumer)} return each parent
+ * as soon as its last row was read, so only one parent is held in memory. Otherwise, the whole result is reduced when
+ * the first parent is requested.
+ *
+ * @param <P> the parent type
+ * @param <C> the child type
+ * @see ResultBearing#reduceJoined(Class, Class)
+ * @since 3.45.1
+ */
+@Alpha
+public final class JoinReduction<P, C> {
+
+    private final ResultBearing resultBearing;
+    private final Class<P> parentType;
+    private final Class<C> childType;
+
+    private String keyColumn;
+    private String childKeyColumn;
+    private boolean sortedByKey = false;
+
+    JoinReduction(ResultBearing resultBearing, Class<P> parentType, Class<C> childType) {
+        this.resultBearing = resultBearing;
+        this.parentType = Objects.requireNonNull(parentType, "parentType is null");
+        this.childType = Objects.requireNonNull(childType, "childType is null");
+    }
+
+    /**
+     * Sets the column that holds the parent key. Rows with the same key value belong to the same parent. Key values
+     * are read with {@link java.sql.ResultSet#getObject(int)} and compared with {@link Object#equals(Object)}.
+     *
+     * @param keyColumn the name of the parent key column
+     * @return this
+     */
+    public JoinReduction<P, C> on(String keyColumn) {
+        this.keyColumn = Objects.requireNonNull(keyColumn, "keyColumn is null");
+        return this;
+    }
+
+    /**
+     * Sets a column that is {@code null} if a row has no child, e.g. the child key of an outer join. Without a child
+     * key column, a row has no child if the child row mapper returns {@code null}.
+     *
+     * @param childKeyColumn the name of the child key column
+     * @return this
+     */
+    public JoinReduction<P, C> childKey(String childKeyColumn) {
+        this.childKeyColumn = Objects.requireNonNull(childKeyColumn, "childKeyColumn is null");
+        return this;
+    }
+
+    /**
+     * Declares that all rows of a parent are adjacent, e.g. because the query orders by the parent key. Parents are
+     * then streamed with bounded memory. If the rows are not grouped by key, a parent whose rows are not adjacent is
+     * returned more than once.
+     *
+     * @return this
+     */
+    public JoinReduction<P, C> sortedByKey() {
+        this.sortedByKey = true;
+        return this;
+    }
+
+    /**
+     * Reduces the rows and returns a stream of parents in the order of their first row.
+     * <p>
+     * Note: the returned stream owns database resources, and must be closed via a call to {@link Stream#close()}, or
+     * by using the stream in a try-with-resources block.
+     *
+     * @param linker adds a child to its parent
+     * @return the stream of parents
+     */
+    public Stream<P> stream(BiConsumer<? super P, ? super C> linker) {
+        Objects.requireNonNull(linker, "linker is null");
+        if (keyColumn == null) {
+            throw new IllegalStateException("No parent key column, call on(String) first");
+        }
+
+        final String key = keyColumn;
+        final String childKey = childKeyColumn;
+        final boolean sorted = sortedByKey;
+        return resultBearing.scanResultSet((supplier, ctx) ->
+            ResultIterable.of(new JoinedResultIterator<>(supplier, ctx, parentType, childType, key, childKey, linker, sorted)).stream());
+    }
+
+    /**
+     * Reduces the rows and returns the parents in the order of their first row.
+     *
+     * @param linker adds a child to its parent
+     * @return the list of parents
+     */
+    public List<P> list(BiConsumer<? super P, ? super C> linker) {
+        try (Stream<P> stream = stream(linker)) {
+            return stream.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", JoinReduction.class.getSimpleName() + "[", "]")
+            .add("parentType=" + parentType.getName())
+            .add("childType=" + childType.getName())
+            .add("keyColumn=" + keyColumn)
+            .add("childKeyColumn=" + childKeyColumn)
+            .add("sortedByKey=" + sortedByKey)
+            .toString();
+    }
+}
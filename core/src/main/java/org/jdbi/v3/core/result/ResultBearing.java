@@ -36,8 +36,10 @@ import org.jdbi.v3.core.mapper.RowViewMapper;
 import org.jdbi.v3.core.mapper.SingleColumnMapper;
 import org.jdbi.v3.core.mapper.reflect.BeanMapper;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.core.result.internal.PrimitiveResultIterables;
 import org.jdbi.v3.core.result.internal.RowViewImpl;
 import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.meta.Alpha;
 
 /**
  * Provides access to the contents of a {@link ResultSet} by mapping to Java types.
@@ -133,6 +135,78 @@ public interface ResultBearing {
         });
     }
 
+    /**
+     * Maps a column of this result set to a {@code long} without boxing. Registered column mappers are not used.
+     *
+     * @param column the column index, starting with 1
+     * @return the column values
+     * @since 3.45.1
+     */
+    @Alpha
+    default LongResultIterable mapToLong(int column) {
+        return scanResultSet((resultSetSupplier, ctx) -> PrimitiveResultIterables.ofLong(resultSetSupplier, column, null, ctx));
+    }
+
+    /**
+     * Maps a column of this result set to a {@code long} without boxing. Registered column mappers are not used.
+     *
+     * @param column the column label
+     * @return the column values
+     * @since 3.45.1
+     */
+    @Alpha
+    default LongResultIterable mapToLong(String column) {
+        return scanResultSet((resultSetSupplier, ctx) -> PrimitiveResultIterables.ofLong(resultSetSupplier, 0, column, ctx));
+    }
+
+    /**
+     * Maps a column of this result set to an {@code int} without boxing. Registered column mappers are not used.
+     *
+     * @param column the column index, starting with 1
+     * @return the column values
+     * @since 3.45.1
+     */
+    @Alpha
+    default IntResultIterable mapToInt(int column) {
+        return scanResultSet((resultSetSupplier, ctx) -> PrimitiveResultIterables.ofInt(resultSetSupplier, column, null, ctx));
+    }
+
+    /**
+     * Maps a column of this result set to an {@code int} without boxing. Registered column mappers are not used.
+     *
+     * @param column the column label
+     * @return the column values
+     * @since 3.45.1
+     */
+    @Alpha
+    default IntResultIterable mapToInt(String column) {
+        return scanResultSet((resultSetSupplier, ctx) -> PrimitiveResultIterables.ofInt(resultSetSupplier, 0, column, ctx));
+    }
+
+    /**
+     * Maps a column of this result set to a {@code double} without boxing. Registered column mappers are not used.
+     *
+     * @param column the column index, starting with 1
+     * @return the column values
+     * @since 3.45.1
+     */
+    @Alpha
+    default DoubleResultIterable mapToDouble(int column) {
+        return scanResultSet((resultSetSupplier, ctx) -> PrimitiveResultIterables.ofDouble(resultSetSupplier, column, null, ctx));
+    }
+
+    /**
+     * Maps a column of this result set to a {@code double} without boxing. Registered column mappers are not used.
+     *
+     * @param column the column label
+     * @return the column values
+     * @since 3.45.1
+     */
+    @Alpha
+    default DoubleResultIterable mapToDouble(String column) {
+        return scanResultSet((resultSetSupplier, ctx) -> PrimitiveResultIterables.ofDouble(resultSetSupplier, 0, column, ctx));
+    }
+
     /**
      * Maps this result set to a {@link ResultIterable} of the given element type, using {@link BeanMapper}.
      *
@@ -281,6 +355,29 @@ public interface ResultBearing {
         });
     }
 
+    /**
+     * Reduces the rows of a one-to-many join into parent objects that hold their children. Unlike
+     * {@link #reduceRows(BiConsumer)}, the parent and child row mappers are specialized once for the result set and,
+     * if the rows are sorted by the parent key, parents are streamed without reading the whole result first.
+     * <pre>{@code
+     * List<Contact> contacts = query.reduceJoined(Contact.class, Phone.class)
+     *     .on("c_id")
+     *     .sortedByKey()
+     *     .list(Contact::addPhone);
+     * }</pre>
+     *
+     * @param parentType the parent type, mapped with its registered row mapper
+     * @param childType the child type, mapped with its registered row mapper
+     * @param <P> the parent type
+     * @param <C> the child type
+     * @return a {@link JoinReduction} to configure the key columns and run the reduction
+     * @since 3.45.1
+     */
+    @Alpha
+    default <P, C> JoinReduction<P, C> reduceJoined(Class<P> parentType, Class<C> childType) {
+        return new JoinReduction<>(this, parentType, childType);
+    }
+
     /**
      * Reduce the results.  Using a {@code ResultSetAccumulator}, repeatedly
      * combine query results until only a single value remains.
@@ -22,6 +22,7 @@ import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -34,6 +35,7 @@ import java.util.stream.StreamSupport;
 
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.result.internal.PipelinedResultIterator;
 import org.jdbi.v3.core.result.internal.ResultSetResultIterable;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.meta.Alpha;
@@ -524,6 +526,55 @@ public interface ResultIterable<T> extends Iterable<T> {
 
     }
 
+    /**
+     * Returns a {@link ResultIterable} that reads rows ahead on another thread. Reading from the database overlaps with
+     * the processing of the returned rows; at most {@code bufferRows} rows are read ahead. Rows are returned in the
+     * same order as without pipelining.
+     * <br>
+     * This is a shortcut for {@link #pipelined(int, int, Executor) pipelined(bufferRows, 1, executor)}.
+     *
+     * @param bufferRows the maximum number of rows that are read ahead
+     * @param executor runs the pipeline tasks
+     * @return the new result iterable
+     * @since 3.45.1
+     */
+    @Alpha
+    default ResultIterable<T> pipelined(int bufferRows, Executor executor) {
+        return pipelined(bufferRows, 1, executor);
+    }
+
+    /**
+     * Returns a {@link ResultIterable} that reads and maps rows ahead on other threads. Rows are returned in the same
+     * order as without pipelining.
+     * <p>
+     * If this iterable is mapped directly from a result set, one task reads rows from the result set and copies their
+     * column values into a buffer of at most {@code bufferRows} rows, while {@code mappingThreads} tasks map the
+     * copied rows with the row mapper. This lets the database fetch overlap with expensive mapping (e.g. JSON
+     * columns or nested beans). The row mapper sees a detached copy of each row, where values were read with the
+     * standard getter for their SQL type and large objects are held in memory, so it must not move the cursor or rely
+     * on driver specific result set types. Row mappers must be thread safe if more than one mapping thread is used.
+     * If a column has a vendor specific or structured SQL type (e.g. {@link java.sql.Types#OTHER} or
+     * {@link java.sql.Types#ARRAY}), rows can not be copied and the reading task maps them with the original result
+     * set instead.
+     * <br>
+     * Otherwise (e.g. after {@link #map(Function)} or {@link #filter(Predicate)}), a single task reads ahead from
+     * {@link #iterator()} and {@code mappingThreads} is ignored.
+     * <p>
+     * The executor must be able to run {@code mappingThreads + 1} tasks at the same time. Closing the iterator or
+     * stream stops the pipeline and waits for its tasks before the statement resources are released.
+     *
+     * @param bufferRows the maximum number of rows that are read ahead
+     * @param mappingThreads the number of tasks that map rows
+     * @param executor runs the pipeline tasks
+     * @return the new result iterable
+     * @since 3.45.1
+     */
+    @Alpha
+    default ResultIterable<T> pipelined(int bufferRows, int mappingThreads, Executor executor) {
+        PipelinedResultIterator.checkArguments(bufferRows, mappingThreads, executor);
+        return () -> PipelinedResultIterator.readAhead(iterator(), bufferRows, executor);
+    }
+
     /**
      * An implementation of {@link ResultIterator} that delegates calls
      * to the iterator provided in the constructor.
@@ -0,0 +1,344 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.mapper.NoSuchMapperException;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Folds the rows of a one-to-many join into parent objects. Parent and child row mappers are specialized once for the
+ * result set and the key columns are resolved once, so reducing a row does not look up mappers.
+ * <p>
+ * If the rows are sorted (or at least grouped) by the parent key, parents are produced one at a time as soon as the
+ * key changes and only the current parent is held in memory. Otherwise all rows are read on the first call to
+ * {@link #hasNext()} and the parents are indexed by key in an open addressing hash table.
+ */
+public final class JoinedResultIterator<P, C> implements ResultIterator<P> {
+
+    private static final Object NULL_KEY = new Object();
+
+    private final ResultSet resultSet;
+    private final ResultSetSupplier resultSetSupplier;
+    private final StatementContext context;
+    private final BiConsumer<? super P, ? super C> linker;
+    private final boolean sortedByKey;
+
+    private final RowMapper<P> parentMapper;
+    private final RowMapper<C> childMapper;
+    private final int keyColumn;
+    // 0 if every row has a child
+    private final int childKeyColumn;
+
+    // sorted: the parent that is currently being reduced
+    private P current;
+    private Object currentKey;
+    private boolean hasCurrent = false;
+
+    // unsorted: all parents in the order of their first row
+    private Iterator<P> reduced;
+
+    private P next;
+    private boolean hasNext = false;
+    private boolean exhausted = false;
+    private boolean closed = false;
+
+    /**
+     * Creates the iterator and specializes the row mappers.
+     *
+     * @param resultSetSupplier supplies the result set
+     * @param context the statement context
+     * @param parentType the parent type, mapped with the registered row mapper
+     * @param childType the child type, mapped with the registered row mapper
+     * @param keyColumn the column that holds the parent key
+     * @param childKeyColumn a column that is {@code null} if a row has no child, or {@code null}
+     * @param linker adds a child to its parent
+     * @param sortedByKey true if all rows of a parent are adjacent
+     * @throws SQLException if the result set can not be read
+     */
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    public JoinedResultIterator(Supplier<ResultSet> resultSetSupplier,
+        StatementContext context,
+        Class<P> parentType,
+        Class<C> childType,
+        String keyColumn,
+        String childKeyColumn,
+        BiConsumer<? super P, ? super C> linker,
+        boolean sortedByKey) throws SQLException {
+
+        this.context = context;
+        this.linker = linker;
+        this.sortedByKey = sortedByKey;
+
+        if (resultSetSupplier instanceof ResultSetSupplier) {
+            this.resultSetSupplier = (ResultSetSupplier) resultSetSupplier;
+        } else {
+            this.resultSetSupplier = ResultSetSupplier.closingContext(resultSetSupplier, context);
+        }
+
+        this.resultSet = this.resultSetSupplier.get();
+
+        if (resultSet == null) {
+            close();
+            this.parentMapper = null;
+            this.childMapper = null;
+            this.keyColumn = 0;
+            this.childKeyColumn = 0;
+            return;
+        }
+
+        try {
+            context.addCleanable(resultSet::close);
+            this.parentMapper = specialize(parentType);
+            this.childMapper = specialize(childType);
+            this.keyColumn = resultSet.findColumn(keyColumn);
+            this.childKeyColumn = childKeyColumn == null ? 0 : resultSet.findColumn(childKeyColumn);
+        } catch (SQLException | RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private <T> RowMapper<T> specialize(Class<T> type) throws SQLException {
+        return context.findRowMapperFor(type)
+            .orElseThrow(() -> new NoSuchMapperException("No row mapper registered for " + type))
+            .specialize(resultSet, context);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (hasNext) {
+            return true;
+        }
+        if (closed || exhausted) {
+            return false;
+        }
+
+        try {
+            if (sortedByKey) {
+                reduceNextGroup();
+            } else {
+                nextReduced();
+            }
+        } catch (SQLException e) {
+            throw new ResultSetException("Exception thrown reducing result set", e, context);
+        }
+
+        if (!hasNext) {
+            close();
+        }
+        return hasNext;
+    }
+
+    @Override
+    public P next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No element to advance to");
+        }
+        final P result = next;
+        next = null;
+        hasNext = false;
+        return result;
+    }
+
+    private void reduceNextGroup() throws SQLException {
+        while (advance()) {
+            final Object key = readKey();
+            if (hasCurrent && Objects.equals(key, currentKey)) {
+                addChild(current);
+                continue;
+            }
+
+            final boolean finished = hasCurrent;
+            final P previous = current;
+
+            current = parentMapper.map(resultSet, context);
+            currentKey = key;
+            hasCurrent = true;
+            addChild(current);
+
+            if (finished) {
+                emit(previous);
+                return;
+            }
+        }
+
+        exhausted = true;
+        if (hasCurrent) {
+            hasCurrent = false;
+            emit(current);
+            current = null;
+        }
+    }
+
+    private void nextReduced() throws SQLException {
+        if (reduced == null) {
+            reduced = reduceAll().iterator();
+        }
+        if (reduced.hasNext()) {
+            emit(reduced.next());
+        } else {
+            exhausted = true;
+        }
+    }
+
+    private List<P> reduceAll() throws SQLException {
+        final List<P> parents = new ArrayList<>();
+        final KeyIndex index = new KeyIndex();
+
+        while (advance()) {
+            final Object key = readKey();
+            int slot = index.get(key);
+            if (slot < 0) {
+                slot = parents.size();
+                parents.add(parentMapper.map(resultSet, context));
+                index.put(key, slot);
+            }
+            addChild(parents.get(slot));
+        }
+        return parents;
+    }
+
+    private Object readKey() throws SQLException {
+        final Object key = resultSet.getObject(keyColumn);
+        if (key instanceof byte[]) {
+            // arrays do not implement equals, compare binary keys by content
+            return ByteBuffer.wrap((byte[]) key);
+        }
+        if (key != null && key.getClass().isArray()) {
+            throw new UnableToProduceResultException("Unsupported parent key type " + key.getClass().getTypeName() + " in column " + keyColumn, context);
+        }
+        return key;
+    }
+
+    private void addChild(P parent) throws SQLException {
+        if (childKeyColumn > 0) {
+            resultSet.getObject(childKeyColumn);
+            if (resultSet.wasNull()) {
+                return;
+            }
+        }
+        final C child = childMapper.map(resultSet, context);
+        if (child != null) {
+            linker.accept(parent, child);
+        }
+    }
+
+    private void emit(P parent) {
+        next = parent;
+        hasNext = true;
+    }
+
+    private boolean advance() {
+        try {
+            return resultSet.next();
+        } catch (SQLException e) {
+            throw new ResultSetException("Unable to advance result set", e, context);
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        current = null;
+        reduced = null;
+        try {
+            resultSetSupplier.close();
+        } catch (SQLException e) {
+            throw Sneaky.throwAnyway(e);
+        }
+    }
+
+    @Override
+    public StatementContext getContext() {
+        return context;
+    }
+
+    /**
+     * Maps parent keys to their position in the parent list. Uses open addressing with linear probing, so indexing
+     * a parent does not allocate a map entry.
+     */
+    static final class KeyIndex {
+
+        private Object[] keys = new Object[64];
+        private int[] slots = new int[64];
+        private int size = 0;
+
+        int get(Object key) {
+            final Object k = key == null ? NULL_KEY : key;
+            final int mask = keys.length - 1;
+            for (int i = hash(k) & mask; keys[i] != null; i = (i + 1) & mask) {
+                if (keys[i].equals(k)) {
+                    return slots[i];
+                }
+            }
+            return -1;
+        }
+
+        void put(Object key, int slot) {
+            if (2 * (size + 1) > keys.length) {
+                resize();
+            }
+            insert(key == null ? NULL_KEY : key, slot);
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        private void insert(Object key, int slot) {
+            final int mask = keys.length - 1;
+            int i = hash(key) & mask;
+            while (keys[i] != null) {
+                i = (i + 1) & mask;
+            }
+            keys[i] = key;
+            slots[i] = slot;
+        }
+
+        private void resize() {
+            final Object[] oldKeys = keys;
+            final int[] oldSlots = slots;
+            keys = new Object[oldKeys.length * 2];
+            slots = new int[oldSlots.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    insert(oldKeys[i], oldSlots[i]);
+                }
+            }
+        }
+
+        private static int hash(Object key) {
+            // spread the bits, sequential ids would otherwise cluster
+            final int h = key.hashCode() * 0x9E3779B9;
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,506 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.jfr.JfrEvents;
+import org.jdbi.v3.core.jfr.JfrEvents.ActiveEvent;
+import org.jdbi.v3.core.jfr.JfrEvents.EventType;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.core.statement.Cleanable;
+import org.jdbi.v3.core.statement.JdbiMetrics;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * A result iterator that reads ahead on other threads. A reader task advances the cursor and copies each row into a
+ * bounded buffer while mapping tasks map the copied rows, so fetching from the database and mapping overlap. Rows are
+ * returned in result set order.
+ * <p>
+ * Only the reader task touches the JDBC result set. When the iterator is closed, it stops all tasks, waits for them
+ * to finish and then releases the statement resources on the closing thread.
+ */
+public final class PipelinedResultIterator<T> implements ResultIterator<T> {
+
+    private static final long POLL_MILLIS = 50;
+
+    private static final Slot END = new Slot(null, 0);
+
+    private final StatementContext context;
+    private final Cleanable source;
+    private final BlockingQueue<Slot> rows;
+    private final BlockingQueue<Slot> unmapped = new LinkedBlockingQueue<>();
+    private final List<Task> tasks = new ArrayList<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+
+    // null if metrics are disabled
+    private final JdbiMetrics metrics;
+    // null if the event is not recorded
+    private final ActiveEvent iterationEvent;
+    private final LongAdder mappingNanos = new LongAdder();
+    private long mappedRows;
+
+    private volatile boolean cancelled = false;
+    private boolean closed = false;
+    private Slot next = null;
+
+    private PipelinedResultIterator(StatementContext context, Cleanable source, int bufferRows) {
+        this.context = context;
+        this.source = source;
+        this.rows = new ArrayBlockingQueue<>(bufferRows);
+
+        this.metrics = context.getMetrics();
+        this.iterationEvent = context.getConfig(JfrEvents.class).begin(EventType.RESULT_SET_ITERATION);
+    }
+
+    /**
+     * Reads and maps the rows of a result set. One task reads rows from the result set and
+     * {@code mappingThreads} tasks map them. If the result set has columns that can not be buffered (see
+     * {@link BufferedRowResultSet#isBufferable(int[])}), the reader task maps the rows itself.
+     *
+     * @param resultSetSupplier supplies the result set
+     * @param rowMapper the row mapper, it is specialized for the result set before any rows are read
+     * @param context the statement context
+     * @param bufferRows the maximum number of rows that are read ahead
+     * @param mappingThreads the number of tasks that map rows
+     * @param executor runs the reader and mapping tasks, it needs {@code mappingThreads + 1} threads to make progress
+     * @param <T> the mapped type
+     * @return an iterator over the mapped rows
+     * @throws SQLException if the row mapper can not be specialized
+     */
+    public static <T> ResultIterator<T> mapping(Supplier<ResultSet> resultSetSupplier,
+        RowMapper<T> rowMapper,
+        StatementContext context,
+        int bufferRows,
+        int mappingThreads,
+        Executor executor) throws SQLException {
+
+        final ResultSetSupplier supplier = resultSetSupplier instanceof ResultSetSupplier
+            ? (ResultSetSupplier) resultSetSupplier
+            : ResultSetSupplier.closingContext(resultSetSupplier, context);
+
+        final PipelinedResultIterator<T> iterator = new PipelinedResultIterator<>(context, supplier, bufferRows);
+        final ResultSet resultSet = supplier.get();
+        if (resultSet == null) {
+            iterator.close();
+            return iterator;
+        }
+
+        try {
+            context.addCleanable(resultSet::close);
+            final RowMapper<T> mapper = rowMapper.specialize(resultSet, context);
+            final ResultSetMetaData metaData = resultSet.getMetaData();
+            final int[] columnTypes = BufferedRowResultSet.columnTypes(metaData);
+
+            if (BufferedRowResultSet.isBufferable(columnTypes)) {
+                final Map<String, Integer> columnIndexes = BufferedRowResultSet.columnIndexes(metaData);
+                iterator.tasks.add(iterator.new Task(() -> iterator.read(resultSet, columnTypes, mappingThreads)));
+                for (int i = 0; i < mappingThreads; i++) {
+                    iterator.tasks.add(iterator.new Task(() -> iterator.map(mapper, new BufferedRowResultSet(metaData, columnIndexes))));
+                }
+            } else {
+                // driver specific column values can not be copied, so map on the reader task
+                iterator.tasks.add(iterator.new Task(() -> iterator.readAndMap(resultSet, mapper)));
+            }
+        } catch (SQLException | RuntimeException e) {
+            iterator.close();
+            throw e;
+        }
+
+        iterator.start(executor);
+        return iterator;
+    }
+
+    /**
+     * Reads ahead from another iterator. A single task reads and maps the rows.
+     *
+     * @param delegate the iterator to read from
+     * @param bufferRows the maximum number of rows that are read ahead
+     * @param executor runs the reader task
+     * @param <T> the mapped type
+     * @return an iterator over the rows of the delegate
+     */
+    public static <T> ResultIterator<T> readAhead(ResultIterator<T> delegate, int bufferRows, Executor executor) {
+        final PipelinedResultIterator<T> iterator = new PipelinedResultIterator<>(delegate.getContext(), delegate::close, bufferRows);
+        iterator.tasks.add(iterator.new Task(() -> iterator.readAhead(delegate)));
+        iterator.start(executor);
+        return iterator;
+    }
+
+    /**
+     * Validates the pipeline arguments.
+     *
+     * @param bufferRows the maximum number of rows that are read ahead
+     * @param mappingThreads the number of tasks that map rows
+     * @param executor runs the pipeline tasks
+     */
+    public static void checkArguments(int bufferRows, int mappingThreads, Executor executor) {
+        if (bufferRows < 1) {
+            throw new IllegalArgumentException("bufferRows must be at least 1, got " + bufferRows);
+        }
+        if (mappingThreads < 1) {
+            throw new IllegalArgumentException("mappingThreads must be at least 1, got " + mappingThreads);
+        }
+        Objects.requireNonNull(executor, "executor is null");
+    }
+
+    private void start(Executor executor) {
+        try {
+            for (Task task : tasks) {
+                executor.execute(task);
+            }
+        } catch (RejectedExecutionException e) {
+            close();
+            throw e;
+        }
+    }
+
+    private void read(ResultSet resultSet, int[] columnTypes, int mappingThreads) throws InterruptedException {
+        int row = 0;
+        while (!cancelled && advance(resultSet)) {
+            final Slot slot;
+            try {
+                slot = new Slot(BufferedRowResultSet.copyRow(resultSet, columnTypes), ++row);
+            } catch (SQLException e) {
+                throw new ResultSetException("Unable to read row " + row + " from result set", e, context);
+            }
+            if (!offer(slot)) {
+                return;
+            }
+            unmapped.add(slot);
+        }
+        offer(END);
+        for (int i = 0; i < mappingThreads; i++) {
+            unmapped.add(END);
+        }
+    }
+
+    private void readAndMap(ResultSet resultSet, RowMapper<T> mapper) throws InterruptedException {
+        while (!cancelled && advance(resultSet)) {
+            final Slot slot = new Slot(null, 0);
+            final long start = metrics != null ? System.nanoTime() : 0L;
+            try {
+                slot.complete(mapper.map(resultSet, context));
+            } catch (SQLException e) {
+                throw new ResultSetException("Exception thrown mapping result set into return type", e, context);
+            } finally {
+                if (metrics != null) {
+                    mappingNanos.add(System.nanoTime() - start);
+                }
+            }
+            if (!offer(slot)) {
+                return;
+            }
+        }
+        offer(END);
+    }
+
+    private boolean advance(ResultSet resultSet) {
+        try {
+            return resultSet.next();
+        } catch (SQLException e) {
+            throw new ResultSetException("Unable to advance result set", e, context);
+        }
+    }
+
+    private void map(RowMapper<T> mapper, BufferedRowResultSet row) throws InterruptedException {
+        while (!cancelled) {
+            final Slot slot = unmapped.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+            if (slot == END) {
+                return;
+            }
+            if (slot != null) {
+                row.setRow(slot.values, slot.row);
+                final long start = metrics != null ? System.nanoTime() : 0L;
+                try {
+                    slot.complete(mapper.map(row, context));
+                } catch (SQLException e) {
+                    fail(new ResultSetException("Exception thrown mapping result set into return type", e, context));
+                    slot.complete(END);
+                    return;
+                } catch (Throwable t) {
+                    // record the failure before the consumer can see the failed slot
+                    fail(t);
+                    slot.complete(END);
+                    return;
+                } finally {
+                    if (metrics != null) {
+                        mappingNanos.add(System.nanoTime() - start);
+                    }
+                }
+            }
+        }
+    }
+
+    private void readAhead(ResultIterator<T> delegate) throws InterruptedException {
+        while (!cancelled && delegate.hasNext()) {
+            final Slot slot = new Slot(null, 0);
+            slot.complete(delegate.next());
+            if (!offer(slot)) {
+                return;
+            }
+        }
+        offer(END);
+    }
+
+    private boolean offer(Slot slot) throws InterruptedException {
+        while (!cancelled) {
+            if (rows.offer(slot, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void fail(Throwable t) {
+        if (!failure.compareAndSet(null, t)) {
+            failure.get().addSuppressed(t);
+        }
+        cancelled = true;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (closed) {
+            return false;
+        }
+        if (next != null) {
+            return true;
+        }
+
+        try {
+            while (true) {
+                checkFailure();
+                final Slot slot = rows.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (slot == END) {
+                    close();
+                    return false;
+                }
+                if (slot != null) {
+                    next = slot;
+                    return true;
+                }
+            }
+        } catch (InterruptedException e) {
+            throw interrupted(e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No element to advance to");
+        }
+
+        final Slot slot = next;
+        next = null;
+        try {
+            while (!slot.await(POLL_MILLIS)) {
+                checkFailure();
+            }
+        } catch (InterruptedException e) {
+            throw interrupted(e);
+        }
+        if (slot.result == END) {
+            checkFailure();
+        }
+        mappedRows++;
+        return (T) slot.result;
+    }
+
+    private void checkFailure() {
+        final Throwable t = failure.get();
+        if (t == null) {
+            return;
+        }
+        close();
+        if (t instanceof RuntimeException) {
+            throw (RuntimeException) t;
+        }
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        throw new UnableToProduceResultException((Exception) t, context);
+    }
+
+    private RuntimeException interrupted(InterruptedException e) {
+        close();
+        Thread.currentThread().interrupt();
+        return new UnableToProduceResultException("Interrupted while waiting for rows", e, context);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        cancelled = true;
+
+        for (Task task : tasks) {
+            task.cancel();
+        }
+        rows.clear();
+        for (Task task : tasks) {
+            task.awaitDone();
+        }
+
+        if (metrics != null) {
+            metrics.recordMapping(context, mappedRows, mappingNanos.sum());
+        }
+        iterationEvent.finish(context, mappedRows);
+
+        try {
+            source.close();
+        } catch (SQLException e) {
+            throw Sneaky.throwAnyway(e);
+        }
+    }
+
+    @Override
+    public StatementContext getContext() {
+        return context;
+    }
+
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("Deleting from a result set iterator is not yet supported");
+    }
+
+    @FunctionalInterface
+    private interface TaskBody {
+        void run() throws InterruptedException;
+    }
+
+    /**
+     * A row in the buffer. The reader task creates the slot with the copied column values, a mapping task completes
+     * it with the mapped row. Uses a lock instead of monitors, so waiting does not pin virtual threads.
+     */
+    private static final class Slot {
+
+        private static final Object PENDING = new Object();
+
+        private final Object[] values;
+        private final int row;
+        private final Lock lock = new ReentrantLock();
+        private final Condition completed = lock.newCondition();
+        private Object result = PENDING;
+
+        Slot(Object[] values, int row) {
+            this.values = values;
+            this.row = row;
+        }
+
+        void complete(Object value) {
+            lock.lock();
+            try {
+                this.result = value;
+                completed.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        boolean await(long millis) throws InterruptedException {
+            lock.lock();
+            try {
+                if (result == PENDING) {
+                    completed.await(millis, TimeUnit.MILLISECONDS);
+                }
+                return result != PENDING;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Runs a pipeline stage on the executor. A task that was cancelled before it started never runs, so closing the
+     * iterator does not wait for tasks that the executor has not started yet.
+     */
+    private final class Task implements Runnable {
+
+        private final TaskBody body;
+        private final AtomicBoolean started = new AtomicBoolean();
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        Task(TaskBody body) {
+            this.body = body;
+        }
+
+        @Override
+        public void run() {
+            if (!started.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                body.run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(new UnableToProduceResultException("Interrupted while reading rows", e, context));
+            } catch (Throwable t) {
+                fail(t);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        void cancel() {
+            if (started.compareAndSet(false, true)) {
+                done.countDown();
+            }
+        }
+
+        void awaitDone() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.lang.reflect.Type;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import org.jdbi.v3.core.collector.JdbiCollectors;
+import org.jdbi.v3.core.collector.NoSuchCollectorException;
+import org.jdbi.v3.core.internal.UtilityClassException;
+import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.jfr.JfrEvents;
+import org.jdbi.v3.core.jfr.JfrEvents.ActiveEvent;
+import org.jdbi.v3.core.jfr.JfrEvents.EventType;
+import org.jdbi.v3.core.mapper.ColumnMappers;
+import org.jdbi.v3.core.result.DoubleResultIterable;
+import org.jdbi.v3.core.result.IntResultIterable;
+import org.jdbi.v3.core.result.LongResultIterable;
+import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.core.statement.JdbiMetrics;
+import org.jdbi.v3.core.statement.StatementContext;
+
+/**
+ * Reads a single column from a result set into primitive streams.
+ */
+public final class PrimitiveResultIterables {
+
+    private static final int CHARACTERISTICS = Spliterator.ORDERED | Spliterator.NONNULL;
+
+    private PrimitiveResultIterables() {
+        throw new UtilityClassException();
+    }
+
+    public static LongResultIterable ofLong(Supplier<ResultSet> resultSetSupplier, int index, String name, StatementContext ctx) {
+        return new LongResultIterable() {
+            @Override
+            public LongStream stream() {
+                final Cursor cursor = new Cursor(resultSetSupplier, index, name, ctx);
+                return StreamSupport.longStream(new Spliterators.AbstractLongSpliterator(Long.MAX_VALUE, CHARACTERISTICS) {
+                    @Override
+                    public boolean tryAdvance(LongConsumer action) {
+                        if (!cursor.next()) {
+                            return false;
+                        }
+                        final long value;
+                        try {
+                            value = cursor.resultSet.getLong(cursor.column);
+                            cursor.checkNull();
+                        } catch (SQLException e) {
+                            throw cursor.mappingFailed(e);
+                        }
+                        action.accept(value);
+                        return true;
+                    }
+                }, false).onClose(cursor::close);
+            }
+
+            @Override
+            public Object collectInto(Type containerType) {
+                return collect(LongStream.class, containerType, this::stream, ctx);
+            }
+        };
+    }
+
+    public static IntResultIterable ofInt(Supplier<ResultSet> resultSetSupplier, int index, String name, StatementContext ctx) {
+        return new IntResultIterable() {
+            @Override
+            public IntStream stream() {
+                final Cursor cursor = new Cursor(resultSetSupplier, index, name, ctx);
+                return StreamSupport.intStream(new Spliterators.AbstractIntSpliterator(Long.MAX_VALUE, CHARACTERISTICS) {
+                    @Override
+                    public boolean tryAdvance(IntConsumer action) {
+                        if (!cursor.next()) {
+                            return false;
+                        }
+                        final int value;
+                        try {
+                            value = cursor.resultSet.getInt(cursor.column);
+                            cursor.checkNull();
+                        } catch (SQLException e) {
+                            throw cursor.mappingFailed(e);
+                        }
+                        action.accept(value);
+                        return true;
+                    }
+                }, false).onClose(cursor::close);
+            }
+
+            @Override
+            public Object collectInto(Type containerType) {
+                return collect(IntStream.class, containerType, this::stream, ctx);
+            }
+        };
+    }
+
+    public static DoubleResultIterable ofDouble(Supplier<ResultSet> resultSetSupplier, int index, String name, StatementContext ctx) {
+        return new DoubleResultIterable() {
+            @Override
+            public DoubleStream stream() {
+                final Cursor cursor = new Cursor(resultSetSupplier, index, name, ctx);
+                return StreamSupport.doubleStream(new Spliterators.AbstractDoubleSpliterator(Long.MAX_VALUE, CHARACTERISTICS) {
+                    @Override
+                    public boolean tryAdvance(DoubleConsumer action) {
+                        if (!cursor.next()) {
+                            return false;
+                        }
+                        final double value;
+                        try {
+                            value = cursor.resultSet.getDouble(cursor.column);
+                            cursor.checkNull();
+                        } catch (SQLException e) {
+                            throw cursor.mappingFailed(e);
+                        }
+                        action.accept(value);
+                        return true;
+                    }
+                }, false).onClose(cursor::close);
+            }
+
+            @Override
+            public Object collectInto(Type containerType) {
+                return collect(DoubleStream.class, containerType, this::stream, ctx);
+            }
+        };
+    }
+
+    private static <S extends BaseStream<?, S>> Object collect(Class<S> streamType, Type containerType, Supplier<S> streamSupplier, StatementContext ctx) {
+        final Function<? super S, ?> collector = ctx.getConfig(JdbiCollectors.class).findPrimitiveCollectorFor(streamType, containerType)
+            .orElseThrow(() -> new NoSuchCollectorException("No primitive collector registered for container type " + containerType));
+        try (S stream = streamSupplier.get()) {
+            return collector.apply(stream);
+        }
+    }
+
+    /**
+     * The result set of a primitive stream. Resolves the column and the null handling once per result set.
+     */
+    private static final class Cursor {
+        private final ResultSetSupplier resultSetSupplier;
+        private final StatementContext context;
+        private final ResultSet resultSet;
+        private final int column;
+        private final boolean coalesceNulls;
+
+        // null if metrics are disabled
+        private final JdbiMetrics metrics;
+        // null if the event is not recorded
+        private final ActiveEvent iterationEvent;
+        private final long start;
+        private long rows;
+        private boolean closed;
+
+        Cursor(Supplier<ResultSet> resultSetSupplier, int index, String name, StatementContext context) {
+            this.context = context;
+
+            this.metrics = context.getMetrics();
+            this.iterationEvent = context.getConfig(JfrEvents.class).begin(EventType.RESULT_SET_ITERATION);
+            this.coalesceNulls = context.getConfig(ColumnMappers.class).getCoalesceNullPrimitivesToDefaults();
+
+            if (resultSetSupplier instanceof ResultSetSupplier) {
+                this.resultSetSupplier = (ResultSetSupplier) resultSetSupplier;
+            } else {
+                this.resultSetSupplier = ResultSetSupplier.closingContext(resultSetSupplier, context);
+            }
+
+            this.resultSet = this.resultSetSupplier.get();
+            this.start = metrics != null ? System.nanoTime() : 0L;
+
+            if (resultSet == null) {
+                this.column = 0;
+                close();
+                return;
+            }
+
+            context.addCleanable(resultSet::close);
+            try {
+                this.column = name == null ? index : resultSet.findColumn(name);
+            } catch (SQLException e) {
+                close();
+                throw new ResultSetException("Unable to find column " + name, e, context);
+            }
+        }
+
+        boolean next() {
+            if (closed) {
+                return false;
+            }
+            final boolean hasNext;
+            try {
+                hasNext = resultSet.next();
+            } catch (SQLException e) {
+                close();
+                throw new ResultSetException("Unable to advance result set", e, context);
+            }
+            if (hasNext) {
+                rows++;
+            } else {
+                close();
+            }
+            return hasNext;
+        }
+
+        void checkNull() throws SQLException {
+            if (!coalesceNulls && resultSet.wasNull()) {
+                String msg = String.format("Database null values are not allowed for Java primitives by the current configuration:"
+                    + " could not map column %s (%s)."
+                    + " Use a boxed type to resolve.", column, resultSet.getMetaData().getColumnLabel(column));
+                close();
+                throw new UnableToProduceResultException(msg, context);
+            }
+        }
+
+        RuntimeException mappingFailed(SQLException e) {
+            close();
+            return new ResultSetException("Exception thrown mapping result set into return type", e, context);
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (metrics != null) {
+                // the whole iteration counts as mapping time, there is no per-row mapper
+                metrics.recordMapping(context, rows, System.nanoTime() - start);
+            }
+            iterationEvent.finish(context, rows);
+            try {
+                resultSetSupplier.close();
+            } catch (SQLException e) {
+                throw Sneaky.throwAnyway(e);
+            }
+        }
+    }
+}
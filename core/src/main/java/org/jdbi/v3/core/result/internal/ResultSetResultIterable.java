@@ -19,8 +19,11 @@ import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 import java.util.stream.Collector;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.jdbi.v3.core.generic.GenericTypes;
 import org.jdbi.v3.core.mapper.RowMapper;
@@ -36,24 +39,66 @@ public class ResultSetResultIterable<T> implements ResultIterable<T> {
     private final StatementContext ctx;
     private final Supplier<ResultSet> resultSetSupplier;
 
+    // null unless pipelined
+    private final Executor executor;
+    private final int bufferRows;
+    private final int mappingThreads;
+
     public ResultSetResultIterable(
             RowMapper<T> mapper,
             StatementContext ctx,
             Supplier<ResultSet> resultSetSupplier) {
+        this(mapper, ctx, resultSetSupplier, null, 0, 0);
+    }
+
+    private ResultSetResultIterable(
+            RowMapper<T> mapper,
+            StatementContext ctx,
+            Supplier<ResultSet> resultSetSupplier,
+            Executor executor,
+            int bufferRows,
+            int mappingThreads) {
         this.mapper = mapper;
         this.ctx = ctx;
         this.resultSetSupplier = resultSetSupplier;
+        this.executor = executor;
+        this.bufferRows = bufferRows;
+        this.mappingThreads = mappingThreads;
     }
 
     @Override
     public ResultIterator<T> iterator() {
         try {
+            if (executor != null) {
+                return PipelinedResultIterator.mapping(resultSetSupplier, mapper, ctx, bufferRows, mappingThreads, executor);
+            }
             return new ResultSetResultIterator<>(resultSetSupplier, mapper, ctx);
         } catch (final SQLException e) {
             throw new ResultSetException("Unable to iterate result set", e, ctx);
         }
     }
 
+    @Override
+    public Stream<T> stream() {
+        if (executor != null) {
+            return ResultIterable.super.stream();
+        }
+        final ResultSetResultIterator<T> iterator;
+        try {
+            iterator = new ResultSetResultIterator<>(resultSetSupplier, mapper, ctx);
+        } catch (final SQLException e) {
+            throw new ResultSetException("Unable to iterate result set", e, ctx);
+        }
+        return StreamSupport.stream(new ResultSetSpliterator<>(iterator), false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public ResultIterable<T> pipelined(int bufferRows, int mappingThreads, Executor executor) {
+        PipelinedResultIterator.checkArguments(bufferRows, mappingThreads, executor);
+        return new ResultSetResultIterable<>(mapper, ctx, resultSetSupplier, executor, bufferRows, mappingThreads);
+    }
+
     @Override
     public <R extends Collection<? super T>> R collectInto(Type containerType) {
 
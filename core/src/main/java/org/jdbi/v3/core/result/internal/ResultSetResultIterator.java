@@ -16,12 +16,17 @@ package org.jdbi.v3.core.result.internal;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.NoSuchElementException;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import org.jdbi.v3.core.internal.exceptions.Sneaky;
+import org.jdbi.v3.core.jfr.JfrEvents;
+import org.jdbi.v3.core.jfr.JfrEvents.ActiveEvent;
+import org.jdbi.v3.core.jfr.JfrEvents.EventType;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.result.ResultIterator;
 import org.jdbi.v3.core.result.ResultSetException;
+import org.jdbi.v3.core.statement.JdbiMetrics;
 import org.jdbi.v3.core.statement.StatementContext;
 
 class ResultSetResultIterator<T> implements ResultIterator<T> {
@@ -31,9 +36,18 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
     private final ResultSetSupplier resultSetSupplier;
     private final StatementContext context;
 
-    private volatile boolean alreadyAdvanced = false;
-    private volatile boolean hasNext = false;
-    private volatile boolean closed = false;
+    // null if metrics are disabled
+    private final JdbiMetrics metrics;
+    // null if the event is not recorded
+    private final ActiveEvent iterationEvent;
+    private final boolean countRows;
+    private long mappedRows;
+    private long mappingNanos;
+
+    // iterators are used by a single thread, so none of the per-row state is volatile
+    private boolean alreadyAdvanced = false;
+    private boolean hasNext = false;
+    private boolean closed = false;
 
     ResultSetResultIterator(Supplier<ResultSet> resultSetSupplier,
         RowMapper<T> rowMapper,
@@ -41,6 +55,10 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
 
         this.context = context;
 
+        this.metrics = context.getMetrics();
+        this.iterationEvent = context.getConfig(JfrEvents.class).begin(EventType.RESULT_SET_ITERATION);
+        this.countRows = metrics != null || iterationEvent.isRecorded();
+
         if (resultSetSupplier instanceof ResultSetSupplier) {
             this.resultSetSupplier = (ResultSetSupplier) resultSetSupplier;
         } else {
@@ -60,6 +78,12 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
 
     @Override
     public void close() {
+        if (!closed) {
+            if (metrics != null) {
+                metrics.recordMapping(context, mappedRows, mappingNanos);
+            }
+            iterationEvent.finish(context, mappedRows);
+        }
         closed = true;
         try {
             resultSetSupplier.close();
@@ -96,18 +120,72 @@ class ResultSetResultIterator<T> implements ResultIterator<T> {
             throw new NoSuchElementException("No element to advance to");
         }
 
+        final long start = metrics != null ? System.nanoTime() : 0L;
         try {
             return rowMapper.map(resultSet, context);
         } catch (SQLException e) {
             throw new ResultSetException("Exception thrown mapping result set into return type", e, context);
         } finally {
             alreadyAdvanced = safeNext();
+            if (countRows) {
+                mappedRows++;
+            }
+            if (metrics != null) {
+                mappingNanos += System.nanoTime() - start;
+            }
             if (!alreadyAdvanced) {
                 close();
             }
         }
     }
 
+    /**
+     * Advances to the next row and maps it in a single step. Unlike {@link #next()}, this does not read ahead
+     * after mapping, so the result set is closed by the call that finds no more rows.
+     */
+    boolean tryAdvance(Consumer<? super T> action) {
+        if (closed) {
+            return false;
+        }
+
+        final long start = metrics != null ? System.nanoTime() : 0L;
+        if (!alreadyAdvanced && !safeNext()) {
+            close();
+            return false;
+        }
+        alreadyAdvanced = false;
+
+        final T row;
+        try {
+            row = rowMapper.map(resultSet, context);
+        } catch (SQLException e) {
+            throw new ResultSetException("Exception thrown mapping result set into return type", e, context);
+        } finally {
+            if (countRows) {
+                mappedRows++;
+            }
+            if (metrics != null) {
+                mappingNanos += System.nanoTime() - start;
+            }
+        }
+        action.accept(row);
+        return true;
+    }
+
+    /**
+     * Returns the fetch size of the result set, or 0 if the driver chooses the fetch size.
+     */
+    int getFetchSize() {
+        if (resultSet == null) {
+            return 0;
+        }
+        try {
+            return resultSet.getFetchSize();
+        } catch (SQLException e) {
+            return 0;
+        }
+    }
+
     @Override
     public StatementContext getContext() {
         return context;
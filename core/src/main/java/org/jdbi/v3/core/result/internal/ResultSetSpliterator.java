@@ -0,0 +1,97 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * An ordered spliterator over a result set. Rows are advanced and mapped in one step, without the
+ * {@code hasNext()}/{@code next()} round trip of an iterator based spliterator. Splitting buffers up to the fetch size
+ * of the result set (at most {@link #MAX_BATCH_SIZE} rows), so a parallel stream hands out rows in the batches that the
+ * driver fetches from the database.
+ * The number of rows is not known up front, so the spliterator is not sized.
+ */
+final class ResultSetSpliterator<T> implements Spliterator<T> {
+
+    static final int DEFAULT_BATCH_SIZE = 1024;
+    static final int MAX_BATCH_SIZE = 1 << 16;
+
+    private static final int INITIAL_BUFFER_SIZE = 64;
+
+    private final ResultSetResultIterator<T> iterator;
+
+    ResultSetSpliterator(ResultSetResultIterator<T> iterator) {
+        this.iterator = iterator;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        return iterator.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super T> action) {
+        while (iterator.tryAdvance(action)) {
+            // keep going
+        }
+    }
+
+    @Override
+    public Spliterator<T> trySplit() {
+        final int fetchSize = iterator.getFetchSize();
+        final Batch batch = new Batch(fetchSize > 0 ? Math.min(fetchSize, MAX_BATCH_SIZE) : DEFAULT_BATCH_SIZE);
+        while (!batch.isFull() && iterator.tryAdvance(batch)) {
+            // fill the batch
+        }
+        return batch.size == 0 ? null : Spliterators.spliterator(batch.rows, 0, batch.size, ORDERED);
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED;
+    }
+
+    // the buffer grows with the rows that are read, a short result set does not allocate a full batch
+    private static final class Batch implements Consumer<Object> {
+
+        private final int maxSize;
+        private Object[] rows;
+        private int size;
+
+        Batch(int maxSize) {
+            this.maxSize = maxSize;
+            this.rows = new Object[Math.min(maxSize, INITIAL_BUFFER_SIZE)];
+        }
+
+        boolean isFull() {
+            return size == maxSize;
+        }
+
+        @Override
+        public void accept(Object row) {
+            if (size == rows.length) {
+                rows = Arrays.copyOf(rows, Math.min(maxSize, rows.length * 2));
+            }
+            rows[size++] = row;
+        }
+    }
+}
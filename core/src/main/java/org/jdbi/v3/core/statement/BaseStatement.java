@@ -33,7 +33,7 @@ abstract class BaseStatement<This> implements Closeable, Configurable<This> {
 
     BaseStatement(Handle handle) {
         this.handle = handle;
-        final ConfigRegistry config = handle.getConfig().createCopy();
+        final ConfigRegistry config = handle.getConfig().createChild();
         this.ctx = StatementContext.create(config, handle.getExtensionMethod());
 
         if (config.get(SqlStatements.class).isAttachAllStatementsForCleanup()) {
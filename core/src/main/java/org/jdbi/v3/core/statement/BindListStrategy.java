@@ -0,0 +1,53 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Describes how {@link SqlStatement#bindList} renders a list of values into the SQL statement. Every distinct
+ * rendering is a distinct SQL statement for the template and parse caches and for the prepared statement cache of
+ * the database.
+ *
+ * @see SqlStatements#setBindListStrategy(BindListStrategy)
+ * @since 3.45.1
+ */
+@Alpha
+public enum BindListStrategy {
+    /**
+     * Binds one parameter for each value. Every list size creates a different statement. This is the default.
+     * <p>
+     * {@code select * from things where x in (:__x_0,:__x_1,:__x_2)}
+     */
+    EXPAND,
+
+    /**
+     * Binds one parameter for each value and pads the list to the next power of two by repeating the last value.
+     * Lists with up to {@code n} values only create {@code log2(n)} different statements. Only use this for
+     * {@code in (...)} lists, where repeated values do not change the result.
+     * <p>
+     * {@code select * from things where x in (:__x_0,:__x_1,:__x_2,:__x_3)}
+     */
+    BUCKETED,
+
+    /**
+     * Binds all values as a single SQL array and selects the array elements with {@code unnest}. Every list size
+     * creates the same statement. Only use this for {@code in (...)} lists on databases that support arrays and
+     * {@code unnest}, e.g. Postgres and H2. Lists whose values are null, of different types or of a type without
+     * a registered {@link org.jdbi.v3.core.array.SqlArrayType} are bound as {@link #BUCKETED}.
+     * <p>
+     * {@code select * from things where x in (select * from unnest(cast(:__x_array as integer array)))}
+     */
+    ARRAY
+}
@@ -16,6 +16,9 @@ package org.jdbi.v3.core.statement;
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
 import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.jdbi.v3.core.jfr.JfrEvents;
+import org.jdbi.v3.core.jfr.JfrEvents.ActiveEvent;
+import org.jdbi.v3.core.jfr.JfrEvents.EventType;
 import org.jdbi.v3.meta.Beta;
 
 public abstract class CachingSqlParser implements SqlParser {
@@ -36,6 +39,15 @@ public abstract class CachingSqlParser implements SqlParser {
     @Override
     public ParsedSql parse(String sql, StatementContext ctx) {
         try {
+            final JfrEvents jfrEvents = ctx.getConfig(JfrEvents.class);
+            if (jfrEvents.isEnabled()) {
+                return parsedSqlCache.getWithLoader(sql, s -> {
+                    final ActiveEvent event = jfrEvents.begin(EventType.SQL_PARSE);
+                    final ParsedSql parsedSql = internalParse(s);
+                    event.finish(ctx);
+                    return parsedSql;
+                });
+            }
             return parsedSqlCache.get(sql);
         } catch (IllegalArgumentException e) {
             throw new UnableToCreateStatementException("Exception parsing for named parameter replacement", e, ctx);
@@ -0,0 +1,310 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+import org.jdbi.v3.core.CloseException;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheStats;
+import org.jdbi.v3.core.internal.exceptions.ThrowableSuppressor;
+import org.jdbi.v3.meta.Beta;
+
+/**
+ * A StatementBuilder which keeps prepared statements open after use and reuses them for
+ * later statements with the same SQL on the same handle. Drivers that parse and plan a statement
+ * when it is prepared (or that use server side prepared statements) only pay this cost once
+ * per handle.
+ * <br>
+ * When a statement is released, its parameters and pending batch parts are cleared, and fetch size,
+ * max rows, max field size, query timeout and fetch direction are reset to the values the statement
+ * had when it was prepared. The idle statements are kept in a least recently used cache of a fixed size;
+ * statements that are evicted from the cache are closed. All idle statements are closed when the handle
+ * is closed.
+ * <br>
+ * Statements are keyed by their SQL, whether they are concurrent updatable and the generated key columns.
+ * A statement that is in use is never handed out twice, so two open queries with the same SQL use
+ * different statements. Plain and callable statements are not cached.
+ * <br>
+ * Like the handle it belongs to, a caching statement builder is not thread safe.
+ *
+ * @since 3.45.1
+ */
+@Beta
+public class CachingStatementBuilder extends DefaultStatementBuilder {
+
+    /**
+     * The default number of idle statements per handle.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 32;
+
+    private final int maxSize;
+
+    private final Map<StatementKey, CachedStatement> idleStatements = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<PreparedStatement, CachedStatement> usedStatements = new IdentityHashMap<>();
+
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    private boolean closed;
+
+    /**
+     * Creates a new caching statement builder with the default cache size.
+     */
+    public CachingStatementBuilder() {
+        this(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Creates a new caching statement builder.
+     *
+     * @param maxSize The maximum number of idle statements kept open. Must be positive.
+     */
+    public CachingStatementBuilder(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("cache size must be positive, got " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns a factory for caching statement builders with the default cache size.
+     *
+     * @return A {@link StatementBuilderFactory} that can be set with {@link org.jdbi.v3.core.Jdbi#setStatementBuilderFactory(StatementBuilderFactory)}.
+     */
+    public static StatementBuilderFactory factory() {
+        return factory(DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * Returns a factory for caching statement builders.
+     *
+     * @param maxSize The maximum number of idle statements kept open for each handle.
+     * @return A {@link StatementBuilderFactory} that can be set with {@link org.jdbi.v3.core.Jdbi#setStatementBuilderFactory(StatementBuilderFactory)}.
+     */
+    public static StatementBuilderFactory factory(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("cache size must be positive, got " + maxSize);
+        }
+        return c -> new CachingStatementBuilder(maxSize);
+    }
+
+    /**
+     * Returns a prepared statement from the cache or prepares a new statement.
+     *
+     * @param conn Used to prepare the statement
+     * @param sql  Translated SQL statement
+     * @param ctx  The statement context, used to determine generated key columns and concurrency
+     *
+     * @return a PreparedStatement which is not used by any other statement
+     */
+    @Override
+    public PreparedStatement create(Connection conn, String sql, StatementContext ctx) throws SQLException {
+        StatementKey key = new StatementKey(sql, ctx);
+
+        CachedStatement cachedStatement = closed ? null : idleStatements.remove(key);
+        if (cachedStatement != null) {
+            hits++;
+        } else {
+            misses++;
+            cachedStatement = new CachedStatement(key, super.create(conn, sql, ctx));
+        }
+
+        usedStatements.put(cachedStatement.statement, cachedStatement);
+        return cachedStatement.statement;
+    }
+
+    /**
+     * Returns a prepared statement created by this builder to the cache. All other statements are closed.
+     *
+     * @param conn the JDBC Connection that this statement was created for.
+     * @param sql  the SQL which was prepared. Unused, statements are identified by the statement object.
+     * @param stmt the statement.
+     * @throws SQLException if anything goes wrong closing the statement.
+     */
+    @Override
+    public void close(Connection conn, String sql, Statement stmt) throws SQLException {
+        CachedStatement cachedStatement = stmt == null ? null : usedStatements.remove(stmt);
+        if (cachedStatement == null) {
+            super.close(conn, sql, stmt);
+            return;
+        }
+
+        if (closed || idleStatements.containsKey(cachedStatement.key) || !cachedStatement.reset()) {
+            cachedStatement.statement.close();
+            return;
+        }
+
+        idleStatements.put(cachedStatement.key, cachedStatement);
+
+        if (idleStatements.size() > maxSize) {
+            Iterator<CachedStatement> it = idleStatements.values().iterator();
+            CachedStatement eldest = it.next();
+            it.remove();
+            evictions++;
+            eldest.statement.close();
+        }
+    }
+
+    /**
+     * Closes all idle statements. Statements that are still in use are closed when they are released.
+     *
+     * @param conn The connection managed by the handle.
+     * @throws CloseException if any of the idle statements could not be closed.
+     */
+    @Override
+    public void close(Connection conn) {
+        closed = true;
+
+        List<CachedStatement> statements = new ArrayList<>(idleStatements.values());
+        idleStatements.clear();
+
+        ThrowableSuppressor throwableSuppressor = new ThrowableSuppressor();
+        for (CachedStatement cachedStatement : statements) {
+            throwableSuppressor.suppressAppend(cachedStatement.statement::close);
+        }
+
+        throwableSuppressor.throwIfNecessary(t -> new CloseException("Unable to close cached statements", t));
+    }
+
+    /**
+     * Returns statistics for the statement cache of this builder. Hits and misses are counted
+     * for every prepared statement requested, evictions for every idle statement closed because
+     * the cache was full.
+     *
+     * @return A {@link JdbiCacheStats} snapshot.
+     */
+    public JdbiCacheStats getStats() {
+        return DefaultJdbiCacheStats.of(idleStatements.size(), maxSize, hits, misses, evictions);
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", CachingStatementBuilder.class.getSimpleName() + "[", "]")
+            .add("maxSize=" + maxSize)
+            .add("idle=" + idleStatements.size())
+            .add("used=" + usedStatements.size())
+            .toString();
+    }
+
+    private static final class CachedStatement {
+
+        private final StatementKey key;
+        private final PreparedStatement statement;
+
+        // statement settings after preparing, restored when the statement is released.
+        private final int fetchSize;
+        private final int maxRows;
+        private final int maxFieldSize;
+        private final int queryTimeout;
+        private final int fetchDirection;
+
+        CachedStatement(StatementKey key, PreparedStatement statement) throws SQLException {
+            this.key = key;
+            this.statement = statement;
+
+            this.fetchSize = statement.getFetchSize();
+            this.maxRows = statement.getMaxRows();
+            this.maxFieldSize = statement.getMaxFieldSize();
+            this.queryTimeout = statement.getQueryTimeout();
+            this.fetchDirection = statement.getFetchDirection();
+        }
+
+        /**
+         * Clear the statement for reuse.
+         *
+         * @return false if the statement can not be reused and must be closed.
+         */
+        boolean reset() {
+            try {
+                if (statement.isClosed()) {
+                    return false;
+                }
+
+                statement.clearParameters();
+                statement.clearBatch();
+                statement.clearWarnings();
+
+                if (statement.getFetchSize() != fetchSize) {
+                    statement.setFetchSize(fetchSize);
+                }
+                if (statement.getMaxRows() != maxRows) {
+                    statement.setMaxRows(maxRows);
+                }
+                if (statement.getMaxFieldSize() != maxFieldSize) {
+                    statement.setMaxFieldSize(maxFieldSize);
+                }
+                if (statement.getQueryTimeout() != queryTimeout) {
+                    statement.setQueryTimeout(queryTimeout);
+                }
+                if (statement.getFetchDirection() != fetchDirection) {
+                    statement.setFetchDirection(fetchDirection);
+                }
+                return true;
+            } catch (SQLException e) {
+                return false;
+            }
+        }
+    }
+
+    // also used by PreparedBatch to decide whether its statement can be reused
+    static final class StatementKey {
+
+        private final String sql;
+        private final int resultSetConcurrency;
+        private final boolean returningGeneratedKeys;
+        private final String[] generatedKeysColumnNames;
+
+        StatementKey(String sql, StatementContext ctx) {
+            this.sql = sql;
+            this.resultSetConcurrency = ctx.isConcurrentUpdatable() ? ResultSet.CONCUR_UPDATABLE : ResultSet.CONCUR_READ_ONLY;
+            this.returningGeneratedKeys = ctx.isReturningGeneratedKeys();
+            this.generatedKeysColumnNames = returningGeneratedKeys ? ctx.getGeneratedKeysColumnNames() : null;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            StatementKey that = (StatementKey) o;
+            return resultSetConcurrency == that.resultSetConcurrency
+                && returningGeneratedKeys == that.returningGeneratedKeys
+                && sql.equals(that.sql)
+                && Arrays.equals(generatedKeysColumnNames, that.generatedKeysColumnNames);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sql, resultSetConcurrency, returningGeneratedKeys, Arrays.hashCode(generatedKeysColumnNames));
+        }
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.UnaryOperator;
+
+import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Collects metrics for all statements executed by Jdbi. Metrics are aggregated by SQL fingerprint: the SQL statement
+ * with whitespace collapsed and literals and parameter lists replaced with a single {@code ?}. For each fingerprint,
+ * the number of executions, failures, mapped rows and batch sizes are counted and the time spent binding arguments,
+ * executing the statement and mapping results is recorded in latency histograms.
+ * <p>
+ * Metrics are disabled by default. When enabled, all handles and statements created from the same {@link org.jdbi.v3.core.Jdbi}
+ * instance aggregate into the same metrics. Aggregation does not lock, so metrics can be left on in production.
+ * Use {@link #getStatementMetrics()} to read a snapshot or register a {@link MetricsExporter} and call {@link #export()}
+ * to pass the snapshot on to a metrics backend.
+ *
+ * @since 3.45.1
+ */
+@Alpha
+public final class JdbiMetrics implements JdbiConfig<JdbiMetrics> {
+
+    /** The maximum number of SQL fingerprints that are tracked. Any further statements are counted as {@link #OTHER_FINGERPRINT}. */
+    public static final int MAX_FINGERPRINTS = 1_000;
+
+    /** The fingerprint for all statements that exceed {@link #MAX_FINGERPRINTS}. */
+    public static final String OTHER_FINGERPRINT = "<other>";
+
+    private final Store store;
+    private boolean enabled;
+    private UnaryOperator<String> fingerprinter;
+    private ConcurrentMap<String, String> fingerprints;
+
+    public JdbiMetrics() {
+        this.store = new Store();
+        this.enabled = false;
+        this.fingerprinter = JdbiMetrics::fingerprint;
+        this.fingerprints = new ConcurrentHashMap<>();
+    }
+
+    private JdbiMetrics(JdbiMetrics that) {
+        this.store = that.store;
+        this.enabled = that.enabled;
+        this.fingerprinter = that.fingerprinter;
+        this.fingerprints = that.fingerprints;
+    }
+
+    /**
+     * Returns true if metrics are collected.
+     *
+     * @return true if metrics are collected
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enables or disables collecting metrics. Statements read this setting when they are created, so changing it
+     * does not affect statements that already exist.
+     *
+     * @param enabled if true, collect metrics for all statements
+     * @return this
+     */
+    public JdbiMetrics setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        return this;
+    }
+
+    /**
+     * Sets the function that computes the fingerprint of a SQL statement. Statements with the same fingerprint share
+     * their metrics. The function is called with the parsed SQL and the result is cached.
+     *
+     * @param fingerprinter the fingerprint function
+     * @return this
+     */
+    public JdbiMetrics setFingerprinter(UnaryOperator<String> fingerprinter) {
+        this.fingerprinter = Objects.requireNonNull(fingerprinter, "fingerprinter is null");
+        this.fingerprints = new ConcurrentHashMap<>();
+        return this;
+    }
+
+    /**
+     * Adds an exporter that receives metrics snapshots from {@link #export()}.
+     *
+     * @param exporter the exporter
+     * @return this
+     */
+    public JdbiMetrics addExporter(MetricsExporter exporter) {
+        store.exporters.add(Objects.requireNonNull(exporter, "exporter is null"));
+        return this;
+    }
+
+    /**
+     * Passes a snapshot of the current metrics to all registered exporters.
+     */
+    public void export() {
+        if (store.exporters.isEmpty()) {
+            return;
+        }
+        Collection<StatementMetrics> metrics = getStatementMetrics();
+        for (MetricsExporter exporter : store.exporters) {
+            exporter.export(metrics);
+        }
+    }
+
+    /**
+     * Returns a snapshot of the metrics for all SQL fingerprints.
+     *
+     * @return an unmodifiable collection of statement metrics
+     */
+    public Collection<StatementMetrics> getStatementMetrics() {
+        List<StatementMetrics> result = new ArrayList<>(store.collectors.size());
+        for (Collector collector : store.collectors.values()) {
+            result.add(collector.snapshot());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Returns a snapshot of the metrics for a SQL statement.
+     *
+     * @param sql a SQL statement, it will be fingerprinted
+     * @return the statement metrics, or empty if no statement with the same fingerprint was executed
+     */
+    public Optional<StatementMetrics> getStatementMetrics(String sql) {
+        return Optional.ofNullable(store.collectors.get(fingerprintFor(sql))).map(Collector::snapshot);
+    }
+
+    /**
+     * Discards all collected metrics.
+     */
+    public void reset() {
+        store.collectors.clear();
+    }
+
+    /**
+     * Records the rows mapped from a statement result. This is called by result iterators when they are closed.
+     *
+     * @param ctx the statement context
+     * @param rows the number of mapped rows
+     * @param nanos the time spent iterating the result set and mapping rows
+     */
+    public void recordMapping(StatementContext ctx, long rows, long nanos) {
+        final Collector collector = collectorFor(ctx);
+        if (collector != null) {
+            collector.rows.add(rows);
+            collector.mapping.record(nanos);
+        }
+    }
+
+    void recordExecution(StatementContext ctx, long bindNanos, long executeNanos, boolean failed) {
+        final Collector collector = collectorFor(ctx);
+        if (collector != null) {
+            collector.recordExecution(bindNanos, executeNanos, failed);
+        }
+    }
+
+    void recordBatch(StatementContext ctx, int parts, long bindNanos, long executeNanos, boolean failed) {
+        final Collector collector = collectorFor(ctx);
+        if (collector != null) {
+            collector.batches.increment();
+            collector.batchParts.add(parts);
+            if (parts > collector.maxBatchSize.get()) {
+                collector.maxBatchSize.accumulateAndGet(parts, Math::max);
+            }
+            collector.recordExecution(bindNanos, executeNanos, failed);
+        }
+    }
+
+    /**
+     * Returns the fingerprint of a statement. This is computed from the parsed SQL if the statement was already parsed,
+     * otherwise from the rendered or the raw SQL.
+     *
+     * @param ctx the statement context
+     * @return the fingerprint of the statement or null if the statement has no SQL
+     */
+    public String getFingerprint(StatementContext ctx) {
+        final String sql;
+        if (ctx.getParsedSql() != null) {
+            sql = ctx.getParsedSql().getSql();
+        } else if (ctx.getRenderedSql() != null) {
+            sql = ctx.getRenderedSql();
+        } else {
+            sql = ctx.getRawSql();
+        }
+        return sql == null ? null : fingerprintFor(sql);
+    }
+
+    private Collector collectorFor(StatementContext ctx) {
+        final String fingerprint = getFingerprint(ctx);
+        return fingerprint == null ? null : store.collector(fingerprint);
+    }
+
+    private String fingerprintFor(String sql) {
+        String fingerprint = fingerprints.get(sql);
+        if (fingerprint == null) {
+            fingerprint = fingerprinter.apply(sql);
+            if (fingerprints.size() < MAX_FINGERPRINTS) {
+                fingerprints.putIfAbsent(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * The default fingerprint function. Collapses all whitespace, replaces string and numeric literals with {@code ?}
+     * and collapses lists of {@code ?} (e.g. from {@link SqlStatement#bindList(String, Object...)}) into a single {@code ?}.
+     *
+     * @param sql a SQL statement
+     * @return the fingerprint of the statement
+     */
+    public static String fingerprint(String sql) {
+        final int length = sql.length();
+        final StringBuilder sb = new StringBuilder(length);
+
+        int i = 0;
+        while (i < length) {
+            final char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (sb.length() > 0 && i < length) {
+                    sb.append(' ');
+                }
+            } else if (c == '\'') {
+                i = skipStringLiteral(sql, i);
+                appendPlaceholder(sb);
+            } else if (c == '?') {
+                i++;
+                appendPlaceholder(sb);
+            } else if (Character.isDigit(c) && (i == 0 || !isIdentifierPart(sql.charAt(i - 1)))) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                appendPlaceholder(sb);
+            } else {
+                sb.append(c);
+                i++;
+            }
+        }
+
+        return sb.toString();
+    }
+
+    private static int skipStringLiteral(String sql, int start) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            if (sql.charAt(i++) == '\'') {
+                // '' is an escaped quote
+                if (i < sql.length() && sql.charAt(i) == '\'') {
+                    i++;
+                } else {
+                    break;
+                }
+            }
+        }
+        return i;
+    }
+
+    private static boolean isIdentifierPart(char c) {
+        return Character.isLetterOrDigit(c) || c == '_' || c == '$' || c == '"';
+    }
+
+    private static void appendPlaceholder(StringBuilder sb) {
+        // "?, ?" becomes "?"
+        int pos = sb.length() - 1;
+        while (pos >= 0 && sb.charAt(pos) == ' ') {
+            pos--;
+        }
+        if (pos > 0 && sb.charAt(pos) == ',') {
+            int prev = pos - 1;
+            while (prev >= 0 && sb.charAt(prev) == ' ') {
+                prev--;
+            }
+            if (prev >= 0 && sb.charAt(prev) == '?') {
+                sb.setLength(prev + 1);
+                return;
+            }
+        }
+        sb.append('?');
+    }
+
+    @Override
+    public JdbiMetrics createCopy() {
+        return new JdbiMetrics(this);
+    }
+
+    private static final class Store {
+
+        private final ConcurrentMap<String, Collector> collectors = new ConcurrentHashMap<>();
+        private final Collection<MetricsExporter> exporters = new CopyOnWriteArrayList<>();
+
+        Collector collector(String fingerprint) {
+            final Collector collector = collectors.get(fingerprint);
+            if (collector != null) {
+                return collector;
+            }
+            final String key = collectors.size() < MAX_FINGERPRINTS ? fingerprint : OTHER_FINGERPRINT;
+            return collectors.computeIfAbsent(key, Collector::new);
+        }
+    }
+
+    private static final class Collector {
+
+        private final String fingerprint;
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder batchParts = new LongAdder();
+        private final AtomicLong maxBatchSize = new AtomicLong();
+        private final LatencyHistogram bind = new LatencyHistogram();
+        private final LatencyHistogram execute = new LatencyHistogram();
+        private final LatencyHistogram mapping = new LatencyHistogram();
+
+        Collector(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        void recordExecution(long bindNanos, long executeNanos, boolean failed) {
+            executions.increment();
+            if (failed) {
+                errors.increment();
+            }
+            bind.record(bindNanos);
+            execute.record(executeNanos);
+        }
+
+        StatementMetrics snapshot() {
+            return new StatementMetrics(fingerprint,
+                executions.sum(),
+                errors.sum(),
+                rows.sum(),
+                batches.sum(),
+                batchParts.sum(),
+                maxBatchSize.get(),
+                bind.snapshot(),
+                execute.snapshot(),
+                mapping.snapshot());
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Collection;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Receives snapshots of the statement metrics collected by {@link JdbiMetrics}. Exporters are called from
+ * {@link JdbiMetrics#export()}; it is up to the application to call this method, e.g. from a scheduled task.
+ *
+ * @since 3.45.1
+ */
+@Alpha
+@FunctionalInterface
+public interface MetricsExporter {
+
+    /**
+     * Called with a snapshot of the metrics of all statements. The values are cumulative since the metrics were
+     * enabled or last {@link JdbiMetrics#reset() reset}.
+     *
+     * @param metrics The statement metrics, one element for each SQL fingerprint
+     */
+    void export(Collection<StatementMetrics> metrics);
+}
@@ -0,0 +1,306 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.core.result.ResultIterator;
+import org.jdbi.v3.core.result.UnableToProduceResultException;
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * A query that is split into partitions which run in parallel. Each partition opens its own handle on an
+ * {@link Executor}, runs the query with the arguments bound by the {@link Partitioning} and maps the rows on the
+ * executor thread with the usual row mappers. The rows of all partitions are merged into a single {@link Stream}.
+ * <p>
+ * Every partition buffers at most {@link #bufferSize(int)} mapped rows; a partition whose buffer is full waits until
+ * the stream has consumed some of its rows. The stream must be closed (e.g. in a try-with-resources block) if it is
+ * not consumed completely, otherwise the partitions keep waiting and do not release their handles.
+ *
+ * <pre>{@code
+ * try (Stream<User> users = jdbi.partitionedQuery("select * from users where mod(id, :partitions) = :partition",
+ *         Partitioning.modulo(8), executor)
+ *     .stream(query -> query.mapTo(User.class))) {
+ *     users.forEach(exporter::write);
+ * }
+ * }</pre>
+ *
+ * @see Jdbi#partitionedQuery(String, Partitioning, Executor)
+ * @since 3.45.1
+ */
+@Alpha
+public final class PartitionedQuery {
+
+    private static final int DEFAULT_BUFFER_SIZE = 1_000;
+    private static final long POLL_MILLIS = 50;
+
+    private final Jdbi jdbi;
+    private final String sql;
+    private final Partitioning partitioning;
+    private final Executor executor;
+
+    private Consumer<Query> customizer = query -> {};
+    private boolean ordered = false;
+    private int bufferSize = DEFAULT_BUFFER_SIZE;
+
+    public PartitionedQuery(Jdbi jdbi, String sql, Partitioning partitioning, Executor executor) {
+        this.jdbi = Objects.requireNonNull(jdbi, "jdbi is null");
+        this.sql = Objects.requireNonNull(sql, "sql is null");
+        this.partitioning = Objects.requireNonNull(partitioning, "partitioning is null");
+        this.executor = Objects.requireNonNull(executor, "executor is null");
+    }
+
+    /**
+     * Customizes the query of every partition, e.g. to bind further arguments or set the fetch size.
+     *
+     * @param customizer called with the query of each partition before it is executed
+     * @return this
+     */
+    public PartitionedQuery customize(Consumer<Query> customizer) {
+        this.customizer = this.customizer.andThen(Objects.requireNonNull(customizer, "customizer is null"));
+        return this;
+    }
+
+    /**
+     * If true, the stream returns all rows of the first partition, then all rows of the second partition and so on,
+     * each in the order returned by the database. All partitions still run in parallel. If false (the default),
+     * rows are returned as soon as any partition has mapped them.
+     *
+     * @param ordered if true, return rows in partition order
+     * @return this
+     */
+    public PartitionedQuery ordered(boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Sets the number of mapped rows that each partition may buffer before it waits for the stream to catch up.
+     *
+     * @param bufferSize the buffer size per partition. Default is 1000.
+     * @return this
+     */
+    public PartitionedQuery bufferSize(int bufferSize) {
+        if (bufferSize < 1) {
+            throw new IllegalArgumentException("bufferSize must be at least 1, got " + bufferSize);
+        }
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Maps the rows of all partitions to the given type.
+     *
+     * @param type the row type
+     * @param <T> the row type
+     * @return a stream of the rows of all partitions, must be closed
+     * @see ResultIterable#mapTo(Class)
+     */
+    public <T> Stream<T> mapTo(Class<T> type) {
+        return stream(query -> query.mapTo(type));
+    }
+
+    /**
+     * Maps the rows of all partitions with the given mapper. The mapper is called concurrently from all partitions.
+     *
+     * @param mapper the row mapper
+     * @param <T> the row type
+     * @return a stream of the rows of all partitions, must be closed
+     */
+    public <T> Stream<T> map(RowMapper<T> mapper) {
+        return stream(query -> query.map(mapper));
+    }
+
+    /**
+     * Starts all partitions and returns the merged stream of their results.
+     *
+     * @param mapping maps the query of a partition to its results. Called on the executor thread of the partition.
+     * @param <T> the row type
+     * @return a stream of the rows of all partitions, must be closed
+     */
+    public <T> Stream<T> stream(Function<Query, ResultIterable<T>> mapping) {
+        Objects.requireNonNull(mapping, "mapping is null");
+
+        final Merger<T> merger = new Merger<>(partitioning.getPartitionCount());
+        try {
+            for (int i = 0; i < merger.partitions; i++) {
+                final int partition = i;
+                executor.execute(() -> merger.run(partition, mapping));
+            }
+        } catch (RejectedExecutionException e) {
+            merger.cancel();
+            throw e;
+        }
+
+        final int characteristics = ordered ? Spliterator.ORDERED : 0;
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merger, characteristics), false)
+            .onClose(merger::cancel);
+    }
+
+    private final class Merger<T> implements Iterator<T> {
+
+        private final Object nullRow = new Object();
+        private final Object endOfPartition = new Object();
+
+        private final int partitions;
+        private final boolean inPartitionOrder;
+        private final Consumer<Query> queryCustomizer;
+        private final BlockingQueue<Object>[] queues;
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private volatile boolean cancelled = false;
+
+        private int current = 0;
+        private int finished = 0;
+        private Object next = null;
+
+        @SuppressWarnings("unchecked")
+        Merger(int partitions) {
+            this.partitions = partitions;
+            this.inPartitionOrder = ordered;
+            this.queryCustomizer = customizer;
+            if (inPartitionOrder) {
+                this.queues = new BlockingQueue[partitions];
+                for (int i = 0; i < partitions; i++) {
+                    queues[i] = new ArrayBlockingQueue<>(bufferSize);
+                }
+            } else {
+                this.queues = new BlockingQueue[] {new ArrayBlockingQueue<>(bufferSize * partitions)};
+            }
+        }
+
+        void run(int partition, Function<Query, ResultIterable<T>> mapping) {
+            final BlockingQueue<Object> queue = inPartitionOrder ? queues[partition] : queues[0];
+            try {
+                jdbi.useHandle(handle -> {
+                    try (Query query = handle.createQuery(sql)) {
+                        partitioning.bind(query, partition);
+                        queryCustomizer.accept(query);
+
+                        try (ResultIterator<T> rows = mapping.apply(query).iterator()) {
+                            while (!cancelled && rows.hasNext()) {
+                                final T row = rows.next();
+                                if (!offer(queue, row == null ? nullRow : row)) {
+                                    return;
+                                }
+                            }
+                        }
+                    }
+                });
+                offer(queue, endOfPartition);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                fail(new UnableToProduceResultException("Interrupted while running partition " + partition, e, null));
+            } catch (Throwable t) {
+                fail(t);
+            }
+        }
+
+        private boolean offer(BlockingQueue<Object> queue, Object item) throws InterruptedException {
+            while (!cancelled) {
+                if (queue.offer(item, POLL_MILLIS, TimeUnit.MILLISECONDS)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void fail(Throwable t) {
+            if (!failure.compareAndSet(null, t)) {
+                failure.get().addSuppressed(t);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            while (finished < partitions) {
+                final Object item = take();
+                if (item == endOfPartition) {
+                    finished++;
+                    current++;
+                } else {
+                    next = item;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Object item = next;
+            next = null;
+            return item == nullRow ? null : (T) item;
+        }
+
+        private Object take() {
+            final BlockingQueue<Object> queue = inPartitionOrder ? queues[current] : queues[0];
+            try {
+                while (true) {
+                    checkFailure();
+                    final Object item = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                    if (item != null) {
+                        return item;
+                    }
+                }
+            } catch (InterruptedException e) {
+                cancel();
+                Thread.currentThread().interrupt();
+                throw new UnableToProduceResultException("Interrupted while waiting for partition results", e, null);
+            }
+        }
+
+        private void checkFailure() {
+            final Throwable t = failure.get();
+            if (t == null) {
+                return;
+            }
+            cancel();
+            if (t instanceof RuntimeException) {
+                throw (RuntimeException) t;
+            }
+            if (t instanceof Error) {
+                throw (Error) t;
+            }
+            throw new UnableToProduceResultException(t);
+        }
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * Splits a {@link PartitionedQuery} into partitions. Each partition runs the same SQL on its own handle; the
+ * partitioning binds the arguments that select the rows of one partition.
+ *
+ * @since 3.45.1
+ */
+@Alpha
+public interface Partitioning {
+
+    /**
+     * Returns the number of partitions.
+     *
+     * @return the number of partitions, at least 1
+     */
+    int getPartitionCount();
+
+    /**
+     * Binds the arguments that select the rows of a partition.
+     *
+     * @param query the query for the partition
+     * @param partition the partition number, between 0 and {@link #getPartitionCount()} - 1
+     */
+    void bind(Query query, int partition);
+
+    /**
+     * Splits rows by the remainder of a numeric key. Binds the partition number as {@code :partition} and the number
+     * of partitions as {@code :partitions}, e.g. for {@code select * from users where mod(id, :partitions) = :partition}.
+     *
+     * @param partitions the number of partitions
+     * @return a modulo partitioning
+     */
+    static Partitioning modulo(int partitions) {
+        checkPartitions(partitions);
+        return new Partitioning() {
+            @Override
+            public int getPartitionCount() {
+                return partitions;
+            }
+
+            @Override
+            public void bind(Query query, int partition) {
+                query.bind("partition", partition).bind("partitions", partitions);
+            }
+        };
+    }
+
+    /**
+     * Splits rows by ranges of equal size of a numeric key. Binds the lower bound (inclusive) of the range as
+     * {@code :lower} and the upper bound (exclusive) as {@code :upper},
+     * e.g. for {@code select * from users where id >= :lower and id < :upper}.
+     *
+     * @param min the smallest key value (inclusive)
+     * @param max the largest key value (exclusive)
+     * @param partitions the number of partitions
+     * @return a range partitioning
+     */
+    static Partitioning range(long min, long max, int partitions) {
+        checkPartitions(partitions);
+        if (max < min) {
+            throw new IllegalArgumentException("max must not be smaller than min, got [" + min + ", " + max + ")");
+        }
+        final long size = Math.subtractExact(max, min);
+        final long step = size / partitions + (size % partitions == 0 ? 0 : 1);
+        return new Partitioning() {
+            @Override
+            public int getPartitionCount() {
+                return partitions;
+            }
+
+            @Override
+            public void bind(Query query, int partition) {
+                final long lower = Math.min(max, min + step * partition);
+                final long upper = partition == partitions - 1 ? max : Math.min(max, lower + step);
+                query.bind("lower", lower).bind("upper", upper);
+            }
+        };
+    }
+
+    private static void checkPartitions(int partitions) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("partitions must be at least 1, got " + partitions);
+        }
+    }
+}
@@ -34,6 +34,9 @@ import org.jdbi.v3.core.argument.Arguments;
 import org.jdbi.v3.core.argument.NamedArgumentFinder;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory.PrepareKey;
+import org.jdbi.v3.core.jfr.JfrEvents;
+import org.jdbi.v3.core.jfr.JfrEvents.ActiveEvent;
+import org.jdbi.v3.core.jfr.JfrEvents.EventType;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.core.result.BatchResultBearing;
 import org.jdbi.v3.core.result.ResultBearing;
@@ -43,6 +46,7 @@ import org.jdbi.v3.core.result.ResultProducers;
 import org.jdbi.v3.core.result.ResultSetScanner;
 import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.core.statement.internal.PreparedBinding;
+import org.jdbi.v3.meta.Beta;
 
 import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
 
@@ -58,11 +62,36 @@ import static org.jdbi.v3.core.result.ResultProducers.returningGeneratedKeys;
  *
  * An entire batch can be bound and added in one go with {@link PreparedBatch#add(Map)}
  * or {@link PreparedBatch#add(Object...)}.
+ *
+ * By default, all batch parts are kept in memory until the batch is executed. Large
+ * bulk loads can use {@link PreparedBatch#autoFlushEvery(int)} to bind each part
+ * directly into the JDBC statement and execute it in chunks of a fixed size.
  */
 public class PreparedBatch extends SqlStatement<PreparedBatch> implements ResultBearing {
     private final List<PreparedBinding> bindings = new ArrayList<>();
+    // arguments that are added to every batch part
+    private PreparedBinding sharedBinding;
     final Map<PrepareKey, Function<String, Optional<Function<Object, Argument>>>> preparedFinders = new HashMap<>();
 
+    // statement and binder of the last execution. They are reused as long as the SQL, the generated keys
+    // and the result set concurrency do not change.
+    private CachingStatementBuilder.StatementKey preparedKey;
+    private ArgumentBinder preparedBinder;
+    private boolean cleanupRegistered;
+
+    // auto flush state. Parts are bound directly into the statement and executed every autoFlushThreshold parts.
+    private int autoFlushThreshold;
+    private ParsedParameters pendingParameters;
+    private int pendingParts;
+    private int[] flushedCounts = new int[0];
+    private int flushedCountsSize;
+
+    // metrics for the parts that were bound since the last execution
+    // null if metrics are disabled
+    private JdbiMetrics metrics;
+    private int boundParts;
+    private long bindNanos;
+
     public PreparedBatch(Handle handle, CharSequence sql) {
         super(handle, sql);
         getContext().setBinding(new PreparedBinding(getContext()));
@@ -125,6 +154,67 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
         }
     }
 
+    /**
+     * Execute the batch parts that were added so far and keep the statement open. More parts can be added
+     * afterwards and are executed with the same prepared statement and argument binder, unless the rendered
+     * SQL, the generated keys or the result set concurrency change. The statement is released when this batch is closed.
+     *
+     * @return the number of rows affected per executed batch part
+     * @see #execute()
+     * @since 3.45.1
+     */
+    @Beta
+    public int[] flush() {
+        try {
+            return internalBatchExecute().updateCounts;
+        } catch (RuntimeException e) {
+            close();
+            throw e;
+        }
+    }
+
+    /**
+     * Bind every batch part directly into the JDBC statement when it is added, and execute the statement
+     * after every {@code threshold} parts. Only a single chunk of parts is held by the driver at any time,
+     * so the memory used by this batch does not grow with the number of parts.
+     * <br>
+     * {@link #execute()}, {@link #flush()} and {@link #executeAndGetModCount()} return the combined mod counts
+     * of all chunks. Result producers, e.g. for generated keys, are not supported by an auto flushing batch.
+     *
+     * @param threshold the number of batch parts to execute at once. Must be positive.
+     * @return this
+     * @since 3.45.1
+     */
+    @Beta
+    public PreparedBatch autoFlushEvery(int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("auto flush threshold must be positive, got " + threshold);
+        }
+        if (!bindings.isEmpty()) {
+            throw new IllegalStateException("auto flush must be enabled before adding batch parts");
+        }
+        this.autoFlushThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Use the arguments that were bound so far for every batch part that is added afterwards. A batch part
+     * can replace a shared argument by binding the same name or position.
+     *
+     * @return this
+     * @since 3.45.1
+     */
+    @Beta
+    public PreparedBatch shareBindings() {
+        final PreparedBinding binding = getBinding();
+        if (sharedBinding != null) {
+            binding.addMissing(sharedBinding);
+        }
+        sharedBinding = binding;
+        getContext().setBinding(new PreparedBinding(getContext()));
+        return this;
+    }
+
     /**
      * Execute the batch and return the mod counts as in {@code execute}, but as a
      * Jdbi result iterator instead of an array.
@@ -198,6 +288,10 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
     }
 
     private <R> R execute(ResultProducer<R> producer, Consumer<ExecutedBatch> batchConsumer) {
+        if (autoFlushThreshold > 0) {
+            throw new IllegalStateException("Result producers are not supported by an auto flushing batch, use execute() or flush()");
+        }
+
         try {
             return producer.produce(() -> {
                 ExecutedBatch executedBatch = internalBatchExecute();
@@ -215,70 +309,205 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
             add();
         }
 
+        final StatementContext ctx = getContext();
+
+        try {
+            final int[] modifiedRows;
+            if (pendingParts > 0) {
+                // auto flush mode, all parts are already bound
+                pendingParts = 0;
+                modifiedRows = executeStatementBatch();
+            } else {
+                ParsedParameters parsedParameters = prepareStatement();
+
+                if (bindings.isEmpty()) {
+                    return new ExecutedBatch(stmt, takeFlushedCounts(new int[0]));
+                }
+
+                beforeBinding();
+
+                try {
+                    for (PreparedBinding binding : bindings) {
+                        bindPart(parsedParameters, binding);
+                    }
+                } catch (SQLException e) {
+                    throw new UnableToExecuteStatementException("Exception while binding parameters", e, ctx);
+                }
+
+                modifiedRows = executeStatementBatch();
+            }
+
+            return new ExecutedBatch(stmt, takeFlushedCounts(modifiedRows));
+        } finally {
+            bindings.clear();
+        }
+    }
+
+    private ParsedParameters prepareStatement() {
         beforeTemplating();
 
         final StatementContext ctx = getContext();
 
         ParsedSql parsedSql = parseSql();
         String sql = parsedSql.getSql();
-        ParsedParameters parsedParameters = parsedSql.getParameters();
+        metrics = ctx.getMetrics();
 
-        try {
+        final CachingStatementBuilder.StatementKey key = new CachingStatementBuilder.StatementKey(sql, ctx);
+        if (stmt == null || !key.equals(preparedKey)) {
             try {
-                stmt = createStatement(sql);
+                if (stmt != null) {
+                    // the statement was prepared for different SQL, generated keys or concurrency
+                    final PreparedStatement statement = stmt;
+                    stmt = null;
+                    preparedKey = null;
+                    preparedBinder = null;
+                    cleanupStatement(statement);
+                }
 
-                getContext().addCleanable(() -> cleanupStatement(stmt));
+                if (!cleanupRegistered) {
+                    cleanupRegistered = true;
+                    ctx.addCleanable(this::cleanupBatch);
+                }
+
+                stmt = createStatement(sql);
                 getConfig(SqlStatements.class).customize(stmt);
             } catch (SQLException e) {
                 throw new UnableToCreateStatementException(e, ctx);
             }
+            preparedKey = key;
+            preparedBinder = null;
+        }
 
-            if (bindings.isEmpty()) {
-                return new ExecutedBatch(stmt, new int[0]);
-            }
+        return parsedSql.getParameters();
+    }
 
-            beforeBinding();
+    private void cleanupBatch() throws SQLException {
+        final PreparedStatement statement = stmt;
+        stmt = null;
+        preparedKey = null;
+        preparedBinder = null;
+        cleanupRegistered = false;
+        pendingParameters = null;
+        pendingParts = 0;
+        flushedCounts = new int[0];
+        flushedCountsSize = 0;
+        boundParts = 0;
+        bindNanos = 0L;
+        if (statement != null) {
+            cleanupStatement(statement);
+        }
+    }
 
-            try {
-                ArgumentBinder binder = new ArgumentBinder.Prepared(this, parsedParameters, bindings.get(0));
-                for (Binding binding : bindings) {
-                    ctx.setBinding(binding);
-                    binder.bind(binding);
-                    stmt.addBatch();
-                }
-            } catch (SQLException e) {
-                throw new UnableToExecuteStatementException("Exception while binding parameters", e, ctx);
+    private void bindPart(ParsedParameters parsedParameters, PreparedBinding binding) throws SQLException {
+        if (preparedBinder == null) {
+            preparedBinder = new ArgumentBinder.Prepared(this, parsedParameters, binding);
+        }
+        getContext().setBinding(binding);
+        if (metrics != null) {
+            final long start = System.nanoTime();
+            preparedBinder.bind(binding);
+            stmt.addBatch();
+            bindNanos += System.nanoTime() - start;
+        } else {
+            preparedBinder.bind(binding);
+            stmt.addBatch();
+        }
+        boundParts++;
+    }
+
+    private int[] executeStatementBatch() {
+        beforeExecution();
+
+        final StatementContext ctx = getContext();
+        final int parts = boundParts;
+        final long partsBindNanos = bindNanos;
+        boundParts = 0;
+        bindNanos = 0L;
+
+        final long executeStart = metrics != null ? System.nanoTime() : 0L;
+        final ActiveEvent executeEvent = getConfig(JfrEvents.class).begin(EventType.STATEMENT_EXECUTE);
+        try {
+            final int[] modifiedRows = SqlLoggerUtil.wrap(stmt::executeBatch, ctx, getConfig(SqlStatements.class).getSqlLogger());
+            executeEvent.finish(ctx);
+
+            if (metrics != null) {
+                metrics.recordBatch(ctx, parts, partsBindNanos, System.nanoTime() - executeStart, false);
             }
 
-            beforeExecution();
+            afterExecution();
 
-            try {
-                final int[] modifiedRows = SqlLoggerUtil.wrap(stmt::executeBatch, ctx, getConfig(SqlStatements.class).getSqlLogger());
+            ctx.setBinding(new PreparedBinding(ctx));
+
+            return modifiedRows;
+        } catch (SQLException e) {
+            executeEvent.finish(ctx);
+            if (metrics != null) {
+                metrics.recordBatch(ctx, parts, partsBindNanos, System.nanoTime() - executeStart, true);
+            }
+            throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), ctx);
+        }
+    }
 
-                afterExecution();
+    private void addPending(PreparedBinding binding) {
+        if (pendingParts == 0) {
+            pendingParameters = prepareStatement();
+            beforeBinding();
+        }
 
-                ctx.setBinding(new PreparedBinding(ctx));
+        try {
+            bindPart(pendingParameters, binding);
+        } catch (SQLException e) {
+            throw new UnableToExecuteStatementException("Exception while binding parameters", e, getContext());
+        }
 
-                return new ExecutedBatch(stmt, modifiedRows);
-            } catch (SQLException e) {
-                throw new UnableToExecuteStatementException(Batch.mungeBatchException(e), ctx);
+        if (++pendingParts >= autoFlushThreshold) {
+            pendingParts = 0;
+            int[] modifiedRows = executeStatementBatch();
+
+            int size = flushedCountsSize + modifiedRows.length;
+            if (size > flushedCounts.length) {
+                flushedCounts = Arrays.copyOf(flushedCounts, Math.max(size, flushedCounts.length * 2));
             }
-        } finally {
-            bindings.clear();
+            System.arraycopy(modifiedRows, 0, flushedCounts, flushedCountsSize, modifiedRows.length);
+            flushedCountsSize = size;
         }
     }
 
+    private int[] takeFlushedCounts(int[] modifiedRows) {
+        if (flushedCountsSize == 0) {
+            return modifiedRows;
+        }
+
+        int[] result = Arrays.copyOf(flushedCounts, flushedCountsSize + modifiedRows.length);
+        System.arraycopy(modifiedRows, 0, result, flushedCountsSize, modifiedRows.length);
+        flushedCounts = new int[0];
+        flushedCountsSize = 0;
+        return result;
+    }
+
     /**
      * Add the current binding as a saved batch and clear the binding.
      * @return this
      */
     public PreparedBatch add() {
         final PreparedBinding currentBinding = getBinding();
+        if (sharedBinding != null) {
+            currentBinding.addMissing(sharedBinding);
+        }
         if (currentBinding.isEmpty()) {
             throw new IllegalStateException("Attempt to add() an empty batch, you probably didn't mean to do this "
                     + "- call add() *after* setting batch parameters");
         }
-        bindings.add(currentBinding);
+        if (autoFlushThreshold > 0) {
+            try {
+                addPending(currentBinding);
+            } catch (RuntimeException e) {
+                close();
+                throw e;
+            }
+        } else {
+            bindings.add(currentBinding);
+        }
         getContext().setBinding(new PreparedBinding(getContext()));
         return this;
     }
@@ -311,12 +540,12 @@ public class PreparedBatch extends SqlStatement<PreparedBatch> implements Result
     }
 
     /**
-     * Returns the number of bindings in this batch.
+     * Returns the number of bindings in this batch that have not been executed yet.
      *
      * @return the number of bindings in this batch.
      */
     public int size() {
-        return bindings.size();
+        return bindings.size() + pendingParts;
     }
 
     private static class ExecutedBatch {
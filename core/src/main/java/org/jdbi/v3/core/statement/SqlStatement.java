@@ -15,6 +15,7 @@ package org.jdbi.v3.core.statement;
 
 import java.io.InputStream;
 import java.io.Reader;
+import java.lang.reflect.Array;
 import java.lang.reflect.Type;
 import java.math.BigDecimal;
 import java.net.URI;
@@ -30,6 +31,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -48,13 +50,19 @@ import org.jdbi.v3.core.argument.ObjectFieldArguments;
 import org.jdbi.v3.core.argument.ObjectMethodArguments;
 import org.jdbi.v3.core.argument.internal.NamedArgumentFinderFactory;
 import org.jdbi.v3.core.argument.internal.PojoPropertyArguments;
+import org.jdbi.v3.core.array.SqlArrayType;
+import org.jdbi.v3.core.array.SqlArrayTypes;
 import org.jdbi.v3.core.generic.GenericType;
 import org.jdbi.v3.core.internal.IterableLike;
+import org.jdbi.v3.core.jfr.JfrEvents;
+import org.jdbi.v3.core.jfr.JfrEvents.ActiveEvent;
+import org.jdbi.v3.core.jfr.JfrEvents.EventType;
 import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.immutables.JdbiImmutables;
 import org.jdbi.v3.core.qualifier.NVarchar;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.meta.Alpha;
 import org.jdbi.v3.meta.Beta;
 
 import static java.util.stream.Collectors.joining;
@@ -1545,6 +1553,8 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
      * operation as those evaluate the SQL statement only once. When binding lists of different size,
      * the number of placeholders will not match the number of elements in the list which will lead
      * to errors.
+     * <p>
+     * The list is rendered with the {@link SqlStatements#getBindListStrategy() configured strategy}.
      *
      * @param onEmpty handler for null/empty list
      * @param key     attribute name
@@ -1554,14 +1564,41 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
      * @see EmptyHandling
      */
     public final This bindList(BiConsumer<SqlStatement, String> onEmpty, String key, List<?> values) {
+        return bindList(getConfig(SqlStatements.class).getBindListStrategy(), onEmpty, key, values);
+    }
+
+    /**
+     * Bind the values of a list with the given strategy, and defines an attribute as the rendered list.
+     *
+     * @param strategy how to render the list
+     * @param onEmpty  handler for null/empty list
+     * @param key      attribute name
+     * @param values   list of values
+     * @return this
+     * @see #bindList(BiConsumer, String, List)
+     * @see BindListStrategy
+     * @since 3.45.1
+     */
+    @Alpha
+    public final This bindList(BindListStrategy strategy, BiConsumer<SqlStatement, String> onEmpty, String key, List<?> values) {
         if (values == null || values.isEmpty()) {
             onEmpty.accept(this, key);
             return typedThis;
         }
 
+        if (strategy == BindListStrategy.EXPAND) {
+            return bindListValues(key, values, values.size());
+        }
+        if (strategy == BindListStrategy.ARRAY && bindListArray(key, values)) {
+            return typedThis;
+        }
+        return bindListValues(key, values, bucketSize(values.size()));
+    }
+
+    private This bindListValues(String key, List<?> values, int size) {
         StringBuilder names = new StringBuilder();
 
-        for (int i = 0; i < values.size(); i++) {
+        for (int i = 0; i < size; i++) {
             String name = "__" + key + "_" + i;
 
             if (i > 0) {
@@ -1570,12 +1607,44 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
             String paramName = getConfig().get(SqlStatements.class).getSqlParser().nameParameter(name, getContext());
             names.append(paramName);
 
-            bind(name, values.get(i));
+            // pad with the last value
+            bind(name, values.get(Math.min(i, values.size() - 1)));
         }
 
         return define(key, names.toString());
     }
 
+    private boolean bindListArray(String key, List<?> values) {
+        Class<?> elementType = null;
+        for (Object value : values) {
+            if (value == null || (elementType != null && elementType != value.getClass())) {
+                return false;
+            }
+            elementType = value.getClass();
+        }
+
+        final Optional<SqlArrayType<?>> arrayType = getConfig(SqlArrayTypes.class).findFor(elementType);
+        if (!arrayType.isPresent()) {
+            return false;
+        }
+
+        final Object array = Array.newInstance(elementType, values.size());
+        for (int i = 0; i < values.size(); i++) {
+            Array.set(array, i, values.get(i));
+        }
+
+        final String name = "__" + key + "_array";
+        final String paramName = getConfig().get(SqlStatements.class).getSqlParser().nameParameter(name, getContext());
+        bind(name, array);
+        define(key, "select * from unnest(cast(" + paramName + " as " + arrayType.get().getTypeName() + " array))");
+        return true;
+    }
+
+    static int bucketSize(int size) {
+        final int bucket = Integer.highestOneBit(Math.max(1, size - 1)) << 1;
+        return size <= 1 || bucket < size ? size : bucket;
+    }
+
     /**
      * Bind a parameter for each value in the given list * number of property names,
      * and defines an attribute as the comma-separated list of parameter references (using colon prefix).
@@ -1803,25 +1872,46 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
 
         ctx.setStatement(stmt);
 
+        final JdbiMetrics metrics = ctx.getMetrics();
+        final boolean collectMetrics = metrics != null;
+        final JfrEvents jfrEvents = getConfig(JfrEvents.class);
+
         beforeBinding();
 
+        final long bindStart = collectMetrics ? System.nanoTime() : 0L;
+        final ActiveEvent bindEvent = jfrEvents.begin(EventType.STATEMENT_BIND);
         new ArgumentBinder(stmt, ctx, parsedSql.getParameters()).bind(getBinding());
+        bindEvent.finish(ctx);
 
         beforeExecution();
 
+        final long executeStart = collectMetrics ? System.nanoTime() : 0L;
+        final ActiveEvent executeEvent = jfrEvents.begin(EventType.STATEMENT_EXECUTE);
         try {
             SqlLoggerUtil.wrap(stmt::execute, ctx, getConfig(SqlStatements.class).getSqlLogger());
         } catch (SQLException e) {
+            executeEvent.finish(ctx);
+            if (collectMetrics) {
+                metrics.recordExecution(ctx, executeStart - bindStart, System.nanoTime() - executeStart, true);
+            }
             throw new UnableToExecuteStatementException(e, ctx);
         }
 
+        executeEvent.finish(ctx);
+        if (collectMetrics) {
+            metrics.recordExecution(ctx, executeStart - bindStart, System.nanoTime() - executeStart, false);
+        }
+
         afterExecution();
 
         return stmt;
     }
 
     PreparedStatement createStatement(final String parsedSql) throws SQLException {
-        return getHandle().getStatementBuilder().create(getHandle().getConnection(), parsedSql, getContext());
+        final ActiveEvent event = getConfig(JfrEvents.class).begin(EventType.STATEMENT_PREPARE);
+        final PreparedStatement statement = getHandle().getStatementBuilder().create(getHandle().getConnection(), parsedSql, getContext());
+        event.finish(getContext());
+        return statement;
     }
 
     void cleanupStatement(final PreparedStatement statement) throws SQLException {
@@ -1832,8 +1922,10 @@ public abstract class SqlStatement<This extends SqlStatement<This>> extends Base
         StatementContext ctx = getContext();
         SqlStatements statements = getConfig(SqlStatements.class);
 
+        final ActiveEvent renderEvent = getConfig(JfrEvents.class).begin(EventType.TEMPLATE_RENDER);
         String renderedSql = statements.preparedRender(sql, ctx);
         ctx.setRenderedSql(renderedSql);
+        renderEvent.finish(ctx);
 
         ParsedSql parsedSql = statements.getSqlParser().parse(renderedSql, ctx);
         ctx.setParsedSql(parsedSql);
@@ -36,6 +36,7 @@ import org.jdbi.v3.core.cache.JdbiCacheBuilder;
 import org.jdbi.v3.core.cache.JdbiCacheLoader;
 import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Alpha;
 import org.jdbi.v3.meta.Beta;
 
 /**
@@ -56,6 +57,7 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
     private boolean attachAllStatementsForCleanup;
     private boolean attachCallbackStatementsForCleanup = true;
     private boolean scriptStatementsNeedSemicolon = true;
+    private BindListStrategy bindListStrategy = BindListStrategy.EXPAND;
     private final Collection<StatementCustomizer> customizers;
 
     private final Collection<StatementContextListener> contextListeners;
@@ -81,6 +83,7 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         this.attachAllStatementsForCleanup = that.attachAllStatementsForCleanup;
         this.attachCallbackStatementsForCleanup = that.attachCallbackStatementsForCleanup;
         this.scriptStatementsNeedSemicolon = that.scriptStatementsNeedSemicolon;
+        this.bindListStrategy = that.bindListStrategy;
         this.customizers = new CopyOnWriteArrayList<>(that.customizers);
         this.contextListeners = new CopyOnWriteArraySet<>(that.contextListeners);
         this.templateCache = that.templateCache;
@@ -355,6 +358,32 @@ public final class SqlStatements implements JdbiConfig<SqlStatements> {
         return scriptStatementsNeedSemicolon;
     }
 
+    /**
+     * Sets how {@link SqlStatement#bindList} renders lists of values. The default strategy {@link BindListStrategy#EXPAND}
+     * creates a different statement for every list size. The other strategies bound the number of different statements
+     * but can only be used for {@code in (...)} lists.
+     *
+     * @param bindListStrategy the strategy for binding lists
+     * @return this
+     * @since 3.45.1
+     */
+    @Alpha
+    public SqlStatements setBindListStrategy(BindListStrategy bindListStrategy) {
+        this.bindListStrategy = Objects.requireNonNull(bindListStrategy, "bindListStrategy is null");
+        return this;
+    }
+
+    /**
+     * Returns the strategy that {@link SqlStatement#bindList} uses to render lists of values.
+     *
+     * @return the strategy for binding lists
+     * @since 3.45.1
+     */
+    @Alpha
+    public BindListStrategy getBindListStrategy() {
+        return bindListStrategy;
+    }
+
     /**
      * Sets whether statements created within the {@link Jdbi#withHandle}, {@link Jdbi#useHandle}, {@link Jdbi#inTransaction} and {@link Jdbi#useTransaction}
      * callback methods will automatically attached to the {@link Handle} object and therefore cleaned up when the callback ends. The default is true.
@@ -30,8 +30,11 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collector;
 
+import com.google.errorprone.annotations.concurrent.GuardedBy;
 import jakarta.annotation.Nullable;
 
 import org.jdbi.v3.core.CloseException;
@@ -53,6 +56,7 @@ import org.jdbi.v3.core.mapper.Mappers;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.mapper.RowMappers;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.meta.Alpha;
 
 import static java.util.Objects.requireNonNull;
 
@@ -69,7 +73,11 @@ public class StatementContext implements Closeable {
 
     private final ConfigRegistry config;
     private final ExtensionMethod extensionMethod;
+    // null if metrics are disabled
+    private final JdbiMetrics metrics;
 
+    private final Lock cleanablesLock = new ReentrantLock();
+    @GuardedBy("cleanablesLock")
     private final Set<Cleanable> cleanables = new LinkedHashSet<>();
 
     private String rawSql;
@@ -96,6 +104,9 @@ public class StatementContext implements Closeable {
     private StatementContext(ConfigRegistry config, ExtensionMethod extensionMethod) {
         this.config = requireNonNull(config);
         this.extensionMethod = extensionMethod;
+
+        final JdbiMetrics metricsConfig = config.get(JdbiMetrics.class);
+        this.metrics = metricsConfig.isEnabled() ? metricsConfig : null;
     }
 
     /**
@@ -109,6 +120,19 @@ public class StatementContext implements Closeable {
         return config.get(configClass);
     }
 
+    /**
+     * Returns the metrics configuration if metrics are collected for this statement. Whether metrics are enabled is
+     * read once, when the context is created.
+     *
+     * @return the metrics configuration, or null if metrics are disabled
+     * @since 3.45.1
+     */
+    @Alpha
+    @Nullable
+    public JdbiMetrics getMetrics() {
+        return metrics;
+    }
+
     /**
      * Returns the {@code ConfigRegistry}.
      *
@@ -567,8 +591,11 @@ public class StatementContext implements Closeable {
      */
     public void addCleanable(Cleanable cleanable) {
 
-        synchronized (cleanables) {
+        cleanablesLock.lock();
+        try {
             cleanables.add(cleanable);
+        } finally {
+            cleanablesLock.unlock();
         }
 
         notifyCleanableAdded(cleanable);
@@ -580,13 +607,16 @@ public class StatementContext implements Closeable {
         try {
             List<Cleanable> cleanablesCopy;
 
-            synchronized (cleanables) {
+            cleanablesLock.lock();
+            try {
                 if (cleanables.isEmpty()) {
                     return; // only notify that the context was cleaned.
                 }
 
                 cleanablesCopy = new ArrayList<>(cleanables);
                 cleanables.clear();
+            } finally {
+                cleanablesLock.unlock();
             }
 
             Collections.reverse(cleanablesCopy);
@@ -609,8 +639,11 @@ public class StatementContext implements Closeable {
     }
 
     boolean isClean() {
-        synchronized (cleanables) {
+        cleanablesLock.lock();
+        try {
             return cleanables.isEmpty();
+        } finally {
+            cleanablesLock.unlock();
         }
     }
 
@@ -0,0 +1,266 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+
+import org.jdbi.v3.meta.Alpha;
+
+/**
+ * An immutable snapshot of the metrics that {@link JdbiMetrics} collected for all statements with the same SQL
+ * fingerprint.
+ *
+ * @since 3.45.1
+ */
+@Alpha
+public final class StatementMetrics {
+
+    private final String fingerprint;
+    private final long executions;
+    private final long errors;
+    private final long rows;
+    private final long batches;
+    private final long batchParts;
+    private final long maxBatchSize;
+    private final Latency bindLatency;
+    private final Latency executeLatency;
+    private final Latency mappingLatency;
+
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    StatementMetrics(String fingerprint,
+        long executions,
+        long errors,
+        long rows,
+        long batches,
+        long batchParts,
+        long maxBatchSize,
+        Latency bindLatency,
+        Latency executeLatency,
+        Latency mappingLatency) {
+        this.fingerprint = fingerprint;
+        this.executions = executions;
+        this.errors = errors;
+        this.rows = rows;
+        this.batches = batches;
+        this.batchParts = batchParts;
+        this.maxBatchSize = maxBatchSize;
+        this.bindLatency = bindLatency;
+        this.executeLatency = executeLatency;
+        this.mappingLatency = mappingLatency;
+    }
+
+    /**
+     * Returns the SQL fingerprint that all statements in this snapshot share.
+     *
+     * @return The SQL fingerprint
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the number of statement executions, including failed executions. A batch counts as a single execution.
+     *
+     * @return The number of executions
+     */
+    public long getExecutions() {
+        return executions;
+    }
+
+    /**
+     * Returns the number of executions that failed with an exception.
+     *
+     * @return The number of failed executions
+     */
+    public long getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the number of rows that were mapped from the results of the statements.
+     *
+     * @return The number of mapped rows
+     */
+    public long getRows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of executed batches.
+     *
+     * @return The number of batches
+     */
+    public long getBatches() {
+        return batches;
+    }
+
+    /**
+     * Returns the total number of parts of all executed batches.
+     *
+     * @return The number of batch parts
+     */
+    public long getBatchParts() {
+        return batchParts;
+    }
+
+    /**
+     * Returns the size of the largest executed batch.
+     *
+     * @return The largest batch size
+     */
+    public long getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Returns the time spent binding arguments to the statements.
+     *
+     * @return The bind latency
+     */
+    public Latency getBindLatency() {
+        return bindLatency;
+    }
+
+    /**
+     * Returns the time spent executing the statements in the database driver.
+     *
+     * @return The execution latency
+     */
+    public Latency getExecuteLatency() {
+        return executeLatency;
+    }
+
+    /**
+     * Returns the time spent iterating and mapping the results of the statements. One value is recorded
+     * for every result, not for every row.
+     *
+     * @return The mapping latency
+     */
+    public Latency getMappingLatency() {
+        return mappingLatency;
+    }
+
+    @Override
+    public String toString() {
+        return new StringJoiner(", ", StatementMetrics.class.getSimpleName() + "[", "]")
+            .add("fingerprint='" + fingerprint + "'")
+            .add("executions=" + executions)
+            .add("errors=" + errors)
+            .add("rows=" + rows)
+            .add("batches=" + batches)
+            .add("batchParts=" + batchParts)
+            .add("maxBatchSize=" + maxBatchSize)
+            .add("bindLatency=" + bindLatency)
+            .add("executeLatency=" + executeLatency)
+            .add("mappingLatency=" + mappingLatency)
+            .toString();
+    }
+
+    /**
+     * A latency histogram snapshot. Percentiles are computed from log-linear buckets and are accurate to within
+     * 12.5% of the recorded value.
+     */
+    public static final class Latency {
+
+        private final long[] counts;
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        Latency(long[] counts, long totalNanos, long maxNanos) {
+            this.counts = counts;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+
+            long sum = 0;
+            for (long c : counts) {
+                sum += c;
+            }
+            this.count = sum;
+        }
+
+        /**
+         * Returns the number of recorded values.
+         *
+         * @return The number of recorded values
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the sum of all recorded values.
+         *
+         * @return The total time
+         */
+        public Duration getTotal() {
+            return Duration.ofNanos(totalNanos);
+        }
+
+        /**
+         * Returns the largest recorded value.
+         *
+         * @return The maximum time
+         */
+        public Duration getMax() {
+            return Duration.ofNanos(maxNanos);
+        }
+
+        /**
+         * Returns the mean of all recorded values.
+         *
+         * @return The mean time, or {@link Duration#ZERO} if no values were recorded
+         */
+        public Duration getMean() {
+            return count == 0 ? Duration.ZERO : Duration.ofNanos(totalNanos / count);
+        }
+
+        /**
+         * Returns the value at the given percentile, e.g. {@code 99.0} for the 99th percentile.
+         *
+         * @param percentile A value between 0 and 100
+         * @return The time at the percentile, or {@link Duration#ZERO} if no values were recorded
+         */
+        public Duration getPercentile(double percentile) {
+            if (percentile < 0.0 || percentile > 100.0) {
+                throw new IllegalArgumentException("percentile must be between 0 and 100, got " + percentile);
+            }
+            if (count == 0) {
+                return Duration.ZERO;
+            }
+
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Duration.ofNanos(Math.min(LatencyHistogram.highestValue(i), maxNanos));
+                }
+            }
+            return Duration.ofNanos(maxNanos);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", Latency.class.getSimpleName() + "[", "]")
+                .add("count=" + count)
+                .add("mean=" + getMean())
+                .add("p50=" + getPercentile(50.0))
+                .add("p99=" + getPercentile(99.0))
+                .add("max=" + getMax())
+                .toString();
+        }
+    }
+}
@@ -39,6 +39,28 @@ public class PreparedBinding extends Binding {
                 .map(Supplier::get)
                 .collect(Collectors.toList()));
 
+    /**
+     * Adds all arguments of the given binding that are not bound by this binding.
+     *
+     * @param defaults the binding that provides the missing arguments
+     */
+    public void addMissing(PreparedBinding defaults) {
+        defaults.positionals.forEach((position, value) -> {
+            if (!positionals.containsKey(position)) {
+                positionals.put(position, value);
+            }
+        });
+        defaults.named.forEach((name, value) -> {
+            if (!named.containsKey(name)) {
+                named.put(name, value);
+            }
+        });
+        defaults.prepareKeys.forEach(prepareKeys::putIfAbsent);
+        // finders are consulted in order, so the finders of this binding take precedence
+        namedArgumentFinder.addAll(defaults.namedArgumentFinder);
+        backupArgumentFinders.addAll(defaults.backupArgumentFinders);
+    }
+
     @Override
     public boolean isEmpty() {
         return super.isEmpty() && prepareKeys.isEmpty() && backupArgumentFinders.isEmpty();
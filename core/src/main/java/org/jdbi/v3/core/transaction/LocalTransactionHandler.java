@@ -16,22 +16,45 @@ package org.jdbi.v3.core.transaction;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.sql.Savepoint;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 
+import com.google.errorprone.annotations.concurrent.GuardedBy;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleCallback;
-import org.jdbi.v3.core.internal.exceptions.Unchecked;
+import org.jdbi.v3.core.HandleListener;
 
 /**
  * This <code>TransactionHandler</code> uses local JDBC transactions
  * demarcated explicitly on the handle and passed through to be handled
  * directly on the JDBC Connection instance.
+ * <p>
+ * The transaction state of a handle is kept in a handler that {@link #specialize(Handle)} binds to the handle.
+ * Subclasses are not bound to the handle, as they may override any of the transaction methods; they look up the
+ * state of a handle in a weak map instead.
  */
 public class LocalTransactionHandler implements TransactionHandler {
-    private final Map<Handle, BoundLocalTransactionHandler> bound = Collections.synchronizedMap(new WeakHashMap<>());
+    // not a monitor, must not pin a virtual thread. Only used by subclasses and handlers that are not specialized.
+    private final Lock boundLock = new ReentrantLock();
+    @GuardedBy("boundLock")
+    private final Map<Handle, BoundLocalTransactionHandler> bound = new WeakHashMap<>();
+    private final HandleListener unbindOnClose = new HandleListener() {
+        @Override
+        public void handleClosed(Handle handle) {
+            reset(handle);
+        }
+    };
+
+    @Override
+    public TransactionHandler specialize(Handle handle) throws SQLException {
+        if (getClass() == LocalTransactionHandler.class) {
+            return new BoundLocalTransactionHandler();
+        }
+        return this;
+    }
 
     @Override
     public void begin(Handle handle) {
@@ -79,7 +102,24 @@ public class LocalTransactionHandler implements TransactionHandler {
     }
 
     TransactionHandler nonspecial(Handle handle) {
-        return bound.computeIfAbsent(handle, Unchecked.function(BoundLocalTransactionHandler::new));
+        final BoundLocalTransactionHandler newHandler;
+        boundLock.lock();
+        try {
+            final BoundLocalTransactionHandler boundHandler = bound.get(handle);
+            if (boundHandler != null) {
+                return boundHandler;
+            }
+            // the bound handler reads the connection state on first use, outside of the lock
+            newHandler = new BoundLocalTransactionHandler();
+            bound.put(handle, newHandler);
+        } finally {
+            boundLock.unlock();
+        }
+
+        if (!handle.isClosed()) {
+            handle.addHandleListener(unbindOnClose);
+        }
+        return newHandler;
     }
 
     public static LocalTransactionHandler binding() {
@@ -87,13 +127,18 @@ public class LocalTransactionHandler implements TransactionHandler {
     }
 
     public void reset(Handle handle) {
-        bound.remove(handle);
+        boundLock.lock();
+        try {
+            bound.remove(handle);
+        } finally {
+            boundLock.unlock();
+        }
     }
 
     static class BindingLocalTransactionHandler extends LocalTransactionHandler {
         @Override
         public TransactionHandler specialize(Handle handle) throws SQLException {
-            return new BoundLocalTransactionHandler(handle);
+            return new BoundLocalTransactionHandler();
         }
     }
 
@@ -109,17 +154,25 @@ public class LocalTransactionHandler implements TransactionHandler {
 
         private final Map<String, Savepoint> savepoints = new HashMap<>();
         private boolean initialAutocommit;
+        // null until the handler is used for the first time
         private State handlerState;
 
-        BoundLocalTransactionHandler(Handle handle) throws SQLException {
-            this.initialAutocommit = handle.getConnection().getAutoCommit();
-            this.handlerState = initialAutocommit ? State.OUTSIDE_TRANSACTION : State.AFTER_BEGIN;
+        private State state(Handle handle) {
+            if (handlerState == null) {
+                try {
+                    initialAutocommit = handle.getConnection().getAutoCommit();
+                } catch (SQLException e) {
+                    throw new TransactionException("Failed to read auto commit state", e);
+                }
+                handlerState = initialAutocommit ? State.OUTSIDE_TRANSACTION : State.AFTER_BEGIN;
+            }
+            return handlerState;
         }
 
         @Override
         public void begin(Handle handle) {
             try {
-                if (handlerState == State.OUTSIDE_TRANSACTION) {
+                if (state(handle) == State.OUTSIDE_TRANSACTION) {
                     Connection conn = handle.getConnection(); // NOPMD
                     initialAutocommit = conn.getAutoCommit();
                     savepoints.clear();
@@ -133,8 +186,9 @@ public class LocalTransactionHandler implements TransactionHandler {
 
         @Override
         public void commit(Handle handle) {
+            final State currentState = state(handle);
             try {
-                if (handlerState != State.OUTSIDE_TRANSACTION) {
+                if (currentState != State.OUTSIDE_TRANSACTION) {
                     handle.getConnection().commit();
                 }
                 handlerState = State.OUTSIDE_TRANSACTION;
@@ -152,8 +206,9 @@ public class LocalTransactionHandler implements TransactionHandler {
 
         @Override
         public void rollback(Handle handle) {
+            final State currentState = state(handle);
             try {
-                if (handlerState != State.OUTSIDE_TRANSACTION) {
+                if (currentState != State.OUTSIDE_TRANSACTION) {
                     handle.getConnection().rollback();
                 }
             } catch (SQLException e) {
@@ -210,6 +265,10 @@ public class LocalTransactionHandler implements TransactionHandler {
 
         @Override
         public boolean isInTransaction(Handle handle) {
+            if (handlerState == null) {
+                // the first use reads the auto commit state anyway
+                return state(handle) != State.OUTSIDE_TRANSACTION;
+            }
             try {
                 return handlerState == State.IN_TRANSACTION || !handle.getConnection().getAutoCommit();
             } catch (SQLException e) {
@@ -14,25 +14,45 @@
 package org.jdbi.v3.core.transaction;
 
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleCallback;
 import org.jdbi.v3.core.config.JdbiConfig;
+import org.jdbi.v3.meta.Alpha;
 
 /**
  * A TransactionHandler that automatically retries transactions that fail due to
  * serialization failures, which can generally be resolved by automatically
  * retrying the transaction.  Any HandleCallback used under this runner
  * should be aware that it may be invoked multiple times and should be idempotent.
+ * <p>
+ * Serialization failures ({@code 40001}) and deadlocks ({@code 40P01}) are retried
+ * by default. Retries happen immediately unless an initial backoff is set with
+ * {@link Configuration#setInitialBackoff(Duration)}, then they are delayed with an exponential
+ * backoff with jitter so that conflicting transactions do not immediately collide again. The number of
+ * concurrent retries can be limited for all handles of a Jdbi instance with
+ * {@link Configuration#setMaxConcurrentRetries(int)}.
  */
 public class SerializableTransactionRunner extends DelegatingTransactionHandler implements TransactionHandler {
     /* http://www.postgresql.org/docs/9.1/static/errcodes-appendix.html */
     private static final String SQLSTATE_TXN_SERIALIZATION_FAILED = "40001";
+    private static final String SQLSTATE_DEADLOCK_DETECTED = "40P01";
 
     public SerializableTransactionRunner() {
         this(LocalTransactionHandler.binding());
@@ -51,24 +71,29 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
 
         Deque<X> failures = new ArrayDeque<>();
         while (true) {
+            final boolean retry = !failures.isEmpty();
             try {
-                R result = getDelegate().inTransaction(handle, callback);
+                R result = retry ? retryTransaction(handle, callback, config) : getDelegate().inTransaction(handle, callback);
+                if (retry) {
+                    config.counters.successAfterRetry.increment();
+                }
                 config.onSuccess.accept(new ArrayList<>(failures));
                 return result;
             } catch (Exception last) {
                 X x = (X) last;
 
                 // throw immediately if the exception is unexpected
-                if (!isSqlState(config.serializationFailureSqlState, x)) {
+                if (!isRetryable(config, x)) {
                     throw last;
                 }
 
                 failures.addLast(x);
                 config.onFailure.accept(new ArrayList<>(failures));
 
-                // no more attempts left? Throw ALL the exceptions! \o/
+                // no more attempts left or interrupted while backing off? Throw ALL the exceptions! \o/
                 attempts -= 1;
-                if (attempts <= 0) {
+                if (attempts <= 0 || !backoff(config, failures.size())) {
+                    config.counters.exhausted.increment();
                     X toThrow = failures.removeLast();
                     while (!failures.isEmpty()) {
                         toThrow.addSuppressed(failures.removeLast());
@@ -79,6 +104,59 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
         }
     }
 
+    private <R, X extends Exception> R retryTransaction(Handle handle, HandleCallback<R, X> callback, Configuration config) throws X {
+        config.counters.retries.increment();
+
+        final Semaphore governor = config.governor;
+        if (governor == null) {
+            return getDelegate().inTransaction(handle, callback);
+        }
+
+        final long start = System.nanoTime();
+        governor.acquireUninterruptibly();
+        try {
+            config.counters.throttleNanos.add(System.nanoTime() - start);
+            return getDelegate().inTransaction(handle, callback);
+        } finally {
+            governor.release();
+        }
+    }
+
+    private boolean isRetryable(Configuration config, Throwable throwable) {
+        if (isSqlState(config.serializationFailureSqlState, throwable)) {
+            return true;
+        }
+        for (String sqlState : config.retryableSqlStates) {
+            if (isSqlState(sqlState, throwable)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits before the next attempt. Uses {@link TimeUnit#sleep(long)}, which does not pin a virtual thread.
+     *
+     * @return false if the thread was interrupted and the transaction should not be retried
+     */
+    private static boolean backoff(Configuration config, int failureCount) {
+        final long delay = config.backoffNanos(failureCount);
+        if (delay <= 0) {
+            return true;
+        }
+
+        final long start = System.nanoTime();
+        try {
+            TimeUnit.NANOSECONDS.sleep(delay);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            config.counters.backoffNanos.add(System.nanoTime() - start);
+        }
+    }
+
     @Override
     public <R, X extends Exception> R inTransaction(Handle handle,
                                                     TransactionIsolationLevel level,
@@ -125,6 +203,10 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
      */
     public static class Configuration implements JdbiConfig<Configuration> {
         private static final int DEFAULT_MAX_RETRIES = 5;
+        private static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ZERO;
+        private static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(1);
+        private static final double DEFAULT_BACKOFF_MULTIPLIER = 2.0;
+        private static final double DEFAULT_JITTER = 0.5;
 
         @SuppressWarnings("UnnecessaryLambda") // constant for readablity
         private static final Consumer<List<Exception>> NOP = list -> {};
@@ -133,14 +215,33 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
         private String serializationFailureSqlState = SQLSTATE_TXN_SERIALIZATION_FAILED;
         private Consumer<List<Exception>> onFailure = NOP;
         private Consumer<List<Exception>> onSuccess = NOP;
+        private Set<String> retryableSqlStates = Collections.singleton(SQLSTATE_DEADLOCK_DETECTED);
+        private long initialBackoffNanos = DEFAULT_INITIAL_BACKOFF.toNanos();
+        private long maxBackoffNanos = DEFAULT_MAX_BACKOFF.toNanos();
+        private double backoffMultiplier = DEFAULT_BACKOFF_MULTIPLIER;
+        private double jitter = DEFAULT_JITTER;
+        private int maxConcurrentRetries = 0;
+        private Semaphore governor = null;
+        private final Counters counters;
 
-        public Configuration() {}
+        public Configuration() {
+            counters = new Counters();
+        }
 
         private Configuration(Configuration that) {
             maxRetries = that.maxRetries;
             serializationFailureSqlState = that.serializationFailureSqlState;
             onFailure = that.onFailure;
             onSuccess = that.onSuccess;
+            retryableSqlStates = that.retryableSqlStates;
+            initialBackoffNanos = that.initialBackoffNanos;
+            maxBackoffNanos = that.maxBackoffNanos;
+            backoffMultiplier = that.backoffMultiplier;
+            jitter = that.jitter;
+            maxConcurrentRetries = that.maxConcurrentRetries;
+            // governor and counters are shared by all handles of a Jdbi instance
+            governor = that.governor;
+            counters = that.counters;
         }
 
         /**
@@ -159,7 +260,8 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
         }
 
         /**
-         * Sets the SQL state to consider as a serialization failure.
+         * Sets the SQL state to consider as a serialization failure. Use {@link #setRetryableSqlStates(Collection)}
+         * to retry further SQL states.
          *
          * @param serializationFailureSqlState the SQL state to consider as a serialization failure.
          * @return this
@@ -171,7 +273,7 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
 
         /**
          * Set a consumer that is called with a list of exceptions during a run. Will not be called with any exceptions that are not the configured
-         * serialization failure. These will simply be thrown, aborting the operation. Can be used e.g. for logging.
+         * serialization failure or one of the retryable SQL states. These will simply be thrown, aborting the operation. Can be used e.g. for logging.
          *
          * @param onFailure A consumer to handle failures. Will never be called with Exceptions that have not been configured.
          * @return this
@@ -194,9 +296,244 @@ public class SerializableTransactionRunner extends DelegatingTransactionHandler
             return this;
         }
 
+        /**
+         * Sets additional SQL states that are retried. Each state is compared to the beginning of the SQL state of
+         * a {@link SQLException}, like the {@link #setSerializationFailureSqlState(String) serialization failure state}.
+         * The default is {@code 40P01}, which is used by e.g. Postgres to report deadlocks. Set an empty
+         * collection to retry only serialization failures.
+         *
+         * @param retryableSqlStates the SQL states to retry in addition to the serialization failure state.
+         * @return this
+         * @since 3.45.1
+         */
+        @Alpha
+        public Configuration setRetryableSqlStates(Collection<String> retryableSqlStates) {
+            this.retryableSqlStates = Collections.unmodifiableSet(new LinkedHashSet<>(Objects.requireNonNull(retryableSqlStates, "retryableSqlStates is null")));
+            return this;
+        }
+
+        /**
+         * Returns the SQL states that are retried in addition to the serialization failure state.
+         *
+         * @return the additional SQL states that are retried
+         * @since 3.45.1
+         */
+        @Alpha
+        public Set<String> getRetryableSqlStates() {
+            return retryableSqlStates;
+        }
+
+        /**
+         * Sets the delay before the first retry. Each further retry multiplies the delay by the
+         * {@link #setBackoffMultiplier(double) backoff multiplier}, up to the {@link #setMaxBackoff(Duration) maximum backoff}.
+         * A zero delay retries immediately and disables the backoff.
+         *
+         * @param initialBackoff the delay before the first retry. Default is zero.
+         * @return this
+         * @since 3.45.1
+         */
+        @Alpha
+        public Configuration setInitialBackoff(Duration initialBackoff) {
+            if (initialBackoff.isNegative()) {
+                throw new IllegalArgumentException("initial backoff must not be negative, got " + initialBackoff);
+            }
+            this.initialBackoffNanos = initialBackoff.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the longest delay between two attempts.
+         *
+         * @param maxBackoff the maximum delay between two attempts. Default is one second.
+         * @return this
+         * @since 3.45.1
+         */
+        @Alpha
+        public Configuration setMaxBackoff(Duration maxBackoff) {
+            if (maxBackoff.isNegative()) {
+                throw new IllegalArgumentException("max backoff must not be negative, got " + maxBackoff);
+            }
+            this.maxBackoffNanos = maxBackoff.toNanos();
+            return this;
+        }
+
+        /**
+         * Sets the factor by which the delay grows with each retry.
+         *
+         * @param backoffMultiplier the backoff multiplier, must be at least 1. Default is 2.
+         * @return this
+         * @since 3.45.1
+         */
+        @Alpha
+        public Configuration setBackoffMultiplier(double backoffMultiplier) {
+            if (!(backoffMultiplier >= 1.0)) {
+                throw new IllegalArgumentException("backoff multiplier must be >= 1, got " + backoffMultiplier);
+            }
+            this.backoffMultiplier = backoffMultiplier;
+            return this;
+        }
+
+        /**
+         * Sets the random part of each delay. A delay {@code d} with jitter {@code j} is chosen at random between
+         * {@code d * (1 - j)} and {@code d}, which spreads out transactions that failed at the same time.
+         *
+         * @param jitter the jitter, between 0 (no randomization) and 1 (full jitter). Default is 0.5.
+         * @return this
+         * @since 3.45.1
+         */
+        @Alpha
+        public Configuration setJitter(double jitter) {
+            if (!(jitter >= 0.0 && jitter <= 1.0)) {
+                throw new IllegalArgumentException("jitter must be between 0 and 1, got " + jitter);
+            }
+            this.jitter = jitter;
+            return this;
+        }
+
+        /**
+         * Limits the number of transactions that may retry at the same time. The limit is shared by all handles
+         * created from the Jdbi instance (or handle) that this configuration is set on. The first attempt of a transaction
+         * is never throttled; only transactions that already conflicted wait for their turn, which keeps them from
+         * conflicting over and over again under high contention.
+         *
+         * @param maxConcurrentRetries the maximum number of concurrent retries, or 0 for no limit. Default is 0.
+         * @return this
+         * @since 3.45.1
+         */
+        @Alpha
+        public Configuration setMaxConcurrentRetries(int maxConcurrentRetries) {
+            if (maxConcurrentRetries < 0) {
+                throw new IllegalArgumentException("max concurrent retries must be >= 0, got " + maxConcurrentRetries);
+            }
+            this.maxConcurrentRetries = maxConcurrentRetries;
+            this.governor = maxConcurrentRetries == 0 ? null : new Semaphore(maxConcurrentRetries, true);
+            return this;
+        }
+
+        /**
+         * Returns the maximum number of transactions that may retry at the same time.
+         *
+         * @return the maximum number of concurrent retries, or 0 for no limit
+         * @since 3.45.1
+         */
+        @Alpha
+        public int getMaxConcurrentRetries() {
+            return maxConcurrentRetries;
+        }
+
+        /**
+         * Returns a snapshot of the retry metrics for all transactions run with this configuration or any of its copies.
+         *
+         * @return the retry metrics
+         * @since 3.45.1
+         */
+        @Alpha
+        public RetryMetrics getRetryMetrics() {
+            return counters.snapshot();
+        }
+
+        long backoffNanos(int failureCount) {
+            if (initialBackoffNanos == 0 || maxBackoffNanos == 0) {
+                return 0;
+            }
+            final double delay = Math.min(maxBackoffNanos, initialBackoffNanos * Math.pow(backoffMultiplier, failureCount - 1.0));
+            final double randomized = delay - delay * jitter * ThreadLocalRandom.current().nextDouble();
+            return (long) randomized;
+        }
+
         @Override
         public Configuration createCopy() {
             return new Configuration(this);
         }
     }
+
+    /**
+     * A snapshot of the retries of a {@link SerializableTransactionRunner}.
+     *
+     * @since 3.45.1
+     */
+    @Alpha
+    public static final class RetryMetrics {
+        private final long retries;
+        private final long successesAfterRetry;
+        private final long exhausted;
+        private final long backoffNanos;
+        private final long throttleNanos;
+
+        RetryMetrics(long retries, long successesAfterRetry, long exhausted, long backoffNanos, long throttleNanos) {
+            this.retries = retries;
+            this.successesAfterRetry = successesAfterRetry;
+            this.exhausted = exhausted;
+            this.backoffNanos = backoffNanos;
+            this.throttleNanos = throttleNanos;
+        }
+
+        /**
+         * Returns the number of times a transaction was retried.
+         *
+         * @return the number of retries
+         */
+        public long getRetries() {
+            return retries;
+        }
+
+        /**
+         * Returns the number of transactions that succeeded after at least one retry.
+         *
+         * @return the number of transactions that succeeded after a retry
+         */
+        public long getSuccessesAfterRetry() {
+            return successesAfterRetry;
+        }
+
+        /**
+         * Returns the number of transactions that failed because all retries were used up.
+         *
+         * @return the number of transactions that ran out of retries
+         */
+        public long getExhausted() {
+            return exhausted;
+        }
+
+        /**
+         * Returns the total time spent waiting between attempts.
+         *
+         * @return the total backoff time
+         */
+        public Duration getTotalBackoff() {
+            return Duration.ofNanos(backoffNanos);
+        }
+
+        /**
+         * Returns the total time retries waited for the {@link Configuration#setMaxConcurrentRetries(int) concurrency limit}.
+         *
+         * @return the total throttle time
+         */
+        public Duration getTotalThrottle() {
+            return Duration.ofNanos(throttleNanos);
+        }
+
+        @Override
+        public String toString() {
+            return new StringJoiner(", ", RetryMetrics.class.getSimpleName() + "[", "]")
+                .add("retries=" + retries)
+                .add("successesAfterRetry=" + successesAfterRetry)
+                .add("exhausted=" + exhausted)
+                .add("totalBackoff=" + getTotalBackoff())
+                .add("totalThrottle=" + getTotalThrottle())
+                .toString();
+        }
+    }
+
+    private static final class Counters {
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder successAfterRetry = new LongAdder();
+        private final LongAdder exhausted = new LongAdder();
+        private final LongAdder backoffNanos = new LongAdder();
+        private final LongAdder throttleNanos = new LongAdder();
+
+        RetryMetrics snapshot() {
+            return new RetryMetrics(retries.sum(), successAfterRetry.sum(), exhausted.sum(), backoffNanos.sum(), throttleNanos.sum());
+        }
+    }
 }
@@ -13,7 +13,12 @@
  */
 package org.jdbi.v3.core.argument;
 
+import java.util.Optional;
+
 import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.array.SqlArrayTypes;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheStats;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -37,4 +42,64 @@ public class TestPreparedArguments {
         assertThat(arguments.prepareFor(int.class))
                 .isEmpty();
     }
+
+    @Test
+    public void childConfigArrayTypeIsNotHiddenByParent() {
+        final ConfigRegistry config = new ConfigRegistry();
+        final Arguments arguments = config.get(Arguments.class);
+
+        assertThat(arguments.prepareFor(Widget[].class)).isEmpty();
+
+        final ConfigRegistry child = config.createChild();
+        child.get(SqlArrayTypes.class).register(Widget.class, "varchar");
+
+        assertThat(child.get(Arguments.class).prepareFor(Widget[].class)).isNotEmpty();
+        assertThat(arguments.prepareFor(Widget[].class)).isEmpty();
+    }
+
+    @Test
+    public void copiesShareResolvedFactories() {
+        final ConfigRegistry config = new ConfigRegistry();
+        final Arguments arguments = config.get(Arguments.class);
+        assertThat(arguments.prepareFor(String.class)).isNotEmpty();
+
+        final Arguments copy = config.createChild().get(Arguments.class);
+        assertThat(copy.prepareFor(String.class)).isNotEmpty();
+
+        final DefaultJdbiCacheStats stats = copy.preparableFactoryCacheStats();
+        assertThat(stats.missCount()).isOne();
+        assertThat(stats.hitCount()).isOne();
+    }
+
+    @Test
+    public void arrayTypeRegisteredAfterPrepareIsUsed() {
+        final ConfigRegistry config = new ConfigRegistry();
+        final Arguments arguments = config.get(Arguments.class);
+        final Arguments copy = config.createChild().get(Arguments.class);
+
+        assertThat(arguments.prepareFor(Widget[].class)).isEmpty();
+
+        config.get(SqlArrayTypes.class).register(Widget.class, "varchar");
+
+        assertThat(arguments.prepareFor(Widget[].class)).isNotEmpty();
+        assertThat(copy.prepareFor(Widget[].class)).isEmpty();
+    }
+
+    @Test
+    public void registeringFactoryDivergesFromCopies() {
+        final Argument custom = (position, statement, ctx) -> {};
+
+        final ConfigRegistry config = new ConfigRegistry();
+        final Arguments arguments = config.get(Arguments.class);
+        assertThat(arguments.prepareFor(String.class)).isNotEmpty();
+
+        final Arguments copy = config.createCopy().get(Arguments.class);
+        copy.register((ArgumentFactory.Preparable) (type, registry) ->
+                String.class.equals(type) ? Optional.of(value -> custom) : Optional.empty());
+
+        assertThat(copy.prepareFor(String.class)).hasValueSatisfying(f -> assertThat(f.apply("value")).isSameAs(custom));
+        assertThat(arguments.prepareFor(String.class)).hasValueSatisfying(f -> assertThat(f.apply("value")).isNotSameAs(custom));
+    }
+
+    public static class Widget {}
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.async;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class BoundedJdbiExecutorTest {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.withSomething();
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testConcurrencyIsBounded() {
+        BoundedJdbiExecutor jdbiExecutor = JdbiExecutor.create(h2Extension.getJdbi(), executor, 3);
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            futures.add(jdbiExecutor.withHandle(h -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(5);
+                    return h.createQuery("select count(*) from something").mapTo(int.class).one();
+                } finally {
+                    running.decrementAndGet();
+                }
+            }).toCompletableFuture());
+        }
+
+        assertThat(futures).allSatisfy(f -> assertThat(f.join()).isZero());
+
+        assertThat(maxRunning.get()).isBetween(1, 3);
+        assertThat(jdbiExecutor.getMaxConcurrency()).isEqualTo(3);
+        assertThat(jdbiExecutor.getAdmittedCount()).isEqualTo(30);
+        assertThat(jdbiExecutor.getActiveCount()).isZero();
+        assertThat(jdbiExecutor.getQueueLength()).isZero();
+        assertThat(jdbiExecutor.getMaxQueueTime()).isPositive();
+        assertThat(jdbiExecutor.getTotalQueueTime()).isGreaterThanOrEqualTo(jdbiExecutor.getMaxQueueTime());
+    }
+
+    @Test
+    public void testExceptionReleasesPermit() {
+        BoundedJdbiExecutor jdbiExecutor = JdbiExecutor.create(h2Extension.getJdbi(), executor, 1);
+
+        assertThatThrownBy(() -> jdbiExecutor.useHandle(h -> h.execute("select * from missing")).toCompletableFuture().join())
+            .hasCauseInstanceOf(Exception.class);
+
+        assertThat(jdbiExecutor.getActiveCount()).isZero();
+        assertThat(jdbiExecutor.withHandle(h -> 1).toCompletableFuture().join()).isOne();
+    }
+
+    @Test
+    public void testInvalidConcurrency() {
+        assertThatThrownBy(() -> JdbiExecutor.create(h2Extension.getJdbi(), executor, 0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testVirtualThreads() {
+        Assumptions.assumeTrue(Runtime.version().feature() >= 21, "virtual threads require Java 21");
+
+        BoundedJdbiExecutor jdbiExecutor = JdbiExecutor.createForVirtualThreads(h2Extension.getJdbi(), 2);
+
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            futures.add(jdbiExecutor.withHandle(h -> h.createQuery("select count(*) from something").mapTo(int.class).one()).toCompletableFuture());
+        }
+
+        assertThat(futures).allSatisfy(f -> assertThat(f.join()).isZero());
+        assertThat(jdbiExecutor.getAdmittedCount()).isEqualTo(1000);
+    }
+}
@@ -13,7 +13,13 @@
  */
 package org.jdbi.v3.core.cache.internal;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.jdbi.v3.core.cache.JdbiCache;
 import org.jdbi.v3.core.cache.JdbiCacheBuilder;
@@ -152,6 +158,63 @@ public class DefaultJdbiCacheTest {
 
     }
 
+    @Test
+    void testCacheStats() {
+        int size = 10;
+        JdbiCache<String, String> cache = builder.maxSize(size).buildWithLoader(cacheLoader);
+
+        Assumptions.assumeTrue(cache instanceof DefaultJdbiCache);
+
+        String[] keys = new String[size * 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = i + "K_" + UUID.randomUUID();
+            cache.get(keys[i]);
+        }
+
+        // last elements are still in the cache
+        for (int i = size; i < keys.length; i++) {
+            cache.get(keys[i]);
+        }
+
+        DefaultJdbiCacheStats stats = cache.getStats();
+        assertThat(stats.cacheSize()).isEqualTo(size);
+        assertThat(stats.missCount()).isEqualTo(size * 2L);
+        assertThat(stats.hitCount()).isEqualTo(size);
+        assertThat(stats.evictionCount()).isEqualTo(size);
+    }
+
+    @Test
+    void testConcurrentAccessIsBounded() throws Exception {
+        int size = 50;
+        int threadCount = 8;
+        JdbiCache<Integer, Integer> cache = builder.maxSize(size).buildWithLoader(key -> key);
+
+        Assumptions.assumeTrue(cache instanceof DefaultJdbiCache);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 10_000; i++) {
+                        int key = random.nextInt(size * 2);
+                        assertThat(cache.get(key)).isEqualTo(key);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        DefaultJdbiCacheStats stats = cache.getStats();
+        assertThat(stats.cacheSize()).isLessThanOrEqualTo(size);
+        assertThat(stats.missCount() - stats.evictionCount()).isEqualTo(stats.cacheSize());
+    }
+
     static void refresh(int max, JdbiCache<String, String> cache, String[] keys) {
         for (int i = 0; i < max; i++) {
             cache.get(keys[i]);
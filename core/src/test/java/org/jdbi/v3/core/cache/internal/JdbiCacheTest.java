@@ -46,6 +46,22 @@ public class JdbiCacheTest {
         doTestWithLoader(builder.build());
     }
 
+    @Test
+    void testPutAndGetIfPresent() {
+        doTestPut(builder.build());
+    }
+
+    protected void doTestPut(JdbiCache<String, String> cache) {
+        String key = UUID.randomUUID().toString();
+
+        assertThat(cache.getIfPresent(key)).isNull();
+
+        cache.put(key, "value");
+        assertThat(cache.getIfPresent(key)).isEqualTo("value");
+        assertThat(cache.getWithLoader(key, cacheLoader)).isEqualTo("value");
+        assertThat(cacheLoader.created()).isZero();
+    }
+
     protected void doTestWithGlobalLoader(JdbiCache<String, String> cache) {
         assertThat(cacheLoader.created()).isZero();
 
@@ -112,6 +112,17 @@ public class CollectorsTest {
         }
     }
 
+    @Test
+    void collectIntoPrimitiveArray() {
+        try (Query query = handle.createQuery("select length(k) from collection")) {
+            assertThat(query.collectInto(int[].class)).containsExactly(1, 1, 1);
+        }
+
+        try (Query query = handle.createQuery("select length(k) from collection")) {
+            assertThat(query.collectInto(long[].class)).containsExactly(1L, 1L, 1L);
+        }
+    }
+
 
     @Test
     void collectIntoRegisteredListTypeUsingCollector() {
@@ -31,6 +31,7 @@ public class TestConfigRegistry {
     private ConfigRegistry parent;
     private ConfigRegistry child1;
     private ConfigRegistry child2;
+    private ConfigRegistry child3;
     private ConfigRegistry grandchild1;
     private ConfigRegistry grandchild2;
 
@@ -163,6 +164,71 @@ public class TestConfigRegistry {
         validateDoubleConfig(child2Config);
     }
 
+    @Test
+    public void testChildCopiesOnFirstUse() {
+        child1 = parent.createChild();
+        child2 = parent.createChild();
+
+        TestConfig child1Config = child1.get(TestConfig.class);
+        assertThat(child1Config).isNotSameAs(parentConfig);
+        assertThat(child1.get(TestConfig.class)).isSameAs(child1Config);
+        validateSingleConfig(child1Config);
+
+        child1Config.addList("list2");
+        child1Config.addSet("set2");
+
+        validateDoubleConfig(child1Config);
+        validateSingleConfig(parentConfig);
+
+        // changes to the parent after the child was created are not visible in the child
+        parent.get(TestConfig.class).addList("list2");
+        parent.get(TestConfig.class).addSet("set2");
+
+        TestConfig child2Config = child2.get(TestConfig.class);
+        validateSingleConfig(child2Config);
+
+        child3 = parent.createChild();
+        parent.get(TestConfig.class).addList("list3");
+        parent.get(TestConfig.class).addSet("set3");
+
+        validateTripleConfig(parentConfig);
+        validateSingleConfig(child2Config);
+        validateDoubleConfig(child3.get(TestConfig.class));
+    }
+
+    @Test
+    public void testGrandchildSeesParentAtCreation() {
+        child1 = parent.createChild();
+        grandchild1 = child1.createChild();
+
+        parent.get(TestConfig.class).addList("list2");
+        parent.get(TestConfig.class).addSet("set2");
+
+        validateSingleConfig(grandchild1.get(TestConfig.class));
+        validateSingleConfig(child1.get(TestConfig.class));
+        validateDoubleConfig(parent.createChild().createChild().get(TestConfig.class));
+    }
+
+    @Test
+    public void testCopyOfChildContainsParentConfig() {
+        child1 = parent.createChild();
+        grandchild1 = child1.createChild();
+
+        TestConfig grandchild1Config = grandchild1.get(TestConfig.class);
+        grandchild1Config.addList("list2");
+        grandchild1Config.addSet("set2");
+
+        validateSingleConfig(parentConfig);
+
+        // the copy contains the config object from the closest registry
+        TestConfig copyConfig = grandchild1.createCopy().get(TestConfig.class);
+        validateDoubleConfig(copyConfig);
+
+        // unused configs are copied from the parent
+        TestConfig childCopyConfig = child1.createCopy().get(TestConfig.class);
+        validateSingleConfig(childCopyConfig);
+    }
+
     private static void validateSingleConfig(TestConfig config) {
         assertThat(config.getList())
                 .hasSize(1)
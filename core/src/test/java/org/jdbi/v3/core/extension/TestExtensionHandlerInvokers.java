@@ -0,0 +1,178 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.extension;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.extension.annotation.UseExtensionConfigurer;
+import org.jdbi.v3.core.extension.annotation.UseExtensionHandler;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestExtensionHandlerInvokers {
+
+    private static final AtomicInteger WARM_COUNT = new AtomicInteger();
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Jdbi jdbi;
+
+    @BeforeEach
+    public void setUp() {
+        WARM_COUNT.set(0);
+        jdbi = h2Extension.getJdbi();
+        jdbi.configure(Extensions.class, e -> e.register(new ExtensionFrameworkTestFactory()));
+    }
+
+    @Test
+    public void testInvokersAreCreatedOnFirstCall() {
+        try (Handle handle = jdbi.open()) {
+            CountingDao dao = handle.attach(CountingDao.class);
+            assertThat(WARM_COUNT).hasValue(0);
+
+            assertThat(dao.first()).isEqualTo("first");
+            assertThat(dao.first()).isEqualTo("first");
+            assertThat(WARM_COUNT).hasValue(1);
+
+            assertThat(dao.both()).isEqualTo("first,second");
+            assertThat(WARM_COUNT).hasValue(2);
+
+            assertThat(dao.toString()).startsWith("Jdbi extension proxy for " + CountingDao.class.getName());
+            assertThat(dao).isEqualTo(dao).hasSameHashCodeAs(dao);
+        }
+    }
+
+    @Test
+    public void testFailFastCreatesAllInvokers() {
+        jdbi.configure(Extensions.class, Extensions::failFast);
+
+        try (Handle handle = jdbi.open()) {
+            handle.attach(CountingDao.class);
+            assertThat(WARM_COUNT).hasValue(2);
+        }
+    }
+
+    @Test
+    public void testOnDemandOnlyCreatesCalledInvoker() {
+        CountingDao dao = jdbi.onDemand(CountingDao.class);
+
+        assertThat(dao.second()).isEqualTo("second");
+        assertThat(dao.second()).isEqualTo("second");
+
+        // the extension handler is resolved once and only warmed up by the first call
+        assertThat(WARM_COUNT).hasValue(1);
+    }
+
+    @Test
+    public void testConfigCustomizerErrorsAtAttach() {
+        try (Handle handle = jdbi.open()) {
+            assertThatThrownBy(() -> handle.attach(BrokenConfigDao.class))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("broken config");
+            assertThat(WARM_COUNT).hasValue(0);
+        }
+    }
+
+    @Test
+    public void testOnDemandSeesConfigChanges() {
+        CountingDao dao = jdbi.onDemand(CountingDao.class);
+        assertThat(dao.config()).isEqualTo("first");
+
+        jdbi.define("value", "changed");
+        assertThat(dao.config()).isEqualTo("changed");
+    }
+
+    public interface CountingDao {
+
+        @Counting("first")
+        String first();
+
+        @Counting("second")
+        String second();
+
+        @Counting("config")
+        String config();
+
+        default String both() {
+            return first() + "," + second();
+        }
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @UseExtensionHandler(id = "test", value = Counting.Impl.class)
+    public @interface Counting {
+
+        String value();
+
+        class Impl implements ExtensionHandler {
+
+            private final String value;
+
+            public Impl(Class<?> extensionType, Method method) {
+                this.value = method.getAnnotation(Counting.class).value();
+            }
+
+            @Override
+            public void warm(ConfigRegistry config) {
+                WARM_COUNT.incrementAndGet();
+            }
+
+            @Override
+            public Object invoke(HandleSupplier handleSupplier, Object target, Object... args) {
+                if ("config".equals(value)) {
+                    return handleSupplier.getConfig().get(SqlStatements.class).getAttributes().getOrDefault("value", "first");
+                }
+                return value;
+            }
+        }
+    }
+
+    public interface BrokenConfigDao {
+
+        @Counting("broken")
+        @BrokenConfig
+        String broken();
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target({ElementType.METHOD})
+    @UseExtensionConfigurer(BrokenConfig.Impl.class)
+    public @interface BrokenConfig {
+
+        class Impl implements ExtensionConfigurer {
+
+            @Override
+            public void configureForMethod(ConfigRegistry config, Annotation annotation, Class<?> extensionType, Method method) {
+                throw new IllegalStateException("broken config");
+            }
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jdbi.v3.core.ConnectionException;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestJfrPlugin {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.withSomething().withPlugin(new JfrPlugin());
+
+    @Test
+    public void testStatementEvents() throws IOException {
+        List<RecordedEvent> events = record(() -> h2Extension.getJdbi().useTransaction(h ->
+            h.createUpdate("insert into something (id, name) values (:id, :name)").bind("id", 1).bind("name", "Alice").execute()));
+
+        assertThat(events).extracting(e -> e.getEventType().getName())
+            .contains("org.jdbi.HandleOpen",
+                "org.jdbi.TransactionBegin",
+                "org.jdbi.TemplateRender",
+                "org.jdbi.StatementPrepare",
+                "org.jdbi.StatementBind",
+                "org.jdbi.StatementExecute",
+                "org.jdbi.TransactionCommit",
+                "org.jdbi.HandleClose");
+
+        RecordedEvent execute = events.stream()
+            .filter(e -> e.getEventType().getName().equals("org.jdbi.StatementExecute"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(execute.getString("fingerprint")).isEqualTo("insert into something (id, name) values (?)");
+    }
+
+    @Test
+    public void testResultSetIteration() throws IOException {
+        Handle handle = h2Extension.getSharedHandle();
+        handle.execute("insert into something (id, name) values (1, 'Alice'), (2, 'Bob')");
+
+        List<RecordedEvent> events = record(() -> handle.createQuery("select name from something").mapTo(String.class).list());
+
+        RecordedEvent iteration = events.stream()
+            .filter(e -> e.getEventType().getName().equals("org.jdbi.ResultSetIteration"))
+            .findFirst()
+            .orElseThrow();
+        assertThat(iteration.getLong("rows")).isEqualTo(2);
+        assertThat(iteration.getString("fingerprint")).isEqualTo("select name from something");
+    }
+
+    @Test
+    public void testFailedHandleOpen() throws IOException {
+        Jdbi jdbi = Jdbi.create(() -> {
+            throw new SQLException("no connection");
+        });
+        jdbi.installPlugin(new JfrPlugin());
+
+        List<RecordedEvent> events = record(() -> assertThatThrownBy(jdbi::open).isInstanceOf(ConnectionException.class));
+
+        assertThat(events).extracting(e -> e.getEventType().getName()).containsExactly("org.jdbi.HandleOpen");
+    }
+
+    @Test
+    public void testDisabledWithoutPlugin() throws IOException {
+        h2Extension.getJdbi().getConfig(JfrEvents.class).setEnabled(false);
+
+        List<RecordedEvent> events = record(() -> h2Extension.getJdbi().useHandle(h -> h.execute("delete from something")));
+
+        assertThat(events).isEmpty();
+    }
+
+    private static List<RecordedEvent> record(Runnable action) throws IOException {
+        Path file = Files.createTempFile("jdbi", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(HandleOpenEvent.class);
+            recording.enable(HandleCloseEvent.class);
+            recording.enable(TransactionBeginEvent.class);
+            recording.enable(TransactionCommitEvent.class);
+            recording.enable(TemplateRenderEvent.class);
+            recording.enable(StatementPrepareEvent.class);
+            recording.enable(StatementBindEvent.class);
+            recording.enable(StatementExecuteEvent.class);
+            recording.enable(ResultSetIterationEvent.class);
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+
+            return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().startsWith("org.jdbi."))
+                .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
@@ -13,6 +13,7 @@
  */
 package org.jdbi.v3.core.mapper;
 
+import java.util.List;
 import java.util.Map;
 
 import org.jdbi.v3.core.Handle;
@@ -22,6 +23,8 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
 
 public class TestMapMapper {
 
@@ -65,4 +68,29 @@ public class TestMapMapper {
 
         assertThat(noOne).containsOnlyKeys("ID", "FIRSTNAME");
     }
+
+    @Test
+    public void testCompactRows() {
+        h.getConfig(MapMappers.class).setCompactRows(true);
+        h.execute("insert into Foo(Id, FirstName) values(2, null)");
+
+        List<Map<String, Object>> rows = h.createQuery("select * from Foo order by Id").mapToMap().list();
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0)).containsExactly(entry("id", 1), entry("firstname", "No one"));
+        assertThat(rows.get(1)).containsKey("firstname").containsEntry("firstname", null).hasSize(2);
+        assertThat(rows.get(0)).isEqualTo(Map.of("id", 1, "firstname", "No one"));
+        assertThat(rows.get(0).get("missing")).isNull();
+
+        assertThatThrownBy(() -> rows.get(0).put("id", 3)).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    public void testCompactRowsWithValueType() {
+        h.getConfig(MapMappers.class).setCompactRows(true);
+
+        Map<String, String> noOne = h.createQuery("select * from Foo").mapToMap(String.class).one();
+
+        assertThat(noOne).containsExactly(entry("id", "1"), entry("firstname", "No one"));
+    }
 }
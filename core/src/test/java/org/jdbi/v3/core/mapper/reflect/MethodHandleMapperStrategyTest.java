@@ -0,0 +1,85 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.PropagateNull;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jdbi.v3.core.junit5.H2DatabaseExtension.USERS_INITIALIZER;
+
+public class MethodHandleMapperStrategyTest {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(USERS_INITIALIZER);
+
+    Handle handle;
+
+    @BeforeEach
+    final void setUp() {
+        this.handle = h2Extension.getSharedHandle();
+        handle.getConfig(ReflectionMappers.class).setMapperStrategy(MapperStrategy.METHOD_HANDLES);
+    }
+
+    @Test
+    void testConstructorMapper() {
+        assertThat(handle.createQuery("SELECT id, name FROM users ORDER BY id")
+            .map(ConstructorMapper.of(ConstructorUser.class))
+            .list())
+            .extracting(user -> user.id + ":" + user.name)
+            .containsExactly("1:Alice", "2:Bob");
+    }
+
+    @Test
+    void testFieldMapper() {
+        assertThat(handle.createQuery("SELECT id, name FROM users ORDER BY id")
+            .map(FieldMapper.of(FieldUser.class))
+            .list())
+            .extracting(user -> user.id + ":" + user.name)
+            .containsExactly("1:Alice", "2:Bob");
+    }
+
+    @Test
+    void testPropagateNullFallsBackToReflection() {
+        assertThat(handle.createQuery("SELECT id, null as name FROM users ORDER BY id")
+            .map(FieldMapper.of(PropagateNullUser.class))
+            .list())
+            .containsExactly(null, null);
+    }
+
+    public static class ConstructorUser {
+        final long id;
+        final String name;
+
+        public ConstructorUser(long id, String name) {
+            this.id = id;
+            this.name = name;
+        }
+    }
+
+    public static class FieldUser {
+        int id;
+        String name;
+    }
+
+    public static class PropagateNullUser {
+        int id;
+        @PropagateNull
+        String name;
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.mapper.reflect;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
+import org.jdbi.v3.core.cache.internal.DefaultJdbiCacheBuilder;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.CaseStrategy;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.jdbi.v3.core.junit5.H2DatabaseExtension.USERS_INITIALIZER;
+
+public class ReflectionMappersSpecializedMapperCacheTest {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance().withInitializer(USERS_INITIALIZER);
+
+    Handle handle;
+
+    @BeforeEach
+    final void setUp() {
+        this.handle = h2Extension.getSharedHandle();
+    }
+
+    @Test
+    void testCacheDisabledByDefault() {
+        RowMapper<User> mapper = FieldMapper.of(User.class);
+
+        assertThat(handle.getConfig(ReflectionMappers.class).<Object>specializedMapperCacheStats()).isNull();
+        assertThat(specialize(mapper, "SELECT id, name FROM users"))
+            .isNotSameAs(specialize(mapper, "SELECT id, name FROM users"));
+    }
+
+    @Test
+    void testSameShapeReusesSpecializedMapper() {
+        handle.getConfig(ReflectionMappers.class).setSpecializedMapperCache(DefaultJdbiCacheBuilder.builder().maxSize(10));
+
+        RowMapper<User> mapper = FieldMapper.of(User.class);
+        RowMapper<User> specializedMapper = specialize(mapper, "SELECT id, name FROM users");
+
+        assertThat(specialize(mapper, "SELECT name, id FROM users WHERE id = 2")).isNotSameAs(specializedMapper);
+        assertThat(specialize(mapper, "SELECT id, name FROM users WHERE id = 2")).isSameAs(specializedMapper);
+        assertThat(specialize(FieldMapper.of(User.class), "SELECT id, name FROM users")).isSameAs(specializedMapper);
+        assertThat(specialize(BeanMapper.of(UserBean.class), "SELECT id, name FROM users")).isNotSameAs(specializedMapper);
+
+        JdbiCacheStats stats = handle.getConfig(ReflectionMappers.class).specializedMapperCacheStats();
+        assertThat(stats.hitCount()).isEqualTo(2);
+
+        assertThat(handle.createQuery("SELECT id, name FROM users ORDER BY id").map(mapper).list())
+            .extracting(user -> user.name)
+            .containsExactly("Alice", "Bob");
+    }
+
+    @Test
+    void testMapToBeanReusesSpecializedMapper() {
+        handle.getConfig(ReflectionMappers.class).setSpecializedMapperCache(DefaultJdbiCacheBuilder.builder().maxSize(10));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(handle.createQuery("SELECT id, name FROM users ORDER BY id").mapToBean(UserBean.class).list())
+                .extracting(UserBean::getName)
+                .containsExactly("Alice", "Bob");
+        }
+
+        JdbiCacheStats stats = handle.getConfig(ReflectionMappers.class).specializedMapperCacheStats();
+        assertThat(stats.missCount()).isOne();
+        assertThat(stats.hitCount()).isEqualTo(2);
+    }
+
+    @Test
+    void testConfigurationChangeDiscardsCache() {
+        handle.getConfig(ReflectionMappers.class).setSpecializedMapperCache(DefaultJdbiCacheBuilder.builder().maxSize(10));
+
+        RowMapper<User> mapper = FieldMapper.of(User.class);
+        RowMapper<User> specializedMapper = specialize(mapper, "SELECT id, name FROM users");
+
+        handle.getConfig(ReflectionMappers.class).setCaseChange(CaseStrategy.NOP);
+
+        assertThat(specialize(mapper, "SELECT id, name FROM users")).isNotSameAs(specializedMapper);
+    }
+
+    private <T> RowMapper<T> specialize(RowMapper<T> mapper, String sql) {
+        return handle.createQuery(sql).scanResultSet((rs, ctx) -> {
+            try (StatementContext context = ctx) {
+                return mapper.specialize(rs.get(), context);
+            }
+        });
+    }
+
+    public static class User {
+        public int id;
+        public String name;
+    }
+
+    public static class UserBean {
+        private int id;
+        private String name;
+
+        public int getId() {
+            return id;
+        }
+
+        public void setId(int id) {
+            this.id = id;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+}
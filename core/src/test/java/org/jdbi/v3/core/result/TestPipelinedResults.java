@@ -0,0 +1,220 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.reflect.ConstructorMapper;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestPipelinedResults {
+
+    private static final int ROWS = 1000;
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.withSomething();
+
+    private ExecutorService executor;
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        handle = h2Extension.getSharedHandle();
+
+        PreparedBatch batch = handle.prepareBatch("insert into something (id, name, integerValue, intValue) values (:id, :name, :integerValue, :intValue)");
+        for (int i = 1; i <= ROWS; i++) {
+            batch.bind("id", i)
+                .bind("name", "name" + i)
+                .bind("integerValue", i % 3 == 0 ? null : i)
+                .bind("intValue", i * 2)
+                .add();
+        }
+        batch.execute();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testPreservesOrder() {
+        List<Something> expected = handle.createQuery("select * from something order by id")
+            .mapToBean(Something.class)
+            .list();
+
+        List<Something> pipelined = handle.createQuery("select * from something order by id")
+            .mapToBean(Something.class)
+            .pipelined(16, 3, executor)
+            .list();
+
+        assertThat(pipelined).hasSize(ROWS).isEqualTo(expected);
+    }
+
+    @Test
+    public void testColumnConversions() {
+        handle.execute("create table conversions (d decimal(10, 2), ts timestamp, dt date, b boolean, s varchar(10))");
+        handle.execute("insert into conversions values (12.50, timestamp '2024-03-01 10:15:30', date '2024-03-01', true, 'text')");
+
+        Conversions result = handle.createQuery("select * from conversions")
+            .map(ConstructorMapper.of(Conversions.class))
+            .pipelined(1, executor)
+            .one();
+
+        assertThat(result.d).isEqualByComparingTo("12.50");
+        assertThat(result.ts).isEqualTo(LocalDateTime.of(2024, 3, 1, 10, 15, 30));
+        assertThat(result.dt).isEqualTo(LocalDate.of(2024, 3, 1));
+        assertThat(result.b).isTrue();
+        assertThat(result.s).isEqualTo("text");
+    }
+
+    @Test
+    public void testZonedAndUuidConversions() {
+        UUID uuid = UUID.randomUUID();
+        OffsetDateTime odt = OffsetDateTime.of(2024, 3, 1, 10, 15, 30, 0, ZoneOffset.ofHours(2));
+
+        handle.execute("create table zoned (odt timestamp with time zone, u varchar(36), n decimal(10, 0))");
+        handle.execute("insert into zoned values (?, ?, 1000)", odt, uuid.toString());
+
+        List<Object> result = handle.createQuery("select * from zoned")
+            .map((rs, ctx) -> Arrays.<Object>asList(
+                rs.getObject("odt", OffsetDateTime.class),
+                rs.getObject("u", UUID.class),
+                rs.getString("n")))
+            .pipelined(1, executor)
+            .one();
+
+        assertThat((OffsetDateTime) result.get(0)).isAtSameInstantAs(odt);
+        assertThat(result.subList(1, 3)).containsExactly(uuid, "1000");
+    }
+
+    @Test
+    public void testUnbufferableColumnsAreMappedByReader() {
+        Set<Thread> mappingThreads = ConcurrentHashMap.newKeySet();
+
+        List<Integer> sums = handle.createQuery("select id, array[id, id] as ids from something order by id")
+            .map((rs, ctx) -> {
+                mappingThreads.add(Thread.currentThread());
+                // the array column is only valid on the reading thread
+                Object[] ids = (Object[]) rs.getArray("ids").getArray();
+                return rs.getInt("id") + ((Number) ids[0]).intValue() + ((Number) ids[1]).intValue();
+            })
+            .pipelined(8, 3, executor)
+            .list();
+
+        assertThat(sums).isEqualTo(IntStream.rangeClosed(1, ROWS).map(i -> i * 3).boxed().collect(Collectors.toList()));
+        assertThat(mappingThreads).hasSize(1).doesNotContain(Thread.currentThread());
+    }
+
+    @Test
+    public void testCloseStopsPipeline() {
+        try (Stream<String> names = handle.createQuery("select name from something order by id")
+            .mapTo(String.class)
+            .pipelined(4, 2, executor)
+            .stream()) {
+            assertThat(names.limit(3)).containsExactly("name1", "name2", "name3");
+        }
+
+        // the handle is usable after the pipeline was closed
+        assertThat(handle.createQuery("select count(*) from something").mapTo(int.class).one()).isEqualTo(ROWS);
+    }
+
+    @Test
+    public void testMappingFailure() {
+        assertThatThrownBy(() -> handle.createQuery("select id from something order by id")
+            .map((rs, ctx) -> {
+                int id = rs.getInt("id");
+                if (id == 500) {
+                    throw new IllegalStateException("bad row " + id);
+                }
+                return id;
+            })
+            .pipelined(8, 2, executor)
+            .list())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("bad row 500");
+
+        assertThat(handle.createQuery("select count(*) from something").mapTo(int.class).one()).isEqualTo(ROWS);
+    }
+
+    @Test
+    public void testReadAhead() {
+        List<Integer> doubled = handle.createQuery("select id from something order by id")
+            .mapTo(int.class)
+            .map(id -> id * 2)
+            .pipelined(8, executor)
+            .list();
+
+        assertThat(doubled).isEqualTo(IntStream.rangeClosed(1, ROWS).map(i -> i * 2).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testEmptyResult() {
+        assertThat(handle.createQuery("select id from something where id < 0")
+            .mapTo(int.class)
+            .pipelined(8, 2, executor)
+            .list())
+            .isEmpty();
+    }
+
+    @Test
+    public void testInvalidArguments() {
+        ResultIterable<Integer> ids = handle.createQuery("select id from something").mapTo(int.class);
+
+        assertThatThrownBy(() -> ids.pipelined(0, executor)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ids.pipelined(8, 0, executor)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ids.pipelined(8, null)).isInstanceOf(NullPointerException.class);
+    }
+
+    public static class Conversions {
+        final BigDecimal d;
+        final LocalDateTime ts;
+        final LocalDate dt;
+        final boolean b;
+        final String s;
+
+        public Conversions(BigDecimal d, LocalDateTime ts, LocalDate dt, boolean b, String s) {
+            this.d = d;
+            this.ts = ts;
+            this.dt = dt;
+            this.b = b;
+            this.s = s;
+        }
+    }
+}
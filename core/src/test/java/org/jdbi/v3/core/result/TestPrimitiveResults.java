@@ -0,0 +1,129 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result;
+
+import java.util.LongSummaryStatistics;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.stream.LongStream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.collector.JdbiCollectors;
+import org.jdbi.v3.core.collector.NoSuchCollectorException;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.ColumnMappers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestPrimitiveResults {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("create table numbers (id bigint, amount double, label varchar(10))");
+        for (int i = 1; i <= 100; i++) {
+            handle.execute("insert into numbers (id, amount, label) values (?, ?, ?)", i, i / 2.0, "n" + i);
+        }
+    }
+
+    @Test
+    public void testMapToLong() {
+        assertThat(handle.createQuery("select id from numbers order by id").mapToLong(1).toArray())
+            .containsExactly(LongStream.rangeClosed(1, 100).toArray());
+
+        try (LongStream ids = handle.createQuery("select label, id from numbers").mapToLong("id").stream()) {
+            assertThat(ids.sum()).isEqualTo(5050L);
+        }
+    }
+
+    @Test
+    public void testMapToInt() {
+        assertThat(handle.createQuery("select id from numbers where id <= 3 order by id").mapToInt(1).toArray())
+            .containsExactly(1, 2, 3);
+    }
+
+    @Test
+    public void testMapToDouble() {
+        assertThat(handle.createQuery("select amount from numbers where id <= 3 order by id").mapToDouble("amount").toArray())
+            .containsExactly(0.5, 1.0, 1.5);
+    }
+
+    @Test
+    public void testCollectInto() {
+        assertThat(handle.createQuery("select id from numbers order by id").mapToLong(1).collectInto(long[].class))
+            .containsExactly(LongStream.rangeClosed(1, 100).toArray());
+
+        LongSummaryStatistics stats = handle.createQuery("select id from numbers").mapToLong(1).collectInto(LongSummaryStatistics.class);
+        assertThat(stats.getCount()).isEqualTo(100);
+        assertThat(stats.getSum()).isEqualTo(5050L);
+
+        assertThat(handle.createQuery("select id from numbers where id = 7").mapToLong(1).collectInto(OptionalLong.class)).hasValue(7L);
+        assertThat(handle.createQuery("select id from numbers where id = 0").mapToInt(1).collectInto(OptionalInt.class)).isEmpty();
+        assertThat(handle.createQuery("select amount from numbers where id = 3").mapToDouble(1).collectInto(OptionalDouble.class)).hasValue(1.5);
+
+        assertThatThrownBy(() -> handle.createQuery("select id from numbers").mapToLong(1).collectInto(OptionalLong.class))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("Multiple values for optional");
+    }
+
+    @Test
+    public void testRegisteredPrimitiveCollector() {
+        assertThatThrownBy(() -> handle.createQuery("select id from numbers").mapToLong(1).collectInto(String.class))
+            .isInstanceOf(NoSuchCollectorException.class);
+
+        handle.getConfig(JdbiCollectors.class).registerPrimitiveCollector(LongStream.class, String.class,
+            ids -> ids.mapToObj(Long::toString).reduce((a, b) -> a + "," + b).orElse(""));
+
+        assertThat(handle.createQuery("select id from numbers where id <= 3 order by id").mapToLong(1).collectInto(String.class))
+            .isEqualTo("1,2,3");
+    }
+
+    @Test
+    public void testPartialStreamIsClosed() {
+        try (LongStream ids = handle.createQuery("select id from numbers order by id").mapToLong(1).stream()) {
+            assertThat(ids.limit(3).toArray()).containsExactly(1, 2, 3);
+        }
+
+        assertThat(handle.createQuery("select count(*) from numbers").mapToLong(1).toArray()).containsExactly(100);
+    }
+
+    @Test
+    public void testNullValues() {
+        handle.execute("insert into numbers (id) values (null)");
+
+        assertThatThrownBy(() -> handle.createQuery("select id from numbers where id is null").mapToLong(1).toArray())
+            .isInstanceOf(UnableToProduceResultException.class)
+            .hasMessageContaining("Database null values are not allowed");
+
+        handle.getConfig(ColumnMappers.class).setCoalesceNullPrimitivesToDefaults(true);
+
+        assertThat(handle.createQuery("select id from numbers where id is null").mapToLong(1).toArray()).containsExactly(0);
+    }
+
+    @Test
+    public void testUnknownColumn() {
+        assertThatThrownBy(() -> handle.createQuery("select id from numbers").mapToLong("missing").toArray())
+            .isInstanceOf(ResultSetException.class);
+    }
+}
@@ -19,6 +19,7 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collector;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.jdbi.v3.core.Handle;
@@ -33,6 +34,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 import static java.util.stream.Collectors.toList;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class TestReducing {
 
@@ -139,6 +141,120 @@ public class TestReducing {
             .containsEntry(2, new SomethingWithLocations(new Something(2, "apple")).at("tree").at("pie"));
     }
 
+    @Test
+    public void testReduceJoinedSortedByKey() {
+        Handle h = h2Extension.getSharedHandle();
+        h.execute("INSERT INTO something (id, name) VALUES (3, 'rock')");
+        registerJoinMappers(h);
+
+        List<SomethingWithLocations> result = h
+            .createQuery("SELECT something.id, name, location FROM something LEFT JOIN something_location ON something.id = something_location.id ORDER BY something.id, location")
+            .reduceJoined(SomethingWithLocations.class, String.class)
+            .on("id")
+            .childKey("location")
+            .sortedByKey()
+            .list(SomethingWithLocations::at);
+
+        assertThat(result).containsExactly(
+            new SomethingWithLocations(new Something(1, "tree")).at("outside"),
+            new SomethingWithLocations(new Something(2, "apple")).at("pie").at("tree"),
+            new SomethingWithLocations(new Something(3, "rock")));
+    }
+
+    @Test
+    public void testReduceJoinedUnsorted() {
+        Handle h = h2Extension.getSharedHandle();
+        h.execute("INSERT INTO something_location (id, location) VALUES (1, 'roof')");
+        registerJoinMappers(h);
+
+        List<SomethingWithLocations> result = h
+            .createQuery("SELECT something.id, name, location FROM something NATURAL JOIN something_location ORDER BY location")
+            .reduceJoined(SomethingWithLocations.class, String.class)
+            .on("id")
+            .list(SomethingWithLocations::at);
+
+        assertThat(result).containsExactly(
+            new SomethingWithLocations(new Something(1, "tree")).at("outside").at("roof"),
+            new SomethingWithLocations(new Something(2, "apple")).at("pie").at("tree"));
+    }
+
+    @Test
+    public void testReduceJoinedUnsortedManyParents() {
+        Handle h = h2Extension.getSharedHandle();
+        for (int i = 3; i <= 300; i++) {
+            h.execute("INSERT INTO something (id, name) VALUES (?, ?)", i, "thing" + i);
+            h.execute("INSERT INTO something_location (id, location) VALUES (?, ?)", i, "a" + i);
+            h.execute("INSERT INTO something_location (id, location) VALUES (?, ?)", i, "b" + i);
+        }
+        registerJoinMappers(h);
+
+        List<SomethingWithLocations> result = h
+            .createQuery("SELECT something.id, name, location FROM something NATURAL JOIN something_location ORDER BY location")
+            .reduceJoined(SomethingWithLocations.class, String.class)
+            .on("id")
+            .list(SomethingWithLocations::at);
+
+        assertThat(result).extracting(s -> s.something.getId())
+            .containsExactlyInAnyOrderElementsOf(IntStream.rangeClosed(1, 300).boxed().collect(toList()));
+        assertThat(result).filteredOn(s -> s.something.getId() > 2)
+            .allSatisfy(s -> assertThat(s.locations).containsExactly("a" + s.something.getId(), "b" + s.something.getId()));
+    }
+
+    @Test
+    public void testReduceJoinedBinaryKey() {
+        Handle h = h2Extension.getSharedHandle();
+        h.execute("CREATE TABLE tagged (k varbinary(4), tag varchar)");
+        h.execute("INSERT INTO tagged (k, tag) VALUES (X'01', 'a'), (X'02', 'b'), (X'01', 'c')");
+        h.registerRowMapper(StringBuilder.class, (rs, ctx) -> new StringBuilder());
+        h.registerRowMapper(String.class, (rs, ctx) -> rs.getString("tag"));
+
+        List<StringBuilder> unsorted = h.createQuery("SELECT k, tag FROM tagged ORDER BY tag")
+            .reduceJoined(StringBuilder.class, String.class)
+            .on("k")
+            .list(StringBuilder::append);
+
+        assertThat(unsorted).extracting(StringBuilder::toString).containsExactly("ac", "b");
+
+        List<StringBuilder> sorted = h.createQuery("SELECT k, tag FROM tagged ORDER BY k, tag")
+            .reduceJoined(StringBuilder.class, String.class)
+            .on("k")
+            .sortedByKey()
+            .list(StringBuilder::append);
+
+        assertThat(sorted).extracting(StringBuilder::toString).containsExactly("ac", "b");
+    }
+
+    @Test
+    public void testReduceJoinedStreamClean() {
+        Handle h = h2Extension.getSharedHandle();
+        registerJoinMappers(h);
+
+        try (Stream<SomethingWithLocations> stream = h
+                .createQuery("SELECT something.id, name, location FROM something NATURAL JOIN something_location ORDER BY something.id")
+                .reduceJoined(SomethingWithLocations.class, String.class)
+                .on("id")
+                .sortedByKey()
+                .stream(SomethingWithLocations::at)) {
+            assertThat(stream.findFirst()).contains(new SomethingWithLocations(new Something(1, "tree")).at("outside"));
+        }
+
+        assertThat(h.createQuery("SELECT count(*) FROM something").mapTo(int.class).one()).isEqualTo(2);
+    }
+
+    @Test
+    public void testReduceJoinedRequiresKey() {
+        assertThatThrownBy(() -> h2Extension.getSharedHandle()
+                .createQuery("SELECT something.id, name, location FROM something NATURAL JOIN something_location")
+                .reduceJoined(Something.class, String.class)
+                .list((something, location) -> {}))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static void registerJoinMappers(Handle h) {
+        h.registerRowMapper(SomethingWithLocations.class, (rs, ctx) -> new SomethingWithLocations(new SomethingMapper().map(rs, ctx)));
+        h.registerRowMapper(String.class, (rs, ctx) -> rs.getString("location"));
+    }
+
     static class SomethingWithLocations {
 
         final Something something;
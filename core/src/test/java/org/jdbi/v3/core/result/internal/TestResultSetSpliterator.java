@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.result.internal;
+
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestResultSetSpliterator {
+
+    private static final int ROWS = 5000;
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.instance();
+
+    private Handle handle;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        handle.execute("create table numbers (n int)");
+        PreparedBatch batch = handle.prepareBatch("insert into numbers (n) values (:n)");
+        for (int i = 0; i < ROWS; i++) {
+            batch.bind("n", i).add();
+        }
+        batch.execute();
+    }
+
+    @Test
+    public void testStreamIsOrdered() {
+        try (Stream<Integer> numbers = handle.createQuery("select n from numbers order by n").mapTo(int.class).stream()) {
+            Spliterator<Integer> spliterator = numbers.spliterator();
+            assertThat(spliterator.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+            assertThat(spliterator.hasCharacteristics(Spliterator.SIZED)).isFalse();
+        }
+
+        assertThat(handle.createQuery("select n from numbers order by n").mapTo(int.class).list())
+            .isEqualTo(IntStream.range(0, ROWS).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testSplitUsesFetchSize() {
+        RowMapper<Integer> mapper = (rs, ctx) -> rs.getInt(1);
+
+        handle.createQuery("select n from numbers order by n").setFetchSize(100).scanResultSet((supplier, ctx) -> {
+            try (ResultSetResultIterator<Integer> iterator = new ResultSetResultIterator<>(supplier, mapper, ctx)) {
+                ResultSetSpliterator<Integer> spliterator = new ResultSetSpliterator<>(iterator);
+
+                Spliterator<Integer> batch = spliterator.trySplit();
+                assertThat(batch).isNotNull();
+                assertThat(batch.estimateSize()).isEqualTo(100);
+                assertThat(batch.hasCharacteristics(Spliterator.ORDERED)).isTrue();
+
+                int[] next = {-1};
+                assertThat(spliterator.tryAdvance(n -> next[0] = n)).isTrue();
+                assertThat(next[0]).isEqualTo(100);
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void testSplitCapsLargeFetchSize() {
+        RowMapper<Integer> mapper = (rs, ctx) -> rs.getInt(1);
+
+        handle.createQuery("select n from numbers order by n").setFetchSize(Integer.MAX_VALUE).scanResultSet((supplier, ctx) -> {
+            try (ResultSetResultIterator<Integer> iterator = new ResultSetResultIterator<>(supplier, mapper, ctx)) {
+                ResultSetSpliterator<Integer> spliterator = new ResultSetSpliterator<>(iterator);
+
+                Spliterator<Integer> batch = spliterator.trySplit();
+                assertThat(batch).isNotNull();
+                assertThat(batch.estimateSize()).isEqualTo(ROWS);
+                assertThat(spliterator.trySplit()).isNull();
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void testParallelStreamKeepsOrder() {
+        List<Integer> result;
+        try (Stream<Integer> numbers = handle.createQuery("select n from numbers order by n").setFetchSize(64).mapTo(int.class).stream()) {
+            result = numbers.parallel().map(n -> n * 2).collect(Collectors.toList());
+        }
+
+        assertThat(result).isEqualTo(IntStream.range(0, ROWS).map(n -> n * 2).boxed().collect(Collectors.toList()));
+    }
+}
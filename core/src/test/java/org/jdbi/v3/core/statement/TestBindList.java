@@ -14,6 +14,7 @@
 package org.jdbi.v3.core.statement;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.junit5.H2DatabaseExtension;
@@ -127,6 +128,61 @@ public class TestBindList {
         }
     }
 
+    @Test
+    public void testBucketSize() {
+        assertThat(SqlStatement.bucketSize(1)).isOne();
+        assertThat(SqlStatement.bucketSize(2)).isEqualTo(2);
+        assertThat(SqlStatement.bucketSize(3)).isEqualTo(4);
+        assertThat(SqlStatement.bucketSize(4)).isEqualTo(4);
+        assertThat(SqlStatement.bucketSize(5)).isEqualTo(8);
+        assertThat(SqlStatement.bucketSize(1000)).isEqualTo(1024);
+    }
+
+    @Test
+    public void testBucketedBindList() {
+        handle.getConfig(SqlStatements.class).setBindListStrategy(BindListStrategy.BUCKETED);
+
+        try (Query query = handle.createQuery("select id, foo from thing where id in (<ids>) order by id")) {
+            List<Thing> list = query.bindList("ids", 1, 2, 3)
+                    .mapTo(Thing.class)
+                    .list();
+
+            assertThat(list).extracting(Thing::getId).containsExactly(1, 2);
+            assertThat(query.getContext().getRenderedSql())
+                    .isEqualTo("select id, foo from thing where id in (:__ids_0,:__ids_1,:__ids_2,:__ids_3) order by id");
+        }
+    }
+
+    @Test
+    public void testArrayBindList() {
+        handle.getConfig(SqlStatements.class).setBindListStrategy(BindListStrategy.ARRAY);
+
+        for (List<Integer> ids : List.of(List.of(1), List.of(1, 2), List.of(2, 3, 4))) {
+            try (Query query = handle.createQuery("select id from thing where id in (<ids>) order by id")) {
+                List<Integer> list = query.bindList("ids", ids)
+                        .mapTo(Integer.class)
+                        .list();
+
+                assertThat(list).containsExactlyElementsOf(ids.stream().filter(id -> id <= 2).collect(Collectors.toList()));
+                assertThat(query.getContext().getRenderedSql())
+                        .isEqualTo("select id from thing where id in (select * from unnest(cast(:__ids_array as integer array))) order by id");
+            }
+        }
+    }
+
+    @Test
+    public void testArrayBindListFallsBackForMixedTypes() {
+        try (Query query = handle.createQuery("select id from thing where id in (<ids>) order by id")) {
+            List<Integer> list = query.bindList(BindListStrategy.ARRAY, EmptyHandling.THROW, "ids", List.of(1, 2L, 3))
+                    .mapTo(Integer.class)
+                    .list();
+
+            assertThat(list).containsExactly(1, 2);
+            assertThat(query.getContext().getRenderedSql())
+                    .isEqualTo("select id from thing where id in (:__ids_0,:__ids_1,:__ids_2,:__ids_3) order by id");
+        }
+    }
+
     public static class Thing {
 
         public int id;
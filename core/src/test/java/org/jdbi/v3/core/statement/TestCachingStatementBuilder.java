@@ -0,0 +1,123 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.cache.JdbiCacheStats;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestCachingStatementBuilder {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.withSomething();
+
+    private final List<PreparedStatement> statements = new ArrayList<>();
+
+    @BeforeEach
+    public void setUp() {
+        h2Extension.getSharedHandle().execute("insert into something (id, name) values (1, 'Alice'), (2, 'Bob'), (3, 'Carol')");
+
+        h2Extension.getJdbi()
+            .setStatementBuilderFactory(CachingStatementBuilder.factory(2))
+            .addCustomizer(new StatementCustomizer() {
+                @Override
+                public void beforeExecution(PreparedStatement stmt, StatementContext ctx) {
+                    statements.add(stmt);
+                }
+            });
+    }
+
+    @Test
+    public void testReuseStatement() {
+        try (Handle h = h2Extension.getJdbi().open()) {
+            assertThat(h.getStatementBuilder()).isInstanceOf(CachingStatementBuilder.class);
+
+            for (int i = 1; i <= 3; i++) {
+                assertThat(h.createQuery("select name from something where id = :id").bind("id", i).mapTo(String.class).one())
+                    .isNotNull();
+            }
+
+            assertThat(statements).hasSize(3).containsOnly(statements.get(0));
+
+            JdbiCacheStats stats = ((CachingStatementBuilder) h.getStatementBuilder()).getStats();
+            assertThat(stats.cacheSize()).isOne();
+            assertThat(stats.hitCount()).isEqualTo(2);
+            assertThat(stats.missCount()).isOne();
+        }
+    }
+
+    @Test
+    public void testConcurrentStatementsWithSameSql() {
+        try (Handle h = h2Extension.getJdbi().open()) {
+            String sql = "select name from something order by id";
+            try (var outer = h.createQuery(sql).mapTo(String.class).iterator()) {
+                assertThat(outer.next()).isEqualTo("Alice");
+                assertThat(h.createQuery(sql).mapTo(String.class).list()).containsExactly("Alice", "Bob", "Carol");
+                assertThat(outer.next()).isEqualTo("Bob");
+            }
+
+            assertThat(statements).hasSize(2).doesNotHaveDuplicates();
+        }
+    }
+
+    @Test
+    public void testResetStatementSettings() {
+        try (Handle h = h2Extension.getJdbi().open()) {
+            String sql = "select name from something order by id";
+            assertThat(h.createQuery(sql).setMaxRows(1).mapTo(String.class).list()).containsExactly("Alice");
+            assertThat(h.createQuery(sql).mapTo(String.class).list()).containsExactly("Alice", "Bob", "Carol");
+
+            assertThat(statements).hasSize(2).containsOnly(statements.get(0));
+        }
+    }
+
+    @Test
+    public void testEvictionAndClose() throws SQLException {
+        CachingStatementBuilder builder;
+        try (Handle h = h2Extension.getJdbi().open()) {
+            builder = (CachingStatementBuilder) h.getStatementBuilder();
+
+            for (int i = 1; i <= 3; i++) {
+                h.createQuery("select name from something where id = " + i).mapTo(String.class).one();
+            }
+
+            assertThat(statements).hasSize(3);
+            assertThat(statements.get(0).isClosed()).isTrue();
+            assertThat(statements.get(1).isClosed()).isFalse();
+            assertThat(statements.get(2).isClosed()).isFalse();
+
+            assertThat(builder.getStats().cacheSize()).isEqualTo(2);
+            assertThat(builder.getStats().evictionCount()).isOne();
+        }
+
+        assertThat(builder.getStats().cacheSize()).isZero();
+        assertThat(statements).allMatch(stmt -> {
+            try {
+                return stmt.isClosed();
+            } catch (SQLException e) {
+                throw new AssertionError(e);
+            }
+        });
+    }
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestJdbiMetrics {
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.withSomething();
+
+    private JdbiMetrics metrics;
+
+    @BeforeEach
+    public void setUp() {
+        metrics = h2Extension.getJdbi().getConfig(JdbiMetrics.class).setEnabled(true);
+    }
+
+    @Test
+    public void testFingerprint() {
+        assertThat(JdbiMetrics.fingerprint("select  *\n from t1 where id in (?, ?,?) and name = 'O''Brien' and x > 12.5 "))
+            .isEqualTo("select * from t1 where id in (?) and name = ? and x > ?");
+    }
+
+    @Test
+    public void testQueryMetrics() {
+        String insertSql = "insert into something (id, name) values (1, 'Alice'), (2, 'Bob'), (3, 'Carol')";
+        try (Handle h = h2Extension.getJdbi().open()) {
+            h.execute(insertSql);
+
+            for (int i = 0; i < 3; i++) {
+                assertThat(h.createQuery("select name from something where id <= :id").bind("id", 2).mapTo(String.class).list())
+                    .containsExactly("Alice", "Bob");
+            }
+            h.createQuery("select name from something where id  <=  :id").bind("id", 3).mapTo(String.class).list();
+        }
+
+        StatementMetrics query = metrics.getStatementMetrics("select name from something where id <= ?").orElseThrow();
+        assertThat(query.getExecutions()).isEqualTo(4);
+        assertThat(query.getErrors()).isZero();
+        assertThat(query.getRows()).isEqualTo(9);
+        assertThat(query.getBatches()).isZero();
+        assertThat(query.getExecuteLatency().getCount()).isEqualTo(4);
+        assertThat(query.getBindLatency().getCount()).isEqualTo(4);
+        assertThat(query.getMappingLatency().getCount()).isEqualTo(4);
+        assertThat(query.getExecuteLatency().getPercentile(50.0)).isLessThanOrEqualTo(query.getExecuteLatency().getMax());
+        assertThat(query.getExecuteLatency().getTotal()).isPositive();
+
+        StatementMetrics insert = metrics.getStatementMetrics(insertSql).orElseThrow();
+        assertThat(insert.getFingerprint()).isEqualTo("insert into something (id, name) values (?), (?), (?)");
+        assertThat(insert.getExecutions()).isOne();
+        assertThat(insert.getRows()).isZero();
+    }
+
+    @Test
+    public void testBatchMetrics() {
+        try (Handle h = h2Extension.getJdbi().open()) {
+            PreparedBatch batch = h.prepareBatch("insert into something (id, name) values (:id, :name)");
+            for (int i = 0; i < 5; i++) {
+                batch.bind("id", i).bind("name", "name" + i).add();
+            }
+            batch.execute();
+
+            batch = h.prepareBatch("insert into something (id, name) values (:id, :name)");
+            for (int i = 5; i < 7; i++) {
+                batch.bind("id", i).bind("name", "name" + i).add();
+            }
+            batch.execute();
+        }
+
+        StatementMetrics insert = metrics.getStatementMetrics("insert into something (id, name) values (?)").orElseThrow();
+        assertThat(insert.getExecutions()).isEqualTo(2);
+        assertThat(insert.getBatches()).isEqualTo(2);
+        assertThat(insert.getBatchParts()).isEqualTo(7);
+        assertThat(insert.getMaxBatchSize()).isEqualTo(5);
+    }
+
+    @Test
+    public void testErrors() {
+        try (Handle h = h2Extension.getJdbi().open()) {
+            h.execute("insert into something (id, name) values (1, 'Alice')");
+            assertThatThrownBy(() -> h.execute("insert into something (id, name) values (1, 'Bob')"))
+                .isInstanceOf(UnableToExecuteStatementException.class);
+        }
+
+        StatementMetrics insert = metrics.getStatementMetrics("insert into something (id, name) values (?)").orElseThrow();
+        assertThat(insert.getExecutions()).isEqualTo(2);
+        assertThat(insert.getErrors()).isOne();
+    }
+
+    @Test
+    public void testExportAndReset() {
+        List<Collection<StatementMetrics>> exported = new ArrayList<>();
+        metrics.addExporter(exported::add);
+
+        h2Extension.getJdbi().useHandle(h -> h.createQuery("select count(*) from something").mapTo(int.class).one());
+        metrics.export();
+
+        assertThat(exported).hasSize(1);
+        assertThat(exported.get(0))
+            .extracting(StatementMetrics::getFingerprint)
+            .containsExactly("select count(*) from something");
+
+        metrics.reset();
+        assertThat(metrics.getStatementMetrics()).isEmpty();
+    }
+
+    @Test
+    public void testDisabled() {
+        metrics.setEnabled(false);
+
+        h2Extension.getJdbi().useHandle(h -> h.createQuery("select count(*) from something").mapTo(int.class).one());
+
+        assertThat(metrics.getStatementMetrics()).isEmpty();
+    }
+
+    @Test
+    public void testEnabledForHandle() {
+        metrics.setEnabled(false);
+
+        try (Handle h = h2Extension.getJdbi().open()) {
+            h.getConfig(JdbiMetrics.class).setEnabled(true);
+            h.createQuery("select count(*) from something").mapTo(int.class).one();
+        }
+
+        assertThat(metrics.getStatementMetrics()).extracting(StatementMetrics::getFingerprint)
+            .containsExactly("select count(*) from something");
+    }
+
+    @Test
+    public void testLatencyPercentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1_000L);
+        }
+
+        StatementMetrics.Latency latency = histogram.snapshot();
+        assertThat(latency.getCount()).isEqualTo(1000);
+        assertThat(latency.getMax()).isEqualTo(Duration.ofMillis(1));
+        assertThat(latency.getMean()).isEqualTo(Duration.ofNanos(500_500));
+        assertThat(latency.getPercentile(50.0).toNanos()).isBetween(500_000L, 562_500L);
+        assertThat(latency.getPercentile(99.0).toNanos()).isBetween(990_000L, 1_000_000L);
+        assertThat(latency.getPercentile(100.0)).isEqualTo(latency.getMax());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.core.statement;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.junit5.H2DatabaseExtension;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class TestPartitionedQuery {
+
+    private static final int ROWS = 1000;
+
+    @RegisterExtension
+    public H2DatabaseExtension h2Extension = H2DatabaseExtension.withSomething();
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+
+        try (Handle h = h2Extension.openHandle()) {
+            PreparedBatch batch = h.prepareBatch("insert into something (id, name) values (:id, :name)");
+            for (int i = 0; i < ROWS; i++) {
+                batch.bind("id", i).bind("name", "name" + i).add();
+            }
+            batch.execute();
+        }
+    }
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testModuloUnordered() {
+        try (Stream<Integer> ids = h2Extension.getJdbi()
+            .partitionedQuery("select id from something where mod(id, :partitions) = :partition", Partitioning.modulo(4), executor)
+            .bufferSize(10)
+            .mapTo(Integer.class)) {
+
+            assertThat(ids.collect(Collectors.toList()))
+                .hasSize(ROWS)
+                .containsExactlyInAnyOrderElementsOf(IntStream.range(0, ROWS).boxed().collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testRangeOrdered() {
+        try (Stream<String> names = h2Extension.getJdbi()
+            .partitionedQuery("select name from something where id >= :lower and id < :upper order by id", Partitioning.range(0, ROWS, 3), executor)
+            .ordered(true)
+            .bufferSize(5)
+            .map((rs, ctx) -> rs.getString("name"))) {
+
+            assertThat(names.collect(Collectors.toList()))
+                .containsExactlyElementsOf(IntStream.range(0, ROWS).mapToObj(i -> "name" + i).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testCustomize() {
+        try (Stream<Integer> ids = h2Extension.getJdbi()
+            .partitionedQuery("select id from something where mod(id, :partitions) = :partition and id < :limit", Partitioning.modulo(2), executor)
+            .customize(query -> query.bind("limit", 10))
+            .mapTo(Integer.class)) {
+
+            assertThat(ids).containsExactlyInAnyOrder(0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+        }
+    }
+
+    @Test
+    public void testCloseStopsPartitions() throws InterruptedException {
+        try (Stream<Integer> ids = h2Extension.getJdbi()
+            .partitionedQuery("select id from something where mod(id, :partitions) = :partition", Partitioning.modulo(4), executor)
+            .bufferSize(1)
+            .mapTo(Integer.class)) {
+
+            List<Integer> first = ids.limit(3).collect(Collectors.toList());
+            assertThat(first).hasSize(3);
+        }
+
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    public void testFailure() {
+        try (Stream<Integer> ids = h2Extension.getJdbi()
+            .partitionedQuery("select id from something where mod(id, :partitions) = :partition and 1 / (id - 500) <> 0", Partitioning.modulo(4), executor)
+            .mapTo(Integer.class)) {
+
+            assertThatThrownBy(() -> ids.forEach(id -> {}))
+                .isInstanceOf(StatementException.class);
+        }
+    }
+
+    @Test
+    public void testRangePartitioning() {
+        List<String> ranges;
+        try (Handle h = h2Extension.openHandle()) {
+            Partitioning partitioning = Partitioning.range(0, 10, 3);
+            assertThat(partitioning.getPartitionCount()).isEqualTo(3);
+
+            ranges = IntStream.range(0, 3).mapToObj(partition -> {
+                Query query = h.createQuery("select cast(:lower as varchar) || '-' || cast(:upper as varchar)");
+                partitioning.bind(query, partition);
+                return query.mapTo(String.class).one();
+            }).collect(Collectors.toList());
+        }
+
+        assertThat(ranges).containsExactly("0-4", "4-8", "8-10");
+
+        assertThatThrownBy(() -> Partitioning.range(10, 0, 2)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Partitioning.modulo(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
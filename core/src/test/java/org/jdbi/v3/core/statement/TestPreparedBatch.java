@@ -35,6 +35,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.fail;
 import static org.assertj.core.api.Assertions.tuple;
 
@@ -86,6 +87,70 @@ public class TestPreparedBatch {
         assertThat(rowCount).isEqualTo(count);
     }
 
+    @Test
+    public void testAutoFlushBatch() {
+        Handle h = h2Extension.getSharedHandle();
+
+        PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)").autoFlushEvery(10);
+
+        for (int i = 0; i < 25; ++i) {
+            b.bind("id", i).bind("name", "A Name").add();
+        }
+
+        // two chunks were executed, the remaining parts are pending
+        assertThat(b.size()).isEqualTo(5);
+        assertThat(h.createQuery("select count(id) from something").mapTo(int.class).one()).isEqualTo(20);
+
+        assertThat(b.execute()).hasSize(25).containsOnly(1);
+        assertThat(b.getContext().isClean()).isTrue();
+        assertThat(h.createQuery("select count(id) from something").mapTo(int.class).one()).isEqualTo(25);
+    }
+
+    @Test
+    public void testAutoFlushBatchFlush() {
+        Handle h = h2Extension.getSharedHandle();
+
+        try (PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)").autoFlushEvery(2)) {
+            b.add(1, "Eric").add(2, "Brian").add(3, "Keith");
+            assertThat(b.flush()).containsExactly(1, 1, 1);
+
+            b.add(4, "Steven").add(5, "Matthew");
+            assertThat(b.flush()).containsExactly(1, 1);
+            assertThat(b.flush()).isEmpty();
+        }
+
+        assertThat(h.createQuery("select count(id) from something").mapTo(int.class).one()).isEqualTo(5);
+    }
+
+    @Test
+    public void testAutoFlushBatchRejectsResultProducers() {
+        Handle h = h2Extension.getSharedHandle();
+
+        try (PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)").autoFlushEvery(2)) {
+            b.add(1, "Eric");
+            assertThatThrownBy(() -> b.executePreparedBatch("id")).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThatThrownBy(() -> h.prepareBatch("insert into something (id, name) values (:id, :name)").autoFlushEvery(0))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void testFlushThenReturnGeneratedKeys() {
+        Handle h = h2Extension.getSharedHandle();
+
+        try (PreparedBatch b = h.prepareBatch("insert into something (id, name) values (:id, :name)")) {
+            b.add(1, "Eric").add(2, "Brian");
+            assertThat(b.flush()).containsExactly(1, 1);
+
+            // the statement that was prepared without generated keys must not be reused
+            b.add(3, "Keith").add(4, "Steven");
+            assertThat(b.executePreparedBatch("id").mapTo(int.class).list()).containsExactly(3, 4);
+        }
+
+        assertThat(h.createQuery("select count(id) from something").mapTo(int.class).one()).isEqualTo(4);
+    }
+
     @Test
     public void testBindProperties() {
         Handle h = h2Extension.getSharedHandle();
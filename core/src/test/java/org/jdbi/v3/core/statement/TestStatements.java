@@ -41,6 +41,22 @@ public class TestStatements {
         assertThat(rows).isOne();
     }
 
+    @Test
+    public void testHandleConfigChangesAfterCreateAreNotVisible() {
+        Handle h = h2Extension.getSharedHandle();
+        h.execute("insert into something (id, name) values (1, 'eric')");
+
+        h.define("column", "id");
+        try (Query query = h.createQuery("select <column> from something")) {
+            h.define("column", "name");
+            assertThat(query.mapTo(String.class).one()).isEqualTo("1");
+        }
+
+        try (Query query = h.createQuery("select <column> from something")) {
+            assertThat(query.mapTo(String.class).one()).isEqualTo("eric");
+        }
+    }
+
     @Test
     public void testSimpleInsert() {
         Handle h = h2Extension.getSharedHandle();
@@ -14,8 +14,14 @@
 package org.jdbi.v3.core.transaction;
 
 import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 
@@ -140,4 +146,151 @@ public class TestSerializableTransactionRunner {
         verifyNoMoreInteractions(onSuccess);
         assertThat(expectedExceptions.get()).isEqualTo(MAX_RETRIES);
     }
+
+    @Test
+    public void testDeadlockIsRetried() throws SQLException {
+        final AtomicInteger attempts = new AtomicInteger(0);
+        try (Handle handle = h2Extension.openHandle()) {
+            handle.inTransaction(TransactionIsolationLevel.SERIALIZABLE, conn -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw new SQLException("deadlock detected", "40P01");
+                }
+                return null;
+            });
+        }
+
+        assertThat(attempts.get()).isEqualTo(3);
+
+        SerializableTransactionRunner.RetryMetrics metrics = h2Extension.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class).getRetryMetrics();
+        assertThat(metrics.getRetries()).isEqualTo(2);
+        assertThat(metrics.getSuccessesAfterRetry()).isOne();
+        assertThat(metrics.getExhausted()).isZero();
+    }
+
+    @Test
+    public void testDeadlockIsNotRetriedWithoutRetryableSqlStates() {
+        h2Extension.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class).setRetryableSqlStates(Collections.emptySet());
+
+        final AtomicInteger attempts = new AtomicInteger(0);
+        try (Handle handle = h2Extension.openHandle()) {
+            assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> handle.inTransaction(TransactionIsolationLevel.SERIALIZABLE, conn -> {
+                    attempts.incrementAndGet();
+                    throw new SQLException("deadlock detected", "40P01");
+                }));
+        }
+
+        assertThat(attempts.get()).isOne();
+    }
+
+    @Test
+    public void testExponentialBackoff() throws SQLException {
+        SerializableTransactionRunner.Configuration config = h2Extension.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class)
+            .setInitialBackoff(Duration.ofMillis(5))
+            .setBackoffMultiplier(2.0)
+            .setJitter(0.0);
+
+        final AtomicInteger remaining = new AtomicInteger(4);
+        try (Handle handle = h2Extension.openHandle()) {
+            handle.inTransaction(TransactionIsolationLevel.SERIALIZABLE, conn -> {
+                if (remaining.decrementAndGet() == 0) {
+                    return null;
+                }
+                throw new SQLException("serialization", "40001");
+            });
+        }
+
+        // 5 + 10 + 20 milliseconds
+        assertThat(config.getRetryMetrics().getRetries()).isEqualTo(3);
+        assertThat(config.getRetryMetrics().getTotalBackoff()).isGreaterThanOrEqualTo(Duration.ofMillis(35));
+    }
+
+    @Test
+    public void testBackoffIsDisabledByDefault() {
+        SerializableTransactionRunner.Configuration config = new SerializableTransactionRunner.Configuration();
+
+        assertThat(config.backoffNanos(1)).isZero();
+        assertThat(config.backoffNanos(5)).isZero();
+    }
+
+    @Test
+    public void testBackoffIsBounded() {
+        SerializableTransactionRunner.Configuration config = new SerializableTransactionRunner.Configuration()
+            .setInitialBackoff(Duration.ofMillis(10))
+            .setMaxBackoff(Duration.ofMillis(50))
+            .setBackoffMultiplier(3.0)
+            .setJitter(0.5);
+
+        for (int failures = 1; failures < 20; failures++) {
+            long expected = Math.min(Duration.ofMillis(50).toNanos(), (long) (Duration.ofMillis(10).toNanos() * Math.pow(3.0, failures - 1.0)));
+            assertThat(config.backoffNanos(failures)).isBetween(expected / 2, expected);
+        }
+
+        assertThat(config.setInitialBackoff(Duration.ZERO).backoffNanos(3)).isZero();
+    }
+
+    @Test
+    public void testExhaustedRetries() {
+        try (Handle handle = h2Extension.openHandle()) {
+            assertThatExceptionOfType(SQLException.class)
+                .isThrownBy(() -> handle.inTransaction(TransactionIsolationLevel.SERIALIZABLE, conn -> {
+                    throw new SQLException("serialization", "40001");
+                }));
+        }
+
+        SerializableTransactionRunner.RetryMetrics metrics = h2Extension.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class).getRetryMetrics();
+        assertThat(metrics.getRetries()).isEqualTo(MAX_RETRIES);
+        assertThat(metrics.getExhausted()).isOne();
+        assertThat(metrics.getSuccessesAfterRetry()).isZero();
+    }
+
+    @Test
+    public void testConcurrentRetriesAreThrottled() throws Exception {
+        h2Extension.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class)
+            .setInitialBackoff(Duration.ZERO)
+            .setMaxConcurrentRetries(1);
+
+        final int threads = 4;
+        final AtomicInteger active = new AtomicInteger();
+        final AtomicInteger maxActive = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    final AtomicInteger attempts = new AtomicInteger();
+                    return h2Extension.getJdbi().inTransaction(handle -> {
+                        if (attempts.getAndIncrement() == 0) {
+                            throw new SQLException("serialization", "40001");
+                        }
+                        maxActive.accumulateAndGet(active.incrementAndGet(), Math::max);
+                        Thread.sleep(10);
+                        active.decrementAndGet();
+                        return null;
+                    });
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(maxActive.get()).isOne();
+
+        SerializableTransactionRunner.RetryMetrics metrics = h2Extension.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class).getRetryMetrics();
+        assertThat(metrics.getRetries()).isEqualTo(threads);
+        assertThat(metrics.getSuccessesAfterRetry()).isEqualTo(threads);
+    }
+
+    @Test
+    public void testNonsenseBackoff() {
+        SerializableTransactionRunner.Configuration config = h2Extension.getJdbi().getConfig(SerializableTransactionRunner.Configuration.class);
+
+        assertThatThrownBy(() -> config.setInitialBackoff(Duration.ofMillis(-1))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.setBackoffMultiplier(0.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.setJitter(1.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> config.setMaxConcurrentRetries(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
 }
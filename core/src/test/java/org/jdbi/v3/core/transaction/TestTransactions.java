@@ -229,6 +229,47 @@ public class TestTransactions {
             .isZero();
     }
 
+    @Test
+    public void testLocalTransactionHandlerBindsToHandle() throws SQLException {
+        assertThat(new LocalTransactionHandler().specialize(h))
+            .isInstanceOf(LocalTransactionHandler.BoundLocalTransactionHandler.class);
+
+        // subclasses must see all calls
+        assertThat(txSpy.specialize(h)).isSameAs(txSpy);
+    }
+
+    @Test
+    public void testSubclassStateIsPerHandle() {
+        try (Handle other = h2Extension.openHandle()) {
+            h.begin();
+            assertThat(h.isInTransaction()).isTrue();
+            assertThat(other.isInTransaction()).isFalse();
+
+            other.useTransaction(o -> assertThat(h.isInTransaction()).isTrue());
+            h.rollback();
+        }
+
+        assertThat(h.isInTransaction()).isFalse();
+        assertThat(begin).isEqualTo(2);
+        assertThat(commit).isOne();
+        assertThat(rollback).isOne();
+    }
+
+    @Test
+    public void testOpeningHandleReadsAutoCommitOnce() throws SQLException {
+        try (Handle delegate = h2Extension.openHandle()) {
+            var c = Mockito.mock(Connection.class, Mockito.withSettings()
+                    .defaultAnswer(AdditionalAnswers.delegatesTo(delegate.getConnection())));
+
+            try (Handle handle = Jdbi.create(c).open()) {
+                Mockito.verify(c, Mockito.times(1)).getAutoCommit();
+
+                handle.useTransaction(t -> assertThat(t.isInTransaction()).isTrue());
+                assertThat(handle.isInTransaction()).isFalse();
+            }
+        }
+    }
+
     static class BoomEngine implements TemplateEngine {
 
         @Override
@@ -18,6 +18,7 @@ import java.io.Writer;
 import java.lang.reflect.Method;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -28,6 +29,7 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.RoundEnvironment;
 import javax.annotation.processing.SupportedAnnotationTypes;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
@@ -36,7 +38,9 @@ import javax.lang.model.element.Name;
 import javax.lang.model.element.PackageElement;
 import javax.lang.model.element.TypeElement;
 import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic.Kind;
@@ -48,13 +52,29 @@ import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMetadata;
 import org.jdbi.v3.core.extension.ExtensionMetadata.ExtensionHandlerInvoker;
 import org.jdbi.v3.core.extension.HandleSupplier;
+import org.jdbi.v3.core.extension.annotation.UseExtensionConfigurer;
+import org.jdbi.v3.core.extension.annotation.UseExtensionHandler;
+import org.jdbi.v3.core.extension.annotation.UseExtensionHandlerCustomizer;
 import org.jdbi.v3.core.internal.JdbiClassUtils;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.jdbi.v3.core.statement.Query;
+import org.jdbi.v3.core.statement.Update;
+import org.jdbi.v3.sqlobject.GenerateSqlObject;
 import org.jdbi.v3.sqlobject.SqlObject;
+import org.jdbi.v3.sqlobject.SqlObjects;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
+import org.jdbi.v3.sqlobject.locator.AnnotationSqlLocator;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
 
 import static java.lang.String.format;
 
@@ -65,6 +85,9 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
 
     private static final Set<ElementKind> ACCEPTABLE_ELEMENT_TYPES = EnumSet.of(ElementKind.CLASS, ElementKind.INTERFACE);
 
+    // names used by inlined statement code, methods with parameters of the same name are not inlined
+    private static final Set<String> INLINE_LOCAL_NAMES = Set.of("handleSupplier", "handle", "stmt", "bean", "h");
+
     private Elements elementUtils;
     private Types typeUtils;
     private Filer filer;
@@ -134,6 +157,30 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                 .orElseThrow(() -> new IllegalStateException(format("no %s.%s found!", klass, name)));
     }
 
+    private boolean isSameType(TypeMirror type, Class<?> klass) {
+        if (klass.isArray()) {
+            return type.getKind() == TypeKind.ARRAY && type.toString().equals(klass.getCanonicalName());
+        }
+        final TypeElement element = elementUtils.getTypeElement(klass.getName());
+        return element != null && typeUtils.isSameType(typeUtils.erasure(type), typeUtils.erasure(element.asType()));
+    }
+
+    private static boolean isAnnotation(AnnotationMirror mirror, Class<?> annotationType) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(annotationType.getName());
+    }
+
+    // java annotations and configuration annotations (which are applied to the configuration of the extension context) work with inlined statements.
+    private boolean isCompatibleAnnotation(AnnotationMirror mirror) {
+        final Element annotationElement = mirror.getAnnotationType().asElement();
+        if (elementUtils.getPackageOf(annotationElement).getQualifiedName().contentEquals("java.lang")) {
+            return true;
+        }
+        return annotationElement.getAnnotation(UseExtensionConfigurer.class) != null
+                && annotationElement.getAnnotation(UseExtensionHandler.class) == null
+                && annotationElement.getAnnotation(UseExtensionHandlerCustomizer.class) == null
+                && annotationElement.getAnnotation(SqlStatementCustomizingAnnotation.class) == null;
+    }
+
     // can't be in the inner class b/c static.
     private static String getImplementationClassName(TypeElement typeElement) {
         return typeElement.getSimpleName() + "Impl";
@@ -146,12 +193,14 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
         private final TypeSpec.Builder implementationBuilder;
         private final TypeSpec.Builder onDemandBuilder;
         private final CodeBlock.Builder implementationCtorBuilder = CodeBlock.builder();
+        private final boolean inlineStatements;
         private long counter = 0;
 
 
         private SqlObjectFile(TypeElement typeElement) {
             this.typeElement = typeElement;
             this.typeName = TypeName.get(typeElement.asType());
+            this.inlineStatements = typeElement.getAnnotation(GenerateSqlObject.class).inlineStatements() && isInlineType();
 
             // create the implementation type, by convention its name ends with "Impl"
             this.implementationBuilder = TypeSpec.classBuilder(getImplementationClassName(typeElement))
@@ -173,6 +222,12 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                     .addCode("this.jdbi = jdbi;\n")
                     .build());
 
+            // inlined statements need the handle supplier for every call
+            if (inlineStatements) {
+                this.implementationBuilder.addField(HandleSupplier.class, "handleSupplier", Modifier.PRIVATE, Modifier.FINAL);
+                this.implementationCtorBuilder.add("this.handleSupplier = handleSupplier;\n");
+            }
+
             // create all internal methods
             getMethods().forEach(this::addMethod);
         }
@@ -234,7 +289,17 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                             : format("return (%s)", method.getReturnType());
             final String paramList = paramList(method);
 
-            if (method.getModifiers().contains(Modifier.ABSTRACT)) {
+            final Optional<CodeBlock> inlineStatement = inlineStatements && method.getModifiers().contains(Modifier.ABSTRACT)
+                    ? new InlineStatement(method, invokerField, paramList).create()
+                    : Optional.empty();
+
+            if (inlineStatement.isPresent()) {
+                body.add("$L $L.call(() -> {\n", castReturn, invokerField)
+                        .indent()
+                        .add(inlineStatement.get())
+                        .unindent()
+                        .add("});\n");
+            } else if (method.getModifiers().contains(Modifier.ABSTRACT)) {
                 body.add("$L $L.invoke($L);\n", castReturn, invokerField, paramList);
             } else {
                 body.add("$L $L.call(() -> ", castReturn, invokerField);
@@ -275,6 +340,19 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                     .build());
         }
 
+        private boolean isInlineType() {
+            // type level statement customizers and supertypes would need to be applied to every statement
+            if (this.typeElement.getKind() == ElementKind.CLASS
+                    && !isSameType(this.typeElement.getSuperclass(), Object.class)) {
+                return false;
+            }
+            if (!this.typeElement.getInterfaces().stream().allMatch(type -> isSameType(type, SqlObject.class))) {
+                return false;
+            }
+            return this.typeElement.getAnnotationMirrors().stream()
+                    .allMatch(mirror -> isAnnotation(mirror, GenerateSqlObject.class) || isCompatibleAnnotation(mirror));
+        }
+
         private String paramList(final ExecutableElement method) {
             return method.getParameters().stream()
                     .map(VariableElement::getSimpleName)
@@ -282,6 +360,225 @@ public class GenerateSqlObjectProcessor extends AbstractProcessor {
                     .collect(Collectors.joining(","));
         }
 
+        /**
+         * Creates the statement code for a method that is executed in the extension context of the method.
+         * The generated code uses the extension handler of the method if the sql locator has been changed.
+         */
+        private final class InlineStatement {
+
+            private final ExecutableElement method;
+            private final String invokerField;
+            private final String paramList;
+
+            private InlineStatement(ExecutableElement method, String invokerField, String paramList) {
+                this.method = method;
+                this.invokerField = invokerField;
+                this.paramList = paramList;
+            }
+
+            private Optional<CodeBlock> create() {
+                if (method.isVarArgs() || !method.getTypeParameters().isEmpty()) {
+                    return Optional.empty();
+                }
+
+                // the generated code must not shadow a method parameter
+                if (method.getParameters().stream().map(p -> p.getSimpleName().toString()).anyMatch(INLINE_LOCAL_NAMES::contains)) {
+                    return Optional.empty();
+                }
+
+                AnnotationMirror statementAnnotation = null;
+                for (AnnotationMirror mirror : method.getAnnotationMirrors()) {
+                    if (isAnnotation(mirror, SqlQuery.class) || isAnnotation(mirror, SqlUpdate.class) || isAnnotation(mirror, SqlBatch.class)) {
+                        if (statementAnnotation != null) {
+                            return Optional.empty();
+                        }
+                        statementAnnotation = mirror;
+                    } else if (!isCompatibleAnnotation(mirror)) {
+                        return Optional.empty();
+                    }
+                }
+
+                // an empty annotation value means that the SQL locator uses the method name
+                if (statementAnnotation == null) {
+                    return Optional.empty();
+                } else if (isAnnotation(statementAnnotation, SqlQuery.class)) {
+                    final String sql = method.getAnnotation(SqlQuery.class).value();
+                    return sql.isEmpty() ? Optional.empty() : createQuery(sql);
+                } else if (isAnnotation(statementAnnotation, SqlUpdate.class)) {
+                    final String sql = method.getAnnotation(SqlUpdate.class).value();
+                    return sql.isEmpty() ? Optional.empty() : createUpdate(sql);
+                } else {
+                    final SqlBatch sqlBatch = method.getAnnotation(SqlBatch.class);
+                    return sqlBatch.value().isEmpty() ? Optional.empty() : createBatch(sqlBatch.value(), sqlBatch.transactional());
+                }
+            }
+
+            private Optional<CodeBlock> createQuery(String sql) {
+                final TypeMirror returnType = method.getReturnType();
+                final CodeBlock result;
+
+                if (isCollectionOf(returnType, List.class)) {
+                    result = CodeBlock.of("return stmt.mapTo($T.class).collectIntoList();\n", elementType(returnType));
+                } else if (isCollectionOf(returnType, Set.class)) {
+                    result = CodeBlock.of("return stmt.mapTo($T.class).collectIntoSet();\n", elementType(returnType));
+                } else if (returnType.getKind().isPrimitive()) {
+                    result = CodeBlock.of("return stmt.mapTo($T.class).findFirst().orElseThrow(() -> new $T($S));\n",
+                            TypeName.get(returnType),
+                            IllegalStateException.class,
+                            format("SQL method returns primitive %s, but statement returned no results", returnType));
+                } else if (isSingleValue(returnType)) {
+                    result = CodeBlock.of("return stmt.mapTo($T.class).findFirst().orElse(null);\n", TypeName.get(returnType));
+                } else {
+                    return Optional.empty();
+                }
+
+                return createStatement(Query.class, "createQuery", sql, result);
+            }
+
+            private Optional<CodeBlock> createUpdate(String sql) {
+                final TypeMirror returnType = method.getReturnType();
+                final CodeBlock result;
+
+                if (returnType.getKind() == TypeKind.VOID) {
+                    result = CodeBlock.of("stmt.execute();\nreturn null;\n");
+                } else if (returnType.getKind() == TypeKind.INT) {
+                    result = CodeBlock.of("return stmt.execute();\n");
+                } else if (returnType.getKind() == TypeKind.BOOLEAN) {
+                    result = CodeBlock.of("return stmt.execute() > 0;\n");
+                } else {
+                    return Optional.empty();
+                }
+
+                return createStatement(Update.class, "createUpdate", sql, result);
+            }
+
+            private Optional<CodeBlock> createBatch(String sql, boolean transactional) {
+                // only a batch over a single collection of beans is inlined, everything else needs the batch handler
+                final TypeMirror returnType = method.getReturnType();
+                if (method.getParameters().size() != 1 || !(returnType.getKind() == TypeKind.VOID || isSameType(returnType, int[].class))) {
+                    return Optional.empty();
+                }
+
+                final VariableElement parameter = method.getParameters().get(0);
+                final List<? extends AnnotationMirror> annotations = parameter.getAnnotationMirrors();
+                if (annotations.size() != 1 || !isAnnotation(annotations.get(0), BindBean.class)
+                        || !(isCollectionOf(parameter.asType(), Iterable.class) || isCollectionOf(parameter.asType(), List.class))) {
+                    return Optional.empty();
+                }
+
+                final String prefix = parameter.getAnnotation(BindBean.class).value();
+                final CodeBlock.Builder code = CodeBlock.builder()
+                        .beginControlFlow("for (Object bean : $L)", parameter.getSimpleName());
+                if (prefix.isEmpty()) {
+                    code.addStatement("stmt.bindBean(bean).add()");
+                } else {
+                    code.addStatement("stmt.bindBean($S, bean).add()", prefix);
+                }
+                code.endControlFlow();
+
+                final String execute = returnType.getKind() == TypeKind.VOID ? "" : "return ";
+                if (transactional) {
+                    code.beginControlFlow("if (!handle.isInTransaction())")
+                            .addStatement("$Lhandle.inTransaction(h -> stmt.execute())", execute)
+                            .nextControlFlow("else")
+                            .addStatement("$Lstmt.execute()", execute)
+                            .endControlFlow();
+                } else {
+                    code.addStatement("$Lstmt.execute()", execute);
+                }
+                if (returnType.getKind() == TypeKind.VOID) {
+                    code.addStatement("return null");
+                }
+
+                return Optional.of(wrapStatement(PreparedBatch.class, "prepareBatch", sql, code.build()));
+            }
+
+            private Optional<CodeBlock> createStatement(Class<?> statementType, String factoryMethod, String sql, CodeBlock result) {
+                final CodeBlock.Builder code = CodeBlock.builder();
+
+                for (int i = 0; i < method.getParameters().size(); i++) {
+                    final VariableElement parameter = method.getParameters().get(i);
+                    final List<? extends AnnotationMirror> annotations = parameter.getAnnotationMirrors();
+                    if (annotations.size() != 1) {
+                        return Optional.empty();
+                    }
+
+                    final Name parameterName = parameter.getSimpleName();
+                    if (isAnnotation(annotations.get(0), Bind.class)) {
+                        // the declared type of the parameter is used to find the argument, same as the Bind annotation
+                        final TypeMirror type = parameter.asType();
+                        if (!(type.getKind().isPrimitive() || isSingleValue(type))) {
+                            return Optional.empty();
+                        }
+                        final String value = parameter.getAnnotation(Bind.class).value();
+                        code.addStatement("stmt.bindByType($L, $L, $T.class)", i, parameterName, TypeName.get(type));
+                        code.addStatement("stmt.bindByType($S, $L, $T.class)",
+                                Bind.NO_VALUE.equals(value) ? parameterName.toString() : value,
+                                parameterName,
+                                TypeName.get(type));
+                    } else if (isAnnotation(annotations.get(0), BindBean.class)) {
+                        final String prefix = parameter.getAnnotation(BindBean.class).value();
+                        if (prefix.isEmpty()) {
+                            code.addStatement("stmt.bindBean($L)", parameterName);
+                        } else {
+                            code.addStatement("stmt.bindBean($S, $L)", prefix, parameterName);
+                        }
+                    } else {
+                        return Optional.empty();
+                    }
+                }
+
+                return Optional.of(wrapStatement(statementType, factoryMethod, sql, code.add(result).build()));
+            }
+
+            private CodeBlock wrapStatement(Class<?> statementType, String factoryMethod, String sql, CodeBlock statementCode) {
+                return CodeBlock.builder()
+                        .addStatement("final $T handle = handleSupplier.getHandle()", Handle.class)
+                        .beginControlFlow("if (!(handle.getConfig($T.class).getSqlLocator() instanceof $T))",
+                                SqlObjects.class,
+                                AnnotationSqlLocator.class)
+                        .addStatement("return $L.invoke($L)", invokerField, paramList)
+                        .endControlFlow()
+                        .beginControlFlow("try ($T stmt = handle.$L($S))", statementType, factoryMethod, sql)
+                        .add(statementCode)
+                        .endControlFlow()
+                        .build();
+            }
+
+            /**
+             * A type that Jdbi maps as a single value. Generic types, arrays and types that may be
+             * container types (collections, maps, streams, iterators and optionals) are excluded.
+             */
+            private boolean isSingleValue(TypeMirror type) {
+                if (type.getKind() != TypeKind.DECLARED || !((DeclaredType) type).getTypeArguments().isEmpty()) {
+                    return false;
+                }
+                final TypeElement element = (TypeElement) typeUtils.asElement(type);
+                if (!element.getTypeParameters().isEmpty() || element.getQualifiedName().toString().startsWith("java.util.Optional")) {
+                    return false;
+                }
+                return !(isAssignable(type, Iterable.class)
+                        || isAssignable(type, java.util.Iterator.class)
+                        || isAssignable(type, java.util.Map.class)
+                        || isAssignable(type, java.util.stream.BaseStream.class));
+            }
+
+            private boolean isCollectionOf(TypeMirror type, Class<?> collectionType) {
+                return type.getKind() == TypeKind.DECLARED
+                        && isSameType(typeUtils.erasure(type), collectionType)
+                        && ((DeclaredType) type).getTypeArguments().size() == 1
+                        && isSingleValue(((DeclaredType) type).getTypeArguments().get(0));
+            }
+
+            private TypeName elementType(TypeMirror type) {
+                return TypeName.get(((DeclaredType) type).getTypeArguments().get(0));
+            }
+
+            private boolean isAssignable(TypeMirror type, Class<?> klass) {
+                return typeUtils.isAssignable(typeUtils.erasure(type), typeUtils.erasure(elementUtils.getTypeElement(klass.getName()).asType()));
+            }
+        }
+
         private void writeFile() {
             implementationBuilder.addType(onDemandBuilder.build());
 
@@ -0,0 +1,155 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.generator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Something;
+import org.jdbi.v3.core.extension.ExtensionHandler;
+import org.jdbi.v3.core.extension.Extensions;
+import org.jdbi.v3.core.h2.H2DatabasePlugin;
+import org.jdbi.v3.core.mapper.SomethingMapper;
+import org.jdbi.v3.sqlobject.GenerateSqlObject;
+import org.jdbi.v3.sqlobject.SqlObjectPlugin;
+import org.jdbi.v3.sqlobject.SqlObjects;
+import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.Define;
+import org.jdbi.v3.sqlobject.locator.AnnotationSqlLocator;
+import org.jdbi.v3.sqlobject.locator.SqlLocator;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.jdbi.v3.testing.junit5.internal.TestingInitializers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InlineStatementsTest {
+
+    // counts all calls that go through the extension handlers
+    private final AtomicInteger handlerCalls = new AtomicInteger();
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2()
+        .withPlugins(new H2DatabasePlugin(), new SqlObjectPlugin())
+        .withInitializer(TestingInitializers.something())
+        .withConfig(Extensions.class, c -> c.setAllowProxy(false)
+            .registerHandlerCustomizer((handler, extensionType, method) -> (ExtensionHandler) (handleSupplier, target, args) -> {
+                handlerCalls.incrementAndGet();
+                return handler.invoke(handleSupplier, target, args);
+            }));
+
+    private Handle handle;
+    private InlineDao dao;
+
+    @BeforeEach
+    public void setUp() {
+        handle = h2Extension.getSharedHandle();
+        dao = handle.attach(InlineDao.class);
+    }
+
+    @Test
+    public void testInlineStatements() {
+        assertThat(dao.insert(1, "Alice")).isOne();
+        assertThat(dao.insertBeans(Arrays.asList(new Something(2, "Bob"), new Something(3, "Carol")))).containsExactly(1, 1);
+
+        assertThat(dao.findName(2)).isEqualTo("Bob");
+        assertThat(dao.findName(4)).isNull();
+        assertThat(dao.find(3)).extracting(Something::getName).isEqualTo("Carol");
+        assertThat(dao.list()).extracting(Something::getId).containsExactly(1, 2, 3);
+        assertThat(dao.names()).containsExactlyInAnyOrder("Alice", "Bob", "Carol");
+        assertThat(dao.count()).isEqualTo(3);
+
+        assertThat(dao.rename(new Something(1, "Alex"))).isTrue();
+        assertThat(dao.rename(new Something(4, "Dave"))).isFalse();
+        dao.delete(3);
+        assertThat(dao.count()).isEqualTo(2);
+
+        assertThat(handlerCalls).hasValue(0);
+    }
+
+    @Test
+    public void testPrimitiveWithoutResult() {
+        assertThatThrownBy(() -> dao.idOf("Nobody"))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("returned no results");
+    }
+
+    @Test
+    public void testCustomizedMethodUsesHandler() {
+        dao.insert(1, "Alice");
+
+        assertThat(dao.countFrom("something")).isOne();
+        assertThat(handlerCalls).hasValue(1);
+    }
+
+    @Test
+    public void testSqlLocatorUsesHandler() {
+        SqlLocator annotationSqlLocator = new AnnotationSqlLocator();
+        handle.getConfig(SqlObjects.class).setSqlLocator(annotationSqlLocator::locate);
+        dao = handle.attach(InlineDao.class);
+
+        assertThat(dao.insert(1, "Alice")).isOne();
+        assertThat(dao.count()).isOne();
+        assertThat(handlerCalls).hasValue(2);
+    }
+
+    @GenerateSqlObject(inlineStatements = true)
+    @RegisterRowMapper(SomethingMapper.class)
+    interface InlineDao {
+
+        @SqlUpdate("insert into something (id, name) values (:id, :name)")
+        int insert(@Bind("id") int id, @Bind String name);
+
+        @SqlBatch("insert into something (id, name) values (:id, :name)")
+        int[] insertBeans(@BindBean List<Something> somethings);
+
+        @SqlUpdate("update something set name = :s.name where id = :s.id")
+        boolean rename(@BindBean("s") Something something);
+
+        @SqlUpdate("delete from something where id = :id")
+        void delete(@Bind("id") int id);
+
+        @SqlQuery("select name from something where id = :id")
+        String findName(@Bind("id") int id);
+
+        @SqlQuery("select id from something where name = :name")
+        int idOf(@Bind("name") String name);
+
+        @SqlQuery("select id, name from something where id = :id")
+        Something find(@Bind("id") int id);
+
+        @SqlQuery("select id, name from something order by id")
+        List<Something> list();
+
+        @SqlQuery("select name from something")
+        Set<String> names();
+
+        @SqlQuery("select count(*) from something")
+        int count();
+
+        @SqlQuery("select count(*) from <table>")
+        int countFrom(@Define("table") String table);
+    }
+}
@@ -14,7 +14,14 @@
 package org.jdbi.v3.gson2;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
 
 import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
@@ -25,7 +32,7 @@ import org.jdbi.v3.json.JsonMapper;
 class GsonJsonMapper implements JsonMapper {
     @Override
     public TypedJsonMapper forType(Type type, ConfigRegistry config) {
-        return new TypedJsonMapper() {
+        return new StreamingTypedJsonMapper() {
             @SuppressWarnings("rawtypes")
             private final TypeAdapter adapter = config.get(Gson2Config.class)
                     .getGson().getAdapter(TypeToken.get(type));
@@ -36,6 +43,18 @@ class GsonJsonMapper implements JsonMapper {
                 return adapter.toJson(value);
             }
 
+            @SuppressWarnings("unchecked")
+            @Override
+            public void toJson(Object value, OutputStream out, ConfigRegistry config) {
+                try {
+                    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                    adapter.toJson(writer, value);
+                    writer.flush();
+                } catch (IOException e) {
+                    throw new UnableToProduceResultException(e);
+                }
+            }
+
             @Override
             public Object fromJson(String json, ConfigRegistry config) {
                 try {
@@ -44,6 +63,20 @@ class GsonJsonMapper implements JsonMapper {
                     throw new UnableToProduceResultException(e);
                 }
             }
+
+            @Override
+            public Object fromJson(InputStream json, ConfigRegistry config) {
+                return fromJson(new InputStreamReader(json, StandardCharsets.UTF_8), config);
+            }
+
+            @Override
+            public Object fromJson(Reader json, ConfigRegistry config) {
+                try {
+                    return adapter.fromJson(json);
+                } catch (IOException e) {
+                    throw new UnableToProduceResultException(e);
+                }
+            }
         };
     }
 }
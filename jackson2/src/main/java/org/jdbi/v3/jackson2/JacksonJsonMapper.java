@@ -14,8 +14,13 @@
 package org.jdbi.v3.jackson2;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -28,39 +33,83 @@ import org.jdbi.v3.json.JsonMapper;
 class JacksonJsonMapper implements JsonMapper {
     @Override
     public TypedJsonMapper forType(Type type, ConfigRegistry config) {
-        return new TypedJsonMapper() {
+        return new StreamingTypedJsonMapper() {
             private final ObjectMapper mapper = config.get(Jackson2Config.class).getMapper();
             private final JavaType mappedType = mapper.constructType(type);
             private final ObjectReader reader = mapper.readerFor(mappedType);
             private final ObjectWriter writer = mapper.writerFor(mappedType);
 
+            // streams are owned by the caller
+            private final ObjectReader streamReader = reader.without(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            private final ObjectWriter streamWriter = writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
             @Override
             public String toJson(Object value, ConfigRegistry config) {
-                final Class<?> view = config.get(Jackson2Config.class).getSerializationView();
-                final ObjectWriter viewWriter =
-                          view == null
-                        ? writer
-                        : writer.withView(view);
                 try {
-                    return viewWriter.writeValueAsString(value);
+                    return viewWriter(writer, config).writeValueAsString(value);
                 } catch (JsonProcessingException e) {
                     throw new UnableToProduceResultException(e);
                 }
             }
 
+            @Override
+            public void toJson(Object value, OutputStream out, ConfigRegistry config) {
+                try {
+                    viewWriter(streamWriter, config).writeValue(out, value);
+                } catch (IOException e) {
+                    throw new UnableToProduceResultException(e);
+                }
+            }
+
             @Override
             public Object fromJson(String json, ConfigRegistry config) {
-                final Class<?> view = config.get(Jackson2Config.class).getDeserializationView();
-                final ObjectReader viewReader =
-                          view == null
-                        ? reader
-                        : reader.withView(view);
                 try {
-                    return viewReader.readValue(json);
+                    return viewReader(reader, config).readValue(json);
                 } catch (IOException e) {
                     throw new UnableToProduceResultException(e);
                 }
             }
+
+            @Override
+            public Object fromJson(InputStream json, ConfigRegistry config) {
+                try {
+                    return viewReader(streamReader, config).readValue(json);
+                } catch (IOException e) {
+                    throw new UnableToProduceResultException(e);
+                }
+            }
+
+            @Override
+            public Object fromJson(Reader json, ConfigRegistry config) {
+                try {
+                    return viewReader(streamReader, config).readValue(json);
+                } catch (IOException e) {
+                    throw new UnableToProduceResultException(e);
+                }
+            }
+
+            @Override
+            public Object fromJson(byte[] json, ConfigRegistry config) {
+                try {
+                    return viewReader(reader, config).readValue(json);
+                } catch (IOException e) {
+                    throw new UnableToProduceResultException(e);
+                }
+            }
+
+            private ObjectWriter viewWriter(ObjectWriter objectWriter, ConfigRegistry config) {
+                final Class<?> view = config.get(Jackson2Config.class).getSerializationView();
+                return view == null
+                        ? objectWriter
+                        : objectWriter.withView(view);
+            }
+
+            private ObjectReader viewReader(ObjectReader objectReader, ConfigRegistry config) {
+                final Class<?> view = config.get(Jackson2Config.class).getDeserializationView();
+                return view == null
+                        ? objectReader
+                        : objectReader.withView(view);
+            }
         };
     }
 }
@@ -13,11 +13,14 @@
  */
 package org.jdbi.v3.json;
 
+import org.jdbi.v3.core.argument.Arguments;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.config.JdbiConfig;
 import org.jdbi.v3.json.internal.UnimplementedJsonMapper;
 
 public class JsonConfig implements JdbiConfig<JsonConfig> {
     private JsonMapper mapper;
+    private ConfigRegistry registry;
 
     public JsonConfig() {
         mapper = new UnimplementedJsonMapper();
@@ -29,6 +32,10 @@ public class JsonConfig implements JdbiConfig<JsonConfig> {
 
     public JsonConfig setJsonMapper(JsonMapper jsonMapper) {
         this.mapper = jsonMapper;
+        if (registry != null) {
+            // prepared json arguments hold on to the previous mapper
+            registry.get(Arguments.class).invalidatePreparedArguments();
+        }
         return this;
     }
 
@@ -36,6 +43,11 @@ public class JsonConfig implements JdbiConfig<JsonConfig> {
         return mapper;
     }
 
+    @Override
+    public void setRegistry(ConfigRegistry registry) {
+        this.registry = registry;
+    }
+
     @Override
     public JsonConfig createCopy() {
         return new JsonConfig(this);
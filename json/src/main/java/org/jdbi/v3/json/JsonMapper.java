@@ -13,9 +13,14 @@
  */
 package org.jdbi.v3.json;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
 
 import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.meta.Beta;
 
 /**
  * Deserializes JSON to Java objects, and serializes Java objects to JSON.
@@ -41,4 +46,52 @@ public interface JsonMapper {
         String toJson(Object value, ConfigRegistry config);
         Object fromJson(String json, ConfigRegistry config);
     }
+
+    /**
+     * A {@link TypedJsonMapper} that can read and write JSON as a stream of UTF-8 encoded bytes or characters
+     * without creating an intermediate {@link String}. Jdbi uses the streaming methods if the database plugin
+     * provides JSON data as bytes, e.g. by registering a column mapper for {@code @EncodedJson byte[]}.
+     *
+     * @since 3.45.1
+     */
+    @Beta
+    interface StreamingTypedJsonMapper extends TypedJsonMapper {
+        /**
+         * Writes a value as UTF-8 encoded JSON. The stream is flushed but not closed.
+         *
+         * @param value  the value to serialize
+         * @param out    the stream to write to
+         * @param config the configuration registry
+         */
+        void toJson(Object value, OutputStream out, ConfigRegistry config);
+
+        /**
+         * Reads a value from UTF-8 encoded JSON. The stream is not closed.
+         *
+         * @param json   the JSON data
+         * @param config the configuration registry
+         * @return the deserialized value
+         */
+        Object fromJson(InputStream json, ConfigRegistry config);
+
+        /**
+         * Reads a value from JSON text. The reader is not closed.
+         *
+         * @param json   the JSON data
+         * @param config the configuration registry
+         * @return the deserialized value
+         */
+        Object fromJson(Reader json, ConfigRegistry config);
+
+        /**
+         * Reads a value from UTF-8 encoded JSON.
+         *
+         * @param json   the JSON data
+         * @param config the configuration registry
+         * @return the deserialized value
+         */
+        default Object fromJson(byte[] json, ConfigRegistry config) {
+            return fromJson(new ByteArrayInputStream(json), config);
+        }
+    }
 }
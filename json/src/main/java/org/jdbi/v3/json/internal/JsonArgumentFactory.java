@@ -13,7 +13,10 @@
  */
 package org.jdbi.v3.json.internal;
 
+import java.io.ByteArrayOutputStream;
 import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -27,14 +30,19 @@ import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 import org.jdbi.v3.json.EncodedJson;
 import org.jdbi.v3.json.Json;
 import org.jdbi.v3.json.JsonConfig;
+import org.jdbi.v3.json.JsonMapper.StreamingTypedJsonMapper;
 import org.jdbi.v3.json.JsonMapper.TypedJsonMapper;
 
 /**
- * converts a value object to json text and delegates to another factory to perform the {@code (@Json) String} binding
+ * converts a value object to json text and delegates to another factory to perform the {@code (@Json) String} binding.
+ * A streaming json mapper writes UTF-8 bytes instead if a factory for {@code @EncodedJson byte[]} is registered.
  */
 @Json
 public class JsonArgumentFactory implements ArgumentFactory.Preparable {
     public static final QualifiedType<String> ENCODED_JSON = QualifiedType.of(String.class).with(EncodedJson.class);
+    public static final QualifiedType<byte[]> ENCODED_JSON_BYTES = QualifiedType.of(byte[].class).with(EncodedJson.class);
+
+    private static final byte[] JSON_NULL = "null".getBytes(StandardCharsets.UTF_8);
 
     private static final String JSON_NOT_STORABLE = String.format(
         "No argument factory found for `@%s String` or 'String'",
@@ -45,6 +53,14 @@ public class JsonArgumentFactory implements ArgumentFactory.Preparable {
     public Optional<Function<Object, Argument>> prepare(Type type, ConfigRegistry config) {
         TypedJsonMapper mapper = config.get(JsonConfig.class).getJsonMapper().forType(type, config);
         Arguments a = config.get(Arguments.class);
+
+        if (mapper instanceof StreamingTypedJsonMapper) {
+            Optional<Function<Object, Argument>> bindJsonBytes = a.prepareFor(ENCODED_JSON_BYTES);
+            if (bindJsonBytes.isPresent()) {
+                return Optional.of(prepareBytes((StreamingTypedJsonMapper) mapper, bindJsonBytes.get(), config));
+            }
+        }
+
         // look for specialized json support first, revert to simple String binding if absent
         Function<Object, Argument> bindJson = JdbiOptionals.findFirstPresent(
                 () -> a.prepareFor(ENCODED_JSON),
@@ -56,4 +72,16 @@ public class JsonArgumentFactory implements ArgumentFactory.Preparable {
             return bindJson.apply(json);
         });
     }
+
+    private static Function<Object, Argument> prepareBytes(StreamingTypedJsonMapper mapper, Function<Object, Argument> bindJsonBytes, ConfigRegistry config) {
+        return value -> {
+            if (value == null) {
+                return bindJsonBytes.apply(null);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            mapper.toJson(value, out, config);
+            byte[] json = out.toByteArray();
+            return bindJsonBytes.apply(Arrays.equals(JSON_NULL, json) ? null : json); // json null -> sql null
+        };
+    }
 }
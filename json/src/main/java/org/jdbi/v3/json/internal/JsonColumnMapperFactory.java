@@ -26,10 +26,12 @@ import org.jdbi.v3.core.result.UnableToProduceResultException;
 import org.jdbi.v3.json.EncodedJson;
 import org.jdbi.v3.json.Json;
 import org.jdbi.v3.json.JsonConfig;
+import org.jdbi.v3.json.JsonMapper.StreamingTypedJsonMapper;
 import org.jdbi.v3.json.JsonMapper.TypedJsonMapper;
 
 /**
- * converts a {@code (@Json) String} fetched by another mapper into a value object
+ * converts a {@code (@Json) String} fetched by another mapper into a value object. A streaming json mapper
+ * reads UTF-8 bytes instead if a mapper for {@code @EncodedJson byte[]} is registered.
  */
 @Json
 public class JsonColumnMapperFactory implements ColumnMapperFactory {
@@ -41,17 +43,34 @@ public class JsonColumnMapperFactory implements ColumnMapperFactory {
     @Override
     public Optional<ColumnMapper<?>> build(Type type, ConfigRegistry config) {
         ColumnMappers cm = config.get(ColumnMappers.class);
+        final TypedJsonMapper mapper = config.get(JsonConfig.class).getJsonMapper().forType(type, config);
+
+        if (mapper instanceof StreamingTypedJsonMapper) {
+            Optional<ColumnMapper<byte[]>> jsonBytesMapper = cm.findFor(JsonArgumentFactory.ENCODED_JSON_BYTES);
+            if (jsonBytesMapper.isPresent()) {
+                return Optional.of(bytesMapper((StreamingTypedJsonMapper) mapper, jsonBytesMapper.get(), config));
+            }
+        }
+
         // look for specialized json support first, revert to simple String mapping if absent
         ColumnMapper<String> jsonStringMapper = JdbiOptionals.findFirstPresent(
                 () -> cm.findFor(QualifiedType.of(String.class).with(EncodedJson.class)),
                 () -> cm.findFor(String.class))
                 .orElseThrow(() -> new UnableToProduceResultException(JSON_NOT_RETRIEVABLE));
 
-        final TypedJsonMapper mapper = config.get(JsonConfig.class).getJsonMapper().forType(type, config);
         return Optional.of((rs, i, ctx) ->
             mapper.fromJson(
                     Optional.ofNullable(jsonStringMapper.map(rs, i, ctx))
                             .orElse("null"), // sql null -> json null
                     config));
     }
+
+    private static ColumnMapper<?> bytesMapper(StreamingTypedJsonMapper mapper, ColumnMapper<byte[]> jsonBytesMapper, ConfigRegistry config) {
+        return (rs, i, ctx) -> {
+            byte[] json = jsonBytesMapper.map(rs, i, ctx);
+            return json == null
+                ? mapper.fromJson("null", config) // sql null -> json null
+                : mapper.fromJson(json, config);
+        };
+    }
 }
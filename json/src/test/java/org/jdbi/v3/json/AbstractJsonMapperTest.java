@@ -13,15 +13,23 @@
  */
 package org.jdbi.v3.json;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
 import org.assertj.core.groups.Tuple;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.qualifier.QualifiedType;
+import org.jdbi.v3.json.JsonMapper.StreamingTypedJsonMapper;
+import org.jdbi.v3.json.JsonMapper.TypedJsonMapper;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
 import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -122,6 +130,38 @@ public abstract class AbstractJsonMapperTest {
         });
     }
 
+    @Test
+    public void testStreamingMapper() {
+        ConfigRegistry config = jdbi.getConfig();
+        TypedJsonMapper typedMapper = config.get(JsonConfig.class).getJsonMapper().forType(JsonBean.class, config);
+        Assumptions.assumeTrue(typedMapper instanceof StreamingTypedJsonMapper);
+
+        StreamingTypedJsonMapper mapper = (StreamingTypedJsonMapper) typedMapper;
+        JsonBean in = new JsonBean("cr\u00e8me br\u00fbl\u00e9e", 7);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        mapper.toJson(in, out, config);
+        byte[] json = out.toByteArray();
+
+        assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo(mapper.toJson(in, config));
+        assertThat(mapper.fromJson(json, config)).isEqualTo(in);
+        assertThat(mapper.fromJson(new ByteArrayInputStream(json), config)).isEqualTo(in);
+        assertThat(mapper.fromJson(new StringReader(mapper.toJson(in, config)), config)).isEqualTo(in);
+
+        jdbi.useHandle(h -> {
+            h.execute("create table subjects (id serial primary key, subject jsonb)");
+
+            h.createUpdate("insert into subjects(id, subject) values(1, :bean)")
+                .bindByType("bean", in, QualifiedType.of(JsonBean.class).with(Json.class))
+                .execute();
+
+            assertThat(h.createQuery("select subject from subjects")
+                .mapTo(QualifiedType.of(JsonBean.class).with(Json.class))
+                .one())
+                .isEqualTo(in);
+        });
+    }
+
     public static class JsonBean {
         private final String food;
         private final int bitcoins;
@@ -14,8 +14,11 @@
 package org.jdbi.v3.json;
 
 import java.lang.reflect.Type;
+import java.util.function.Function;
 
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.argument.Argument;
+import org.jdbi.v3.core.argument.Arguments;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.qualifier.QualifiedType;
 import org.jdbi.v3.testing.junit5.JdbiExtension;
@@ -76,6 +79,42 @@ public class JsonPluginTest {
         assertThat(result).isSameAs(instance);
     }
 
+    @Test
+    public void changingJsonMapperInvalidatesPreparedArguments() {
+        Jdbi jdbi = h2Extension.getJdbi();
+        QualifiedType<Foo> type = QualifiedType.of(Foo.class).with(Json.class);
+
+        jdbi.getConfig(JsonConfig.class).setJsonMapper(new ConstantJsonMapper("first"));
+        Function<Object, Argument> first = jdbi.getConfig(Arguments.class).prepareFor(type).orElseThrow(AssertionError::new);
+        assertThat(jdbi.getConfig(Arguments.class).prepareFor(type)).containsSame(first);
+
+        jdbi.getConfig(JsonConfig.class).setJsonMapper(new ConstantJsonMapper("second"));
+        assertThat(jdbi.getConfig(Arguments.class).prepareFor(type)).isPresent().doesNotContain(first);
+    }
+
+    private static final class ConstantJsonMapper implements JsonMapper {
+        private final String json;
+
+        ConstantJsonMapper(String json) {
+            this.json = json;
+        }
+
+        @Override
+        public TypedJsonMapper forType(Type type, ConfigRegistry config) {
+            return new TypedJsonMapper() {
+                @Override
+                public String toJson(Object value, ConfigRegistry config) {
+                    return json;
+                }
+
+                @Override
+                public Object fromJson(String readJson, ConfigRegistry config) {
+                    throw new UnsupportedOperationException();
+                }
+            };
+        }
+    }
+
     public static class Foo {
 
         @Override
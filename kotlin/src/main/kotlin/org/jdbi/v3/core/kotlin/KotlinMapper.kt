@@ -55,6 +55,8 @@ class KotlinMapper(val kClass: KClass<*>, private val prefix: String = "") : Row
             !constructorParameters.any { parameter -> parameter.paramName() == property.propName() }
         }
 
+    private val specializedMapperKey = listOf(KotlinMapper::class.java, kClass, prefix)
+
     private val nestedMappers = ConcurrentHashMap<KParameter, KotlinMapper>()
     private val nestedPropertyMappers = ConcurrentHashMap<KMutableProperty1<*, *>, KotlinMapper>()
 
@@ -62,7 +64,10 @@ class KotlinMapper(val kClass: KClass<*>, private val prefix: String = "") : Row
 
     override fun map(rs: ResultSet, ctx: StatementContext): Any? = specialize(rs, ctx).map(rs, ctx)
 
-    override fun specialize(rs: ResultSet, ctx: StatementContext): RowMapper<Any?> {
+    override fun specialize(rs: ResultSet, ctx: StatementContext): RowMapper<Any?> =
+        ctx.getConfig(ReflectionMappers::class).specialize(specializedMapperKey, rs) { doSpecialize(rs, ctx) }
+
+    private fun doSpecialize(rs: ResultSet, ctx: StatementContext): RowMapper<Any?> {
         val caseChange = ctx.getConfig(ReflectionMappers::class).caseChange
         val columnNames = getColumnNames(rs, caseChange)
         val columnNameMatchers = ctx.getConfig(ReflectionMappers::class).columnNameMatchers
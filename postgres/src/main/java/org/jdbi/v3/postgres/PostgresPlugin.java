@@ -158,6 +158,7 @@ public class PostgresPlugin extends JdbiPlugin.Singleton {
         // optional integration
         if (JdbiClassUtils.isPresent("org.jdbi.v3.json.JsonConfig")) {
             jdbi.registerArgument(new JsonArgumentFactory());
+            jdbi.registerColumnMapper(new JsonColumnMapperFactory());
         }
     }
 
@@ -18,10 +18,30 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
+import org.jdbi.v3.meta.Alpha;
+
 /**
  * Decorate a SqlObject type to instruct the {@code jdbi3-generator} annotation processor
  * to create a compiled implementation.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target(ElementType.TYPE)
-public @interface GenerateSqlObject {}
+public @interface GenerateSqlObject {
+
+    /**
+     * Generate straight-line code for simple {@code @SqlQuery}, {@code @SqlUpdate} and {@code @SqlBatch} methods
+     * instead of delegating every call to the runtime extension handlers. A method qualifies if its only other
+     * annotations are configuration annotations (e.g. {@code @RegisterRowMapper}), all of its parameters are
+     * annotated with either {@code @Bind} or {@code @BindBean} and its return type can be resolved at compile time.
+     * All other methods, and all methods of a type with statement customizing annotations, use the extension
+     * handlers as before. Generated methods fall back to the extension handlers at runtime if the SQL locator
+     * is not the default {@link org.jdbi.v3.sqlobject.locator.AnnotationSqlLocator}.
+     * <br>
+     * Generated methods do not use any {@link org.jdbi.v3.core.extension.ExtensionHandlerCustomizer} instances.
+     *
+     * @return true if the generator should create statement code for qualifying methods.
+     * @since 3.45.1
+     */
+    @Alpha
+    boolean inlineStatements() default false;
+}
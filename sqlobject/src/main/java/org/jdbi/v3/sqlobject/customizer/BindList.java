@@ -37,6 +37,9 @@ import static org.jdbi.v3.core.statement.EmptyHandling.NULL_KEYWORD;
  * </pre>
  * <p>
  * Throws IllegalArgumentException if the argument is not an array or Iterable. How null and empty collections are handled can be configured with onEmpty:EmptyHandling - throws IllegalArgumentException by default.
+ * <p>
+ * The list is rendered with the {@link org.jdbi.v3.core.statement.BindListStrategy} configured in
+ * {@link org.jdbi.v3.core.statement.SqlStatements#setBindListStrategy(org.jdbi.v3.core.statement.BindListStrategy)}.
  */
 @Retention(RetentionPolicy.RUNTIME)
 @Target({ElementType.PARAMETER})
@@ -57,6 +57,7 @@ import static org.jdbi.v3.core.internal.JdbiClassUtils.superTypes;
 abstract class CustomizingStatementHandler<StatementType extends SqlStatement<StatementType>> implements ExtensionHandler {
 
     private final List<BoundCustomizer> statementCustomizers;
+    private final List<BoundCustomizer> parameterCustomizers;
     private final Class<?> sqlObjectType;
     private final Method method;
 
@@ -64,6 +65,7 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
         this.sqlObjectType = sqlObjectType;
         this.method = method;
         this.statementCustomizers = new ArrayList<>();
+        this.parameterCustomizers = new ArrayList<>();
 
         // type customizers, including annotations on the interface's supertypes
         concat(superTypes(sqlObjectType), Stream.of(sqlObjectType))
@@ -80,12 +82,13 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
 
         // parameter customizers
         parameterCustomizers()
-                .collect(Collectors.toCollection(() -> statementCustomizers));
+                .collect(Collectors.toCollection(() -> parameterCustomizers));
     }
 
     @Override
     public void warm(ConfigRegistry config) {
         statementCustomizers.forEach(s -> s.warm(config));
+        parameterCustomizers.forEach(s -> s.warm(config));
     }
 
     private static Stream<Annotation> annotationsFor(AnnotatedElement... elements) {
@@ -198,7 +201,26 @@ abstract class CustomizingStatementHandler<StatementType extends SqlStatement<St
     }
 
     void applyCustomizers(final StatementType stmt, Object[] args) {
-        statementCustomizers.forEach(b -> {
+        applyStatementCustomizers(stmt, args);
+        applyParameterCustomizers(stmt, args);
+    }
+
+    /**
+     * Applies the type and method customizers. These customize the statement as a whole.
+     */
+    void applyStatementCustomizers(final StatementType stmt, Object[] args) {
+        apply(statementCustomizers, stmt, args);
+    }
+
+    /**
+     * Applies the parameter customizers, which bind the given method arguments.
+     */
+    void applyParameterCustomizers(final StatementType stmt, Object[] args) {
+        apply(parameterCustomizers, stmt, args);
+    }
+
+    private void apply(final List<BoundCustomizer> customizers, final StatementType stmt, Object[] args) {
+        customizers.forEach(b -> {
             try {
                 b.apply(stmt, args);
             } catch (SQLException e) {
@@ -53,6 +53,8 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
     private final SqlBatchHandler.ChunkSizeFunction batchChunkSize;
     private final Function<PreparedBatch, ResultIterator<?>> batchIntermediate;
     private final ResultReturner resultReturner;
+    // if true, all chunks are executed by the same PreparedBatch.
+    private final boolean reuseBatch;
 
     public SqlBatchHandler(Class<?> sqlObjectType, Method method) {
         super(sqlObjectType, method);
@@ -69,12 +71,16 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
             if (!returnTypeIsValid(method.getReturnType())) {
                 throw new UnableToCreateSqlObjectException(invalidReturnTypeMessage(method));
             }
-            Function<PreparedBatch, ResultIterator<?>> modCounts = PreparedBatch::executeAndGetModCount;
+            // execute each chunk without closing the batch, so the prepared statement is reused by the next chunk.
+            Function<PreparedBatch, ResultIterator<?>> modCounts = SqlBatchHandler::flushAndGetModCount;
             batchIntermediate = method.getReturnType().equals(boolean[].class)
                     ? mapToBoolean(modCounts)
                     : modCounts;
             resultReturner = ResultReturner.forOptionalReturn(sqlObjectType, method);
+            reuseBatch = true;
         } else {
+            // generated keys are read from the statement, every chunk needs its own batch.
+            reuseBatch = false;
             String[] columnNames = getGeneratedKeys.value();
             resultReturner = ResultReturner.forMethod(sqlObjectType, method);
 
@@ -197,6 +203,7 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
         final Iterator<Object[]> batchArgs = zipArgs(getMethod(), safeArgs);
 
         final class BatchChunkIterator implements ResultIterator<Object> {
+            private final PreparedBatch sharedBatch = reuseBatch ? newBatch() : null;
             private ResultIterator<?> batchResult = null;
             private boolean closed = false;
 
@@ -208,24 +215,33 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
             }
 
             private ResultIterator<?> loadChunk() {
-                // execute a single chunk and buffer
-                List<Object[]> currArgs = new ArrayList<>();
-                for (int i = 0; i < chunkSize && batchArgs.hasNext(); i++) {
-                    currArgs.add(batchArgs.next());
-                }
-                Supplier<PreparedBatch> preparedBatchSupplier = () -> createPreparedBatch(handle, sql, currArgs);
+                // the chunk arguments are read from the iterator while the chunk is added to the batch.
+                Supplier<PreparedBatch> preparedBatchSupplier = () -> addChunk(sharedBatch == null ? newBatch() : sharedBatch);
                 return executeBatch(handle, preparedBatchSupplier);
             }
 
-            private PreparedBatch createPreparedBatch(Handle handle, String sql, List<Object[]> currArgs) {
-                PreparedBatch batch = handle.prepareBatch(sql);
-                for (Object[] currArg : currArgs) {
-                    applyCustomizers(batch, currArg);
+            private PreparedBatch newBatch() {
+                final PreparedBatch batch = handle.prepareBatch(sql);
+                // type and method customizers apply to the whole batch, only the parameters change per row.
+                // Arguments bound by these customizers (e.g. @Timestamped) are used for every row.
+                applyStatementCustomizers(batch, safeArgs);
+                return batch.shareBindings();
+            }
+
+            private PreparedBatch addChunk(PreparedBatch batch) {
+                for (int i = 0; i < chunkSize && batchArgs.hasNext(); i++) {
+                    applyParameterCustomizers(batch, batchArgs.next());
                     batch.add();
                 }
                 return batch;
             }
 
+            private void closeSharedBatch() {
+                if (sharedBatch != null) {
+                    sharedBatch.close();
+                }
+            }
+
             @Override
             public boolean hasNext() {
                 if (closed) {
@@ -248,6 +264,7 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
                     return hasNext();
                 }
 
+                closeSharedBatch();
                 return false;
             }
 
@@ -270,7 +287,11 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
             @Override
             public void close() {
                 closed = true;
-                batchResult.close();
+                try {
+                    batchResult.close();
+                } finally {
+                    closeSharedBatch();
+                }
             }
         }
 
@@ -350,6 +371,37 @@ public class SqlBatchHandler extends CustomizingStatementHandler<PreparedBatch>
         };
     }
 
+    private static ResultIterator<Integer> flushAndGetModCount(PreparedBatch batch) {
+        final StatementContext ctx = batch.getContext();
+        final int[] modCount = batch.flush();
+        return new ResultIterator<Integer>() {
+            private int pos = 0;
+
+            @Override
+            public boolean hasNext() {
+                return pos < modCount.length;
+            }
+
+            @Override
+            public Integer next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return modCount[pos++];
+            }
+
+            @Override
+            public StatementContext getContext() {
+                return ctx;
+            }
+
+            @Override
+            public void close() {
+                // the batch is closed after the last chunk
+            }
+        };
+    }
+
     private ResultIterator<?> executeBatch(final Handle handle, final Supplier<PreparedBatch> preparedBatchSupplier) {
         if (!handle.isInTransaction() && sqlBatch.transactional()) {
             // it is safe to use same prepared preparedBatchSupplier as the inTransaction passes in the same
@@ -13,12 +13,19 @@
  */
 package org.jdbi.v3.sqlobject;
 
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
 import java.sql.Connection;
 import java.sql.SQLException;
 import java.util.Arrays;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
@@ -29,6 +36,9 @@ import org.jdbi.v3.core.transaction.SerializableTransactionRunner;
 import org.jdbi.v3.sqlobject.config.RegisterRowMapper;
 import org.jdbi.v3.sqlobject.customizer.Bind;
 import org.jdbi.v3.sqlobject.customizer.BindBean;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizer;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizerFactory;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
 import org.jdbi.v3.sqlobject.statement.BatchChunkSize;
 import org.jdbi.v3.sqlobject.statement.SqlBatch;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
@@ -147,6 +157,42 @@ public class TestBatching {
         assertThat(counts).hasSize(5).containsOnly(1);
     }
 
+    @Test
+    public void testChunkedBatchingPreparesStatementOnce() throws SQLException {
+        var c = Mockito.mock(Connection.class, Mockito.withSettings()
+                .defaultAnswer(AdditionalAnswers.delegatesTo(h2Extension.getSharedHandle().getConnection())));
+
+        try (Handle chunkHandle = Jdbi.create(c).installPlugin(new SqlObjectPlugin()).open()) {
+            UsesBatching b = chunkHandle.attach(UsesBatching.class);
+            List<Something> things = Arrays.asList(new Something(1, "Brian"),
+                new Something(2, "Henri"),
+                new Something(3, "Patrick"),
+                new Something(4, "Robert"),
+                new Something(5, "Maniax"));
+            int[] counts = b.insertChunked(things);
+
+            assertThat(counts).hasSize(5).containsOnly(1);
+            assertThat(b.size()).isEqualTo(5);
+        }
+
+        // one statement for the chunked insert, one for the count
+        Mockito.verify(c, Mockito.times(2)).prepareStatement(Mockito.anyString(), Mockito.anyInt(), Mockito.anyInt());
+    }
+
+    @Test
+    public void testMethodCustomizersAreAppliedOncePerBatch() {
+        SharedNameCustomizerFactory.APPLIED.set(0);
+
+        UsesBatching b = handle.attach(UsesBatching.class);
+        int[] counts = b.insertWithSharedName(Arrays.asList(1, 2, 3, 4, 5));
+
+        assertThat(counts).hasSize(5).containsOnly(1);
+        assertThat(SharedNameCustomizerFactory.APPLIED).hasValue(1);
+        assertThat(handle.createQuery("select name from something order by id").mapTo(String.class).list())
+                .hasSize(5)
+                .containsOnly("shared");
+    }
+
     @Test
     @Timeout(5)
     public void testNoIterable() {
@@ -242,6 +288,11 @@ public class TestBatching {
         @SqlBatch("insert into something (id, name) values (:it.id, :it.name)")
         int[] insertChunked(@BatchChunkSize int size, @BindBean("it") Iterable<Something> its);
 
+        @SqlBatch("insert into something (id, name) values (:id, :name)")
+        @BatchChunkSize(2)
+        @SharedName
+        int[] insertWithSharedName(@Bind("id") Iterable<Integer> ids);
+
         @SqlQuery("select count(*) from something")
         int size();
 
@@ -267,4 +318,21 @@ public class TestBatching {
         @SqlBatch("update something set name = :name where id = :id")
         boolean[] update(@BindBean Something... values);
     }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    @SqlStatementCustomizingAnnotation(SharedNameCustomizerFactory.class)
+    public @interface SharedName {}
+
+    public static class SharedNameCustomizerFactory implements SqlStatementCustomizerFactory {
+        static final AtomicInteger APPLIED = new AtomicInteger();
+
+        @Override
+        public SqlStatementCustomizer createForMethod(Annotation annotation, Class<?> sqlObjectType, Method method) {
+            return stmt -> {
+                APPLIED.incrementAndGet();
+                stmt.bind("name", "shared");
+            };
+        }
+    }
 }
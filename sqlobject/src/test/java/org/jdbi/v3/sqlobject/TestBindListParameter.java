@@ -19,6 +19,8 @@ import java.util.UUID;
 import com.google.common.collect.Lists;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.BindListStrategy;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 import org.jdbi.v3.sqlobject.customizer.BindList;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
@@ -69,6 +71,17 @@ public class TestBindListParameter {
         assertThat(result).isZero();
     }
 
+    @Test
+    public void testIdsWithBindListStrategy() {
+        handle.execute("insert into foo (id) values (1), (2), (3)");
+
+        for (BindListStrategy strategy : BindListStrategy.values()) {
+            db.getConfig(SqlStatements.class).setBindListStrategy(strategy);
+
+            assertThat(db.onDemand(MyDAO.class).ids(Lists.newArrayList(1, 2, 5))).isEqualTo(2);
+        }
+    }
+
     private interface MyDAO {
         @SqlQuery("select count(*) from foo where bar < 12 and id in (<ids>)")
         int broken();
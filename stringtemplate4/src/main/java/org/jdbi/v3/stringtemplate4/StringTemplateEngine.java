@@ -13,10 +13,20 @@
  */
 package org.jdbi.v3.stringtemplate4;
 
+import java.io.StringWriter;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.statement.StatementContext;
 import org.jdbi.v3.core.statement.TemplateEngine;
 import org.jdbi.v3.core.statement.UnableToCreateStatementException;
 import org.jdbi.v3.core.statement.UnableToExecuteStatementException;
+import org.stringtemplate.v4.AutoIndentWriter;
 import org.stringtemplate.v4.ST;
 import org.stringtemplate.v4.STErrorListener;
 import org.stringtemplate.v4.STGroup;
@@ -25,17 +35,80 @@ import org.stringtemplate.v4.misc.STMessage;
 /**
  * Rewrites a StringTemplate template, using the attributes on the {@link StatementContext} as template parameters.
  * For configuration, see {@link StringTemplates}.
+ * <br>
+ * Each template is compiled once and cached by the Jdbi template cache. Rendering copies the compiled
+ * template and only binds the attributes of the statement, so a cached template can be rendered from
+ * multiple threads.
  */
-public class StringTemplateEngine implements TemplateEngine {
+public class StringTemplateEngine implements TemplateEngine.Parsing {
     @Override
-    public String render(String sql, StatementContext ctx) {
+    public Optional<Function<StatementContext, String>> parse(String sql, ConfigRegistry config) {
         STGroup group = new STGroup();
-        group.setListener(new ErrorListener(ctx));
-        ST template = new ST(group, sql);
+        group.setListener(new CompileErrorListener());
+
+        final ST prototype;
+        try {
+            prototype = new ST(group, sql);
+        } catch (CompileFailedException e) {
+            // report the error with the statement context of every statement using this template
+            return Optional.of(ctx -> {
+                throw new UnableToCreateStatementException("Compiling StringTemplate failed: " + e.getMessage(), e.getCause(), ctx);
+            });
+        }
+
+        Lock lock = new ReentrantLock();
+        return Optional.of(ctx -> render(prototype, lock, ctx));
+    }
+
+    private static String render(ST prototype, Lock lock, StatementContext ctx) {
+        ST template;
+        // Cloning the compiled template replaces the formal argument map of the prototype, not the one of the copy.
+        // Concurrent copies could end up sharing a map, so copy under the lock and give each copy a map of its own.
+        lock.lock();
+        try {
+            template = new ST(prototype);
+            if (template.impl.formalArguments != null) {
+                template.impl.formalArguments = Collections.synchronizedMap(new LinkedHashMap<>(template.impl.formalArguments));
+            }
+        } finally {
+            lock.unlock();
+        }
 
         ctx.getAttributes().forEach(template::add);
 
-        return template.render();
+        StringWriter out = new StringWriter();
+        template.write(new AutoIndentWriter(out), new ErrorListener(ctx));
+        return out.toString();
+    }
+
+    static final class CompileFailedException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        CompileFailedException(STMessage msg) {
+            super(msg.toString(), msg.cause);
+        }
+    }
+
+    static class CompileErrorListener implements STErrorListener {
+        @Override
+        public void compileTimeError(STMessage msg) {
+            throw new CompileFailedException(msg);
+        }
+
+        @Override
+        public void runTimeError(STMessage msg) {
+            throw new CompileFailedException(msg);
+        }
+
+        @Override
+        public void IOError(STMessage msg) {
+            throw new CompileFailedException(msg);
+        }
+
+        @Override
+        public void internalError(STMessage msg) {
+            throw new CompileFailedException(msg);
+        }
     }
 
     static class ErrorListener implements STErrorListener {
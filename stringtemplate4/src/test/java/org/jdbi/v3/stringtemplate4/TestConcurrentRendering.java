@@ -0,0 +1,83 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.jdbi.v3.stringtemplate4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.testing.junit5.JdbiExtension;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TestConcurrentRendering {
+
+    private static final int THREADS = 8;
+    private static final int RENDERS = 200;
+
+    @RegisterExtension
+    public JdbiExtension h2Extension = JdbiExtension.h2();
+
+    Jdbi jdbi;
+
+    @BeforeEach
+    void setup() {
+        jdbi = h2Extension.getJdbi();
+        jdbi.setTemplateEngine(new StringTemplateEngine());
+    }
+
+    @Test
+    void testConcurrentRendersOfCachedTemplate() throws Exception {
+        // every thread renders the same cached template with different attributes
+        String sql = "select <if(a)><a><else><b><endif>";
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    jdbi.useHandle(handle -> {
+                        for (int i = 0; i < RENDERS; i++) {
+                            int value = thread * RENDERS + i;
+                            // alternate between attribute sets so that the copies add different attributes
+                            int result = (i % 2 == 0)
+                                ? handle.createQuery(sql).define("a", value).mapTo(int.class).one()
+                                : handle.createQuery(sql).define("b", value).mapTo(int.class).one();
+                            assertThat(result).isEqualTo(value);
+                        }
+                    });
+                    return null;
+                }));
+            }
+
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -66,4 +66,29 @@ public class TestErrorHandling {
             .isInstanceOf(UnableToExecuteStatementException.class)
             .hasMessageContaining("Executing StringTemplate failed", "attribute a isn't defined");
     }
+
+    @Test
+    void testUnboundVarThrowsAfterBound() {
+        String sql = "select <if(a)> true <else> false <endif>";
+
+        // the first statement defines the attribute on the cached template
+        assertThat(handle.createQuery(sql).define("a", true).mapTo(boolean.class).one()).isTrue();
+
+        assertThatThrownBy(() ->
+            handle.createQuery(sql)
+                .configure(StringTemplates.class, st -> st.setFailOnMissingAttribute(true))
+                .mapTo(boolean.class)
+                .one())
+            .isInstanceOf(UnableToExecuteStatementException.class)
+            .hasMessageContaining("Executing StringTemplate failed", "attribute a isn't defined");
+    }
+
+    @Test
+    void testSyntaxErrorIsCached() {
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> handle.createQuery("select <a").mapTo(String.class).one())
+                .isInstanceOf(UnableToCreateStatementException.class)
+                .hasMessageContaining("Compiling StringTemplate failed", "premature EOF");
+        }
+    }
 }